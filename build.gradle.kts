@@ -29,13 +29,65 @@ repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+val jmhImplementation: Configuration by configurations.getting {
+    extendsFrom(configurations.implementation.get())
+}
+
 dependencies {
     implementation("org.jfree:jfreechart:1.5.4")
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
     testImplementation("org.assertj:assertj-core:3.24.2")
+    jmhImplementation("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+tasks.named("check") {
+    dependsOn("jmhClasses")
+}
+
+// Runs the benchmarks and writes the results to build/reports/jmh/results.json.
+// Pass -Pjmh.includes=<regex> to select benchmarks and -Pjmh.args="..." for other JMH options.
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(resultFile)
+    outputs.upToDateWhen { false }
+    doFirst {
+        resultFile.get().asFile.parentFile.mkdirs()
+    }
+
+    args("-rf", "json", "-rff", resultFile.get().asFile.absolutePath)
+    providers.gradleProperty("jmh.args").orNull?.let { args(it.split(" ").filter(String::isNotBlank)) }
+    providers.gradleProperty("jmh.includes").orNull?.let { args(it) }
+}
+
+// Solves the benchmark corpus with every algorithm and writes build/reports/benchmark/results.{csv,json}.
+// Pass options such as -Pbenchmark.args="runs=5 budgetSeconds=30 algorithms=GREEDY,LIN_KERNIGHAN".
+tasks.register<JavaExec>("benchmarkSuite") {
+    group = "benchmark"
+    description = "Runs the end-to-end solver benchmark suite."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.example.benchmark.MacroBenchmark")
+
+    args(
+        "instances=" + file("src/jmh/instances").absolutePath,
+        "output=" + layout.buildDirectory.dir("reports/benchmark").get().asFile.absolutePath
+    )
+    providers.gradleProperty("benchmark.args").orNull?.let { args(it.split(" ").filter(String::isNotBlank)) }
+}
@@ -0,0 +1,55 @@
+package org.example.application.service;
+
+import org.example.domain.algorithm.Algorithm;
+import org.example.domain.model.Point;
+import org.example.domain.model.Tour;
+import org.example.domain.service.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full solves through the service, one solve per measurement. Tour lengths are not
+ * compared here; the macro benchmark runner reports them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SolverBenchmark {
+
+    @Param({"100", "200"})
+    int cities;
+
+    @Param({"42"})
+    long seed;
+
+    @Param({"GREEDY", "ANT_COLONY", "LIN_KERNIGHAN", "ANT_COLONY_SYSTEM"})
+    Algorithm algorithm;
+
+    private final TspSolverService solverService = new TspSolverService();
+    private List<Point> points;
+
+    @Setup
+    public void setUp() {
+        points = new PointGenerator(seed).generate(cities);
+    }
+
+    @Benchmark
+    public Tour solve() {
+        return solverService.solve(points, algorithm);
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.benchmark;
+
+import org.example.domain.model.Point;
+import org.example.domain.service.PointGenerator;
+import org.example.infrastructure.file.FilePointRepository;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Properties;
+
+/**
+ * The fixed instance set: seeded random instances plus the reference instances in a
+ * directory, stored in the application's point file format and listed with their optimal
+ * lengths in {@code best-known.properties}.
+ */
+final class BenchmarkCorpus {
+    private static final int[] GENERATED_SIZES = {50, 100, 200};
+    private static final long[] GENERATED_SEEDS = {1L, 2L};
+    private static final String BEST_KNOWN_FILE = "best-known.properties";
+
+    private BenchmarkCorpus() {
+    }
+
+    static List<BenchmarkInstance> load(Path instanceDirectory) throws Exception {
+        List<BenchmarkInstance> instances = new ArrayList<>();
+        for (int size : GENERATED_SIZES) {
+            for (long seed : GENERATED_SEEDS) {
+                List<Point> points = new PointGenerator(seed).generate(size);
+                instances.add(new BenchmarkInstance("random-" + size + "-s" + seed, points, OptionalDouble.empty()));
+            }
+        }
+        instances.addAll(loadReferenceInstances(instanceDirectory));
+        return instances;
+    }
+
+    private static List<BenchmarkInstance> loadReferenceInstances(Path instanceDirectory) throws Exception {
+        Properties bestKnown = new Properties();
+        try (Reader reader = Files.newBufferedReader(instanceDirectory.resolve(BEST_KNOWN_FILE))) {
+            bestKnown.load(reader);
+        }
+
+        List<BenchmarkInstance> instances = new ArrayList<>();
+        for (String name : bestKnown.stringPropertyNames().stream().sorted().toList()) {
+            Path file = instanceDirectory.resolve(name + ".txt");
+            if (!Files.exists(file)) {
+                throw new IOException("Missing instance file: " + file);
+            }
+            List<Point> points = new FilePointRepository(file.toString()).loadPoints();
+            double optimum = Double.parseDouble(bestKnown.getProperty(name));
+            instances.add(new BenchmarkInstance(name, points, OptionalDouble.of(optimum)));
+        }
+        return instances;
+    }
+}
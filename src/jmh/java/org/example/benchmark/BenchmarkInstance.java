@@ -0,0 +1,14 @@
+package org.example.benchmark;
+
+import org.example.domain.model.Point;
+
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * One instance of the benchmark corpus. {@code bestKnown} is the proven optimum of a
+ * reference instance and empty for generated ones, whose gap is measured against the best
+ * tour any run of the suite found.
+ */
+record BenchmarkInstance(String name, List<Point> points, OptionalDouble bestKnown) {
+}
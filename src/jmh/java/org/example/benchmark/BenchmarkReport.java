@@ -0,0 +1,184 @@
+package org.example.benchmark;
+
+import org.example.domain.algorithm.Algorithm;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Turns the runs into a per-run CSV, a JSON file with the runs and per instance and
+ * algorithm summaries, and a console table. Gaps are relative to the optimum of reference
+ * instances and to the best tour of the whole suite for generated ones.
+ */
+final class BenchmarkReport {
+    static final double[] TARGET_GAPS = {0.05, 0.02, 0.01, 0.005};
+    private static final double TARGET_TOLERANCE = 1e-9;
+
+    private final List<RunResult> results;
+    private final Map<String, Double> bestKnown = new HashMap<>();
+
+    BenchmarkReport(List<RunResult> results) {
+        this.results = results;
+        for (RunResult result : results) {
+            BenchmarkInstance instance = result.instance();
+            bestKnown.merge(instance.name(), instance.bestKnown().orElse(result.length()), Math::min);
+        }
+    }
+
+    void writeCsv(Path file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            StringBuilder header = new StringBuilder(
+                    "instance,cities,algorithm,run,wall_ms,iterations,length,best_known,best_known_source,gap_percent");
+            for (double target : TARGET_GAPS) {
+                header.append(",ttt_").append(formatPercent(target)).append("pct_ms");
+            }
+            writer.println(header);
+
+            for (RunResult result : results) {
+                StringBuilder row = new StringBuilder(String.format(Locale.ROOT, "%s,%d,%s,%d,%.3f,%d,%.4f,%.4f,%s,%.4f",
+                        result.instance().name(), result.instance().points().size(), result.algorithm().name(),
+                        result.run(), millis(result.wallNanos()), result.iterations(), result.length(),
+                        bestKnown(result), bestKnownSource(result.instance()), gapPercent(result)));
+                for (double target : TARGET_GAPS) {
+                    long nanos = result.timeToTarget(targetLength(result, target));
+                    row.append(',');
+                    if (nanos >= 0) {
+                        row.append(String.format(Locale.ROOT, "%.3f", millis(nanos)));
+                    }
+                }
+                writer.println(row);
+            }
+        }
+    }
+
+    void writeJson(Path file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println("{");
+            writer.println("  \"runs\": [");
+            for (int i = 0; i < results.size(); i++) {
+                RunResult result = results.get(i);
+                writer.printf(Locale.ROOT, "    {\"instance\": \"%s\", \"cities\": %d, \"algorithm\": \"%s\", \"run\": %d, "
+                                + "\"wallMs\": %.3f, \"iterations\": %d, \"length\": %.4f, \"gapPercent\": %.4f}%s%n",
+                        result.instance().name(), result.instance().points().size(), result.algorithm().name(),
+                        result.run(), millis(result.wallNanos()), result.iterations(), result.length(),
+                        gapPercent(result), i + 1 < results.size() ? "," : "");
+            }
+            writer.println("  ],");
+
+            writer.println("  \"summary\": [");
+            List<List<RunResult>> groups = new ArrayList<>(groups().values());
+            for (int i = 0; i < groups.size(); i++) {
+                writer.print(summaryJson(groups.get(i)));
+                writer.println(i + 1 < groups.size() ? "," : "");
+            }
+            writer.println("  ]");
+            writer.println("}");
+        }
+    }
+
+    void print(PrintWriter out) {
+        out.printf("%-16s %-22s %10s %12s %8s %12s%n", "Instance", "Algorithm", "Wall ms", "Length", "Gap %",
+                "TTT 1% ms");
+        for (List<RunResult> group : groups().values()) {
+            RunResult first = group.get(0);
+            double[] walls = group.stream().mapToDouble(result -> millis(result.wallNanos())).sorted().toArray();
+            double meanLength = group.stream().mapToDouble(RunResult::length).average().orElse(Double.NaN);
+            double meanGap = group.stream().mapToDouble(this::gapPercent).average().orElse(Double.NaN);
+            double[] targetTimes = timesToTarget(group, 0.01);
+            String targetTime = targetTimes.length == group.size()
+                    ? String.format(Locale.ROOT, "%.1f", median(targetTimes))
+                    : targetTimes.length + "/" + group.size();
+            out.printf(Locale.ROOT, "%-16s %-22s %10.1f %12.2f %8.3f %12s%n", first.instance().name(),
+                    first.algorithm().name(), median(walls), meanLength, meanGap, targetTime);
+        }
+        out.flush();
+    }
+
+    private String summaryJson(List<RunResult> group) {
+        RunResult first = group.get(0);
+        double[] walls = group.stream().mapToDouble(result -> millis(result.wallNanos())).sorted().toArray();
+        double[] lengths = group.stream().mapToDouble(RunResult::length).sorted().toArray();
+        double meanGap = group.stream().mapToDouble(this::gapPercent).average().orElse(Double.NaN);
+
+        StringBuilder json = new StringBuilder();
+        json.append(String.format(Locale.ROOT, "    {\"instance\": \"%s\", \"algorithm\": \"%s\", \"runs\": %d, "
+                        + "\"bestKnown\": %.4f, \"bestKnownSource\": \"%s\", "
+                        + "\"wallMs\": {\"min\": %.3f, \"median\": %.3f, \"max\": %.3f}, "
+                        + "\"length\": {\"min\": %.4f, \"mean\": %.4f, \"max\": %.4f}, \"meanGapPercent\": %.4f, "
+                        + "\"timeToTarget\": [",
+                first.instance().name(), first.algorithm().name(), group.size(), bestKnown(first),
+                bestKnownSource(first.instance()), walls[0], median(walls), walls[walls.length - 1], lengths[0],
+                Arrays.stream(lengths).average().orElse(Double.NaN), lengths[lengths.length - 1], meanGap));
+        for (int t = 0; t < TARGET_GAPS.length; t++) {
+            double[] times = timesToTarget(group, TARGET_GAPS[t]);
+            json.append(String.format(Locale.ROOT, "{\"gapPercent\": %s, \"reached\": %d", formatPercent(TARGET_GAPS[t]),
+                    times.length));
+            if (times.length > 0) {
+                json.append(String.format(Locale.ROOT, ", \"minMs\": %.3f, \"medianMs\": %.3f, \"maxMs\": %.3f",
+                        times[0], median(times), times[times.length - 1]));
+            }
+            json.append(t + 1 < TARGET_GAPS.length ? "}, " : "}");
+        }
+        json.append("]}");
+        return json.toString();
+    }
+
+    private Map<String, List<RunResult>> groups() {
+        Map<String, List<RunResult>> groups = new LinkedHashMap<>();
+        for (RunResult result : results) {
+            groups.computeIfAbsent(result.instance().name() + "/" + result.algorithm().name(), key -> new ArrayList<>())
+                    .add(result);
+        }
+        return groups;
+    }
+
+    /**
+     * Sorted times in milliseconds of the runs that reached the target gap.
+     */
+    private double[] timesToTarget(List<RunResult> group, double targetGap) {
+        return group.stream()
+                .mapToLong(result -> result.timeToTarget(targetLength(result, targetGap)))
+                .filter(nanos -> nanos >= 0)
+                .mapToDouble(BenchmarkReport::millis)
+                .sorted()
+                .toArray();
+    }
+
+    private double targetLength(RunResult result, double targetGap) {
+        return bestKnown(result) * (1.0 + targetGap) + TARGET_TOLERANCE;
+    }
+
+    private double bestKnown(RunResult result) {
+        return bestKnown.get(result.instance().name());
+    }
+
+    private double gapPercent(RunResult result) {
+        return 100.0 * (result.length() / bestKnown(result) - 1.0);
+    }
+
+    private static String bestKnownSource(BenchmarkInstance instance) {
+        return instance.bestKnown().isPresent() ? "optimum" : "suite";
+    }
+
+    private static double median(double[] sorted) {
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String formatPercent(double gap) {
+        return String.format(Locale.ROOT, "%.1f", gap * 100.0);
+    }
+}
@@ -0,0 +1,102 @@
+package org.example.benchmark;
+
+import org.example.application.service.TspSolverService;
+import org.example.domain.algorithm.Algorithm;
+import org.example.domain.algorithm.SolveContext;
+import org.example.domain.model.Tour;
+
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Solves every corpus instance several times with every algorithm through
+ * {@link TspSolverService} and writes {@code results.csv} and {@code results.json}.
+ *
+ * <p>Arguments are {@code key=value} pairs: {@code instances} (directory of the reference
+ * instances, required), {@code output} (report directory, default {@code build/reports/benchmark}),
+ * {@code runs} (default 3), {@code budgetSeconds} (per solve, default 60), {@code algorithms}
+ * (comma-separated names, default all) and {@code filter} (regex on instance names).
+ */
+public final class MacroBenchmark {
+
+    private MacroBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        if (!options.containsKey("instances")) {
+            throw new IllegalArgumentException("Missing instances=<directory>");
+        }
+        Path instanceDirectory = Path.of(options.get("instances"));
+        Path outputDirectory = Path.of(options.getOrDefault("output", "build/reports/benchmark"));
+        int runs = Integer.parseInt(options.getOrDefault("runs", "3"));
+        Duration budget = Duration.ofSeconds(Long.parseLong(options.getOrDefault("budgetSeconds", "60")));
+        List<Algorithm> algorithms = options.containsKey("algorithms")
+                ? Arrays.stream(options.get("algorithms").split(",")).map(String::trim).map(Algorithm::valueOf).toList()
+                : List.of(Algorithm.values());
+        Pattern filter = Pattern.compile(options.getOrDefault("filter", ".*"));
+        if (runs <= 0) {
+            throw new IllegalArgumentException("Runs must be positive");
+        }
+
+        List<BenchmarkInstance> instances = BenchmarkCorpus.load(instanceDirectory).stream()
+                .filter(instance -> filter.matcher(instance.name()).matches())
+                .toList();
+        TspSolverService solverService = new TspSolverService();
+        List<RunResult> results = new ArrayList<>();
+
+        for (BenchmarkInstance instance : instances) {
+            for (Algorithm algorithm : algorithms) {
+                for (int run = 1; run <= runs; run++) {
+                    RunResult result = solve(solverService, instance, algorithm, run, budget);
+                    results.add(result);
+                    System.out.printf("%s %s run %d: %.2f in %.1f ms%n", instance.name(), algorithm.name(), run,
+                            result.length(), result.wallNanos() / 1_000_000.0);
+                }
+            }
+        }
+
+        Files.createDirectories(outputDirectory);
+        BenchmarkReport report = new BenchmarkReport(results);
+        report.writeCsv(outputDirectory.resolve("results.csv"));
+        report.writeJson(outputDirectory.resolve("results.json"));
+        report.print(new PrintWriter(System.out));
+        System.out.println("Results written to " + outputDirectory.toAbsolutePath());
+    }
+
+    private static RunResult solve(TspSolverService solverService, BenchmarkInstance instance, Algorithm algorithm,
+                                   int run, Duration budget) throws InterruptedException {
+        SolveContext context = SolveContext.withTimeout(budget);
+        ProgressTrace trace = new ProgressTrace();
+        context.progress().subscribe(trace);
+
+        long start = System.nanoTime();
+        Tour tour = solverService.solve(instance.points(), algorithm, context);
+        long wallNanos = System.nanoTime() - start;
+        context.progress().close();
+        trace.awaitCompletion();
+
+        return new RunResult(instance, algorithm, run, wallNanos, trace.getIterations(), tour.getTotalDistance(),
+                trace.getImprovements(wallNanos, tour.getTotalDistance()));
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
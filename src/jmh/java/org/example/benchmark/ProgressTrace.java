@@ -0,0 +1,67 @@
+package org.example.benchmark;
+
+import org.example.domain.algorithm.SolverProgress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the improvements of one solve as (elapsed time, best length) pairs and the last
+ * iteration reported. Events the publisher coalesced are missing, so a time to target read
+ * from the trace can be late by up to one iteration.
+ */
+final class ProgressTrace implements Flow.Subscriber<SolverProgress> {
+
+    record Improvement(long elapsedNanos, double bestLength) {
+    }
+
+    private final List<Improvement> improvements = new ArrayList<>();
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private long iterations;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public synchronized void onNext(SolverProgress progress) {
+        iterations = progress.iteration();
+        if (progress.improved()) {
+            improvements.add(new Improvement(progress.elapsed().toNanos(), progress.bestLength()));
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        completed.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        completed.countDown();
+    }
+
+    void awaitCompletion() throws InterruptedException {
+        completed.await(10, TimeUnit.SECONDS);
+    }
+
+    synchronized long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * The recorded improvements followed by the final result, which solvers without
+     * progress events only report this way.
+     */
+    synchronized List<Improvement> getImprovements(long wallNanos, double finalLength) {
+        List<Improvement> points = new ArrayList<>(improvements);
+        if (points.isEmpty() || points.get(points.size() - 1).bestLength() > finalLength) {
+            points.add(new Improvement(wallNanos, finalLength));
+        }
+        return points;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.benchmark;
+
+import org.example.domain.algorithm.Algorithm;
+
+import java.util.List;
+
+/**
+ * Outcome of one solve of one instance.
+ */
+record RunResult(BenchmarkInstance instance,
+                 Algorithm algorithm,
+                 int run,
+                 long wallNanos,
+                 long iterations,
+                 double length,
+                 List<ProgressTrace.Improvement> improvements) {
+
+    /**
+     * Nanoseconds until the best tour was no longer than {@code targetLength}, or -1 when
+     * the run never got there.
+     */
+    long timeToTarget(double targetLength) {
+        for (ProgressTrace.Improvement improvement : improvements) {
+            if (improvement.bestLength() <= targetLength) {
+                return improvement.elapsedNanos();
+            }
+        }
+        return -1;
+    }
+}
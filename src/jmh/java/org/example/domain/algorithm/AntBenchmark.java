@@ -0,0 +1,78 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.PointSet;
+import org.example.domain.service.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tour construction by a single ant, that is {@code cities} calls of
+ * {@code Ant.selectNextCity}, over uniform initial trails, with the distances in each
+ * {@link MatrixStorage} layout and the choice info packed whenever the distances are.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AntBenchmark {
+
+    @Param({"100", "1000", "2000"})
+    int cities;
+
+    @Param({"42"})
+    long seed;
+
+    @Param({"0", "20"})
+    int candidateListSize;
+
+    @Param({"FULL", "PACKED", "PACKED_FLOAT", "PACKED_ROUNDED"})
+    MatrixStorage storage;
+
+    private Ant ant;
+    private int[] tour;
+    private SplittableRandom random;
+
+    @Setup
+    public void setUp() {
+        PointSet points = new PointGenerator(seed).generatePointSet(cities);
+        SymmetricMatrix distanceMatrix = DistanceMatrices.build(points, storage);
+        SymmetricMatrix choiceInfo = SymmetricMatrix.create(cities,
+                storage == MatrixStorage.FULL ? MatrixStorage.FULL : MatrixStorage.PACKED);
+        for (int i = 0; i < cities; i++) {
+            for (int j = i + 1; j < cities; j++) {
+                choiceInfo.set(i, j, Math.pow(1.0 / Math.max(1.0, distanceMatrix.get(i, j)), 5.0));
+            }
+        }
+        int[][] candidateLists = CandidateLists.build(distanceMatrix, candidateListSize);
+        int k = candidateLists[0].length;
+        double[] candidateChoiceInfo = new double[cities * k];
+        for (int city = 0; city < cities; city++) {
+            for (int i = 0; i < k; i++) {
+                candidateChoiceInfo[city * k + i] = choiceInfo.get(city, candidateLists[city][i]);
+            }
+        }
+
+        ant = new Ant(cities, distanceMatrix, choiceInfo::get, candidateChoiceInfo, candidateLists, 0.0);
+        tour = new int[cities];
+        random = new SplittableRandom(seed);
+    }
+
+    @Benchmark
+    public double constructTour() {
+        return ant.constructTour(tour, random);
+    }
+}
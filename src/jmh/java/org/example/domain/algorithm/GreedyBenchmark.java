@@ -0,0 +1,62 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.KdTree;
+import org.example.domain.service.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The nearest-city query of the greedy solver with all other cities unvisited, and the
+ * whole greedy solve that repeats it once per step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GreedyBenchmark {
+
+    @Param({"100", "1000", "5000", "200000"})
+    int cities;
+
+    @Param({"42"})
+    long seed;
+
+    private final GreedyTspSolver solver = new GreedyTspSolver();
+    private List<City> cityList;
+    private KdTree unvisited;
+
+    @Setup
+    public void setUp() {
+        cityList = CityConverter.fromPoints(new PointGenerator(seed).generate(cities));
+        unvisited = KdTree.of(cityList);
+        unvisited.remove(0);
+    }
+
+    @Benchmark
+    public int findNearestCity() {
+        City current = cityList.get(0);
+        return unvisited.nearest(current.getX(), current.getY());
+    }
+
+    @Benchmark
+    public Tour solve() {
+        return solver.solve(cityList);
+    }
+}
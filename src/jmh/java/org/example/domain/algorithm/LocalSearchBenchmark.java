@@ -0,0 +1,83 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.Point;
+import org.example.domain.service.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The local search an ant runs on its tour, from a nearest-neighbour tour as produced by a
+ * greedy ant and from a random tour.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalSearchBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    int cities;
+
+    @Param({"42"})
+    long seed;
+
+    @Param({"TWO_OPT", "OR_OPT", "THREE_OPT", "LIN_KERNIGHAN"})
+    LocalSearchType type;
+
+    @Param({"NEAREST_NEIGHBOUR", "RANDOM"})
+    String start;
+
+    private LocalSearch localSearch;
+    private int[] startTour;
+    private int[] tour;
+
+    @Setup
+    public void setUp() {
+        List<Point> points = new PointGenerator(seed).generate(cities);
+        DistanceMatrix distanceMatrix = DistanceMatrix.euclidean(points);
+        int[][] neighbourLists = CandidateLists.build(distanceMatrix, 10);
+        localSearch = LocalSearch.create(List.of(type), distanceMatrix, neighbourLists,
+                MoveSelection.FIRST_IMPROVEMENT);
+        startTour = start.equals("RANDOM") ? randomTour()
+                : LinKernighanTspSolver.nearestNeighbourTour(distanceMatrix, neighbourLists);
+        tour = new int[cities];
+    }
+
+    @Setup(Level.Invocation)
+    public void resetTour() {
+        System.arraycopy(startTour, 0, tour, 0, cities);
+    }
+
+    @Benchmark
+    public int[] improve() {
+        localSearch.improve(tour);
+        return tour;
+    }
+
+    private int[] randomTour() {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] randomTour = new int[cities];
+        for (int i = 0; i < cities; i++) {
+            int j = random.nextInt(i + 1);
+            randomTour[i] = randomTour[j];
+            randomTour[j] = i;
+        }
+        return randomTour;
+    }
+}
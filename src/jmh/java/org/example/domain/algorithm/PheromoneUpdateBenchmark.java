@@ -0,0 +1,69 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.Point;
+import org.example.domain.service.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One pheromone update (evaporation plus every ant's deposit) over the tours of a single
+ * completed iteration, and one whole iteration for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PheromoneUpdateBenchmark {
+
+    @Param({"100", "1000"})
+    int cities;
+
+    @Param({"42"})
+    long seed;
+
+    @Param({"EAGER", "LAZY"})
+    PheromoneUpdate pheromoneUpdate;
+
+    @Param({"HYBRID", "ANT_SYSTEM", "MAX_MIN_ANT_SYSTEM", "ANT_COLONY_SYSTEM"})
+    AntColonyVariant variant;
+
+    private AntColonyTspSolver solver;
+
+    @Setup
+    public void setUp() {
+        List<Point> points = new PointGenerator(seed).generate(cities);
+        AntColonyConfig config = AntColonyConfig.builder()
+                .setSeed(seed)
+                .setPheromoneUpdate(pheromoneUpdate)
+                .setVariant(variant)
+                .build();
+        solver = new AntColonyTspSolver(points, config);
+        solver.runIteration();
+    }
+
+    @Benchmark
+    public AntColonyTspSolver updatePheromones() {
+        solver.updatePheromones();
+        return solver;
+    }
+
+    @Benchmark
+    @Measurement(iterations = 3, time = 2)
+    public boolean runIteration() {
+        return solver.runIteration();
+    }
+}
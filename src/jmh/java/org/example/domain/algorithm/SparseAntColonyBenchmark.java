@@ -0,0 +1,53 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.PointSet;
+import org.example.domain.service.PointGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One colony iteration on instances large enough to switch to sparse mode, one iteration
+ * per measurement. Setup builds the candidate lists and the nearest-neighbour tour, which
+ * are not measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class SparseAntColonyBenchmark {
+
+    @Param({"50000", "1000000"})
+    int cities;
+
+    @Param({"8"})
+    long seed;
+
+    private AntColonyTspSolver solver;
+
+    @Setup
+    public void setUp() {
+        PointSet points = new PointGenerator(seed, 1_000_000).generatePointSet(cities);
+        solver = new AntColonyTspSolver(points, AntColonyConfig.builder()
+                .setSeed(seed)
+                .build());
+    }
+
+    @Benchmark
+    public double iterate() {
+        solver.iterate();
+        return solver.getBestTourLength();
+    }
+}
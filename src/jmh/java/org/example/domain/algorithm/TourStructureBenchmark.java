@@ -0,0 +1,102 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.PointSet;
+import org.example.domain.service.PointGenerator;
+import org.example.domain.service.SpatialGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The array with position index against the two-level list. {@code reverse} reverses the
+ * path between two random cities, the worst case for the array. {@code twoOpt} runs 2-opt
+ * over eight grid neighbours from a Hilbert-curve tour, where most reversals are short;
+ * on uniform points the two-level list starts to win at about 100,000 cities, which is
+ * where {@link TourStructure#create(int)} switches.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TourStructureBenchmark {
+    private static final int NEIGHBOURS = 8;
+
+    @Param({"10000", "100000", "1000000"})
+    int cities;
+
+    @Param({"ARRAY", "TWO_LEVEL"})
+    String structure;
+
+    @Param({"42"})
+    long seed;
+
+    private TourStructure reversalTour;
+    private SplittableRandom random;
+
+    private TwoOptLocalSearch twoOpt;
+    private int[] startTour;
+    private int[] tour;
+
+    @Setup
+    public void setUp() {
+        reversalTour = createStructure();
+        int[] identity = new int[cities];
+        for (int i = 0; i < cities; i++) {
+            identity[i] = i;
+        }
+        reversalTour.load(identity);
+        random = new SplittableRandom(seed);
+
+        PointSet points = new PointGenerator(seed, 1_000_000).generatePointSet(cities);
+        int[] neighbours = SpatialGrid.of(points.sharedXs(), points.sharedYs()).nearestNeighbours(NEIGHBOURS);
+        int[][] neighbourLists = new int[cities][NEIGHBOURS];
+        for (int city = 0; city < cities; city++) {
+            System.arraycopy(neighbours, city * NEIGHBOURS, neighbourLists[city], 0, NEIGHBOURS);
+        }
+        twoOpt = new TwoOptLocalSearch(DistanceMatrix.euclidean(points), neighbourLists,
+                MoveSelection.FIRST_IMPROVEMENT, createStructure());
+        startTour = HilbertCurveTspSolver.buildTour(points);
+        tour = new int[cities];
+    }
+
+    @Setup(Level.Invocation)
+    public void resetTour() {
+        System.arraycopy(startTour, 0, tour, 0, cities);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public int reverse() {
+        int from = random.nextInt(cities);
+        int to = random.nextInt(cities);
+        reversalTour.reverse(from, to);
+        return reversalTour.next(from);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public int[] twoOpt() {
+        twoOpt.improve(tour);
+        return tour;
+    }
+
+    private TourStructure createStructure() {
+        return structure.equals("ARRAY") ? new ArrayTour(cities) : new TwoLevelListTour(cities);
+    }
+}
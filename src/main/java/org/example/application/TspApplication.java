@@ -6,17 +6,22 @@ import org.example.application.port.out.SolutionArchiver;
 import org.example.application.service.DataService;
 import org.example.application.service.TspSolverService;
 import org.example.domain.algorithm.Algorithm;
-import org.example.domain.model.Point;
+import org.example.domain.algorithm.SolveContext;
+import org.example.domain.model.PointSet;
 import org.example.domain.model.Tour;
 import org.example.ui.chart.ChartManager;
+import org.example.ui.console.ConsoleProgressSubscriber;
 import org.example.ui.console.Menu;
 import org.jfree.chart.JFreeChart;
 
 import java.io.File;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 public class TspApplication {
+    private static final Duration SOLVE_BUDGET = Duration.ofMinutes(3);
+    private static final Duration PROGRESS_DRAIN_TIMEOUT = Duration.ofSeconds(1);
 
     private final InputPort input;
     private final OutputPort output;
@@ -73,8 +78,8 @@ public class TspApplication {
 
     private void loadData() {
         try {
-            List<Point> points = dataService.loadFromFile();
-            if (points.isEmpty()) {
+            PointSet points = dataService.loadPointSetFromFile();
+            if (points.size() == 0) {
                 output.displayError("File is empty.");
             } else {
                 updatePoints(points);
@@ -87,16 +92,16 @@ public class TspApplication {
 
     private void generateData() {
         int count = input.getIntUntilValid("Enter number of cities (0 for random): ");
-        List<Point> points = dataService.generateRandom(count);
+        PointSet points = dataService.generateRandomPointSet(count);
         updatePoints(points);
         output.displaySuccess("Generated " + points.size() + " cities.");
     }
 
     private void generateAndSave() {
         int count = input.getIntUntilValid("Enter number of cities (0 for random): ");
-        List<Point> points = dataService.generateRandom(count);
+        PointSet points = dataService.generateRandomPointSet(count);
         try {
-            dataService.saveToFile(points);
+            dataService.savePointSetToFile(points);
             updatePoints(points);
             output.displaySuccess("Generated and saved " + points.size() + " cities.");
         } catch (Exception e) {
@@ -106,25 +111,31 @@ public class TspApplication {
 
     private void chooseAlgorithm() {
         output.displayHeader("Choose Algorithm");
-        output.println("  1. Greedy Algorithm");
-        output.println("  2. Ant Colony Optimization");
-        int choice = input.getIntUntilValid("Select (1-2): ");
+        for (Algorithm algorithm : Algorithm.values()) {
+            output.println("  " + algorithm.getChoice() + ". " + algorithm.getDisplayName());
+        }
+        int choice = input.getIntUntilValid("Select (1-" + Algorithm.values().length + "): ");
 
-        context.selectedAlgorithm = (choice == 1) ? Algorithm.GREEDY : Algorithm.ANT_COLONY;
+        context.selectedAlgorithm = Algorithm.fromChoice(choice);
         output.displaySuccess("Selected: " + context.selectedAlgorithm.getDisplayName());
     }
 
     private void solveTsp() {
-        if (context.points == null || context.points.isEmpty()) {
+        if (context.points == null || context.points.size() == 0) {
             output.displayError("No points loaded. Load or generate data first.");
             return;
         }
 
         output.displayHeader("Running " + context.selectedAlgorithm.getDisplayName());
 
+        SolveContext solveContext = SolveContext.withTimeout(SOLVE_BUDGET);
+        ConsoleProgressSubscriber progress = new ConsoleProgressSubscriber(output);
+        solveContext.progress().subscribe(progress);
+
         long start = System.currentTimeMillis();
-        Tour tour = solverService.solve(context.points, context.selectedAlgorithm);
+        Tour tour = solverService.solve(context.points, context.selectedAlgorithm, solveContext);
         long duration = System.currentTimeMillis() - start;
+        progress.awaitCompletion(PROGRESS_DRAIN_TIMEOUT);
 
         context.lastTour = tour;
         context.lastAlgorithmName = context.selectedAlgorithm.getDisplayName();
@@ -162,7 +173,7 @@ public class TspApplication {
         }
     }
 
-    private void updatePoints(List<Point> points) {
+    private void updatePoints(PointSet points) {
         context.points = points;
         context.lastTour = null;
         context.isResultSaved = false;
@@ -170,8 +181,7 @@ public class TspApplication {
         int limit = Math.min(points.size(), 10);
         List<String> preview = new ArrayList<>();
         for (int i = 0; i < limit; i++) {
-            Point p = points.get(i);
-            preview.add(String.format("(%d, %d)", p.getX(), p.getY()));
+            preview.add(String.format("(%d, %d)", points.getX(i), points.getY(i)));
         }
 
         if (points.size() > limit) preview.add("... " + (points.size() - limit) + " more");
@@ -179,7 +189,7 @@ public class TspApplication {
     }
 
     private static class SessionContext {
-        List<Point> points;
+        PointSet points;
         Algorithm selectedAlgorithm = Algorithm.ANT_COLONY;
         Tour lastTour;
         String lastAlgorithmName;
@@ -1,9 +1,21 @@
 package org.example.application.port.out;
 
 import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
+
+import java.util.ArrayList;
 import java.util.List;
 
 public interface PointRepository {
-    List<Point> loadPoints() throws Exception;
-    void savePoints(List<Point> points) throws Exception;
-}
\ No newline at end of file
+    PointSet loadPointSet() throws Exception;
+
+    void savePointSet(PointSet points) throws Exception;
+
+    default List<Point> loadPoints() throws Exception {
+        return new ArrayList<>(loadPointSet().asPoints());
+    }
+
+    default void savePoints(List<Point> points) throws Exception {
+        savePointSet(PointSet.of(points));
+    }
+}
@@ -2,6 +2,7 @@ package org.example.application.service;
 
 import org.example.application.port.out.PointRepository;
 import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
 import org.example.domain.service.PointGenerator;
 
 import java.util.List;
@@ -16,6 +17,24 @@ public class DataService {
         this.generator = new PointGenerator();
     }
 
+    public PointSet loadPointSetFromFile() throws Exception {
+        return repository.loadPointSet();
+    }
+
+    public PointSet generateRandomPointSet(int count) {
+        if (count > 0) {
+            return generator.generatePointSet(count);
+        }
+        return generator.generatePointSet();
+    }
+
+    public void savePointSetToFile(PointSet points) throws Exception {
+        if (points == null || points.size() == 0) {
+            throw new IllegalArgumentException("No points to save");
+        }
+        repository.savePointSet(points);
+    }
+
     public List<Point> loadFromFile() throws Exception {
         return repository.loadPoints();
     }
@@ -33,4 +52,4 @@ public class DataService {
         }
         repository.savePoints(points);
     }
-}
\ No newline at end of file
+}
@@ -1,30 +1,105 @@
 package org.example.application.service;
 
 import org.example.domain.algorithm.Algorithm;
+import org.example.domain.algorithm.AntColonyConfig;
+import org.example.domain.algorithm.AntColonyVariant;
+import org.example.domain.algorithm.AnytimeTspSolver;
+import org.example.domain.algorithm.BranchAndBoundTspSolver;
+import org.example.domain.algorithm.GreedyConfig;
+import org.example.domain.algorithm.GreedyEdgeTspSolver;
+import org.example.domain.algorithm.HeldKarpTspSolver;
+import org.example.domain.algorithm.HilbertCurveTspSolver;
+import org.example.domain.algorithm.SolveContext;
 import org.example.domain.algorithm.TspSolver;
 import org.example.domain.algorithm.AntColonyTspSolver;
 import org.example.domain.algorithm.GreedyTspSolver;
+import org.example.domain.algorithm.LinKernighanTspSolver;
+import org.example.domain.algorithm.MultiColonyTspSolver;
 
-import org.example.domain.model.City;
 import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
 import org.example.domain.model.Tour;
-import org.example.domain.service.CityConverter;
 
+import java.time.Duration;
 import java.util.List;
 
 public class TspSolverService {
+    private static final int MULTI_START_GREEDY_STARTS = 64;
 
     public Tour solve(List<Point> points, Algorithm algorithm) {
-        List<City> cities = CityConverter.fromPoints(points);
+        return solve(PointSet.of(points), algorithm);
+    }
+
+    public Tour solve(PointSet points, Algorithm algorithm) {
         TspSolver solver = createSolver(algorithm, points);
-        return solver.solve(cities);
+        return solver.solve(points);
+    }
+
+    /**
+     * Solves within {@code budget}, returning the best tour found when it runs out.
+     */
+    public Tour solve(List<Point> points, Algorithm algorithm, Duration budget) {
+        return solve(PointSet.of(points), algorithm, SolveContext.withTimeout(budget));
+    }
+
+    public Tour solve(PointSet points, Algorithm algorithm, Duration budget) {
+        return solve(points, algorithm, SolveContext.withTimeout(budget));
+    }
+
+    /**
+     * Solves under {@code context}, which the caller may cancel or poll for the best tour
+     * so far from another thread. Solvers without anytime support run to completion and
+     * report their tour to the context when done.
+     */
+    public Tour solve(List<Point> points, Algorithm algorithm, SolveContext context) {
+        return solve(PointSet.of(points), algorithm, context);
     }
 
-    private TspSolver createSolver(Algorithm algorithm, List<Point> points) {
+    public Tour solve(PointSet points, Algorithm algorithm, SolveContext context) {
+        return AnytimeTspSolver.of(createSolver(algorithm, points)).solve(points, context);
+    }
+
+    /**
+     * Improvement algorithms give way to the exact solver on inputs small enough for it,
+     * which finds the optimum in well under a second; the constructions keep their own
+     * tours.
+     */
+    private TspSolver createSolver(Algorithm algorithm, PointSet points) {
+        if (points.size() <= HeldKarpTspSolver.MAX_CITIES && isImprovementAlgorithm(algorithm)) {
+            return new HeldKarpTspSolver();
+        }
         return switch (algorithm) {
             case GREEDY -> new GreedyTspSolver();
             case ANT_COLONY -> new AntColonyTspSolver(points);
+            case LIN_KERNIGHAN -> new LinKernighanTspSolver();
+            case ANT_SYSTEM -> createAntColony(points, AntColonyVariant.ANT_SYSTEM);
+            case RANK_BASED_ANT_SYSTEM -> createAntColony(points, AntColonyVariant.RANK_BASED_ANT_SYSTEM);
+            case MAX_MIN_ANT_SYSTEM -> createAntColony(points, AntColonyVariant.MAX_MIN_ANT_SYSTEM);
+            case ANT_COLONY_SYSTEM -> createAntColony(points, AntColonyVariant.ANT_COLONY_SYSTEM);
+            case MULTI_COLONY -> new MultiColonyTspSolver(points);
+            case MULTI_START_GREEDY -> new GreedyTspSolver(GreedyConfig.builder()
+                    .setStarts(MULTI_START_GREEDY_STARTS)
+                    .setTwoOpt(true)
+                    .build());
+            case HILBERT_CURVE -> new HilbertCurveTspSolver();
+            case GREEDY_EDGE -> new GreedyEdgeTspSolver();
+            case HELD_KARP -> new HeldKarpTspSolver();
+            case BRANCH_AND_BOUND -> new BranchAndBoundTspSolver();
             default -> throw new IllegalArgumentException("Unknown algorithm: " + algorithm);
         };
     }
+
+    private static boolean isImprovementAlgorithm(Algorithm algorithm) {
+        return switch (algorithm) {
+            case GREEDY, HILBERT_CURVE, GREEDY_EDGE -> false;
+            default -> true;
+        };
+    }
+
+    private TspSolver createAntColony(PointSet points, AntColonyVariant variant) {
+        AntColonyConfig config = AntColonyConfig.builder()
+                .setVariant(variant)
+                .build();
+        return new AntColonyTspSolver(points, config);
+    }
 }
\ No newline at end of file
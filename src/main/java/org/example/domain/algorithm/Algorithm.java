@@ -2,7 +2,18 @@ package org.example.domain.algorithm;
 
 public enum Algorithm {
     GREEDY("Greedy Algorithm"),
-    ANT_COLONY("Ant Colony Optimization");
+    ANT_COLONY("Ant Colony Optimization"),
+    LIN_KERNIGHAN("Lin-Kernighan"),
+    ANT_SYSTEM("Ant System"),
+    RANK_BASED_ANT_SYSTEM("Rank-Based Ant System"),
+    MAX_MIN_ANT_SYSTEM("MAX-MIN Ant System"),
+    ANT_COLONY_SYSTEM("Ant Colony System"),
+    MULTI_COLONY("Multi-Colony Ant Colony Optimization"),
+    MULTI_START_GREEDY("Multi-Start Greedy with 2-opt"),
+    HILBERT_CURVE("Hilbert Curve"),
+    GREEDY_EDGE("Greedy Edge"),
+    HELD_KARP("Held-Karp (exact, up to " + HeldKarpTspSolver.MAX_CITIES + " cities)"),
+    BRANCH_AND_BOUND("Branch and Bound (exact)");
 
     private final String displayName;
 
@@ -14,12 +25,18 @@ public enum Algorithm {
         return displayName;
     }
 
+    /**
+     * Menu number of this algorithm, its position in declaration order counted from 1.
+     */
+    public int getChoice() {
+        return ordinal() + 1;
+    }
+
     public static Algorithm fromChoice(int choice) {
-        return switch (choice) {
-            case 1 -> GREEDY;
-            case 2 -> ANT_COLONY;
-            default -> ANT_COLONY;
-        };
+        Algorithm[] algorithms = values();
+        if (choice < 1 || choice > algorithms.length) {
+            return ANT_COLONY;
+        }
+        return algorithms[choice - 1];
     }
 }
-
@@ -1,92 +1,242 @@
 package org.example.domain.algorithm;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
-
+import org.example.domain.model.PointSet;
+import org.example.domain.service.KdTree;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Reusable tour builder. One instance serves every ant handled by a single construction
+ * task, so its visited bitset, unvisited list and probability buffer are allocated only
+ * once. Scans over all cities walk the unvisited list, which shrinks as the tour grows and
+ * keeps them cheap when a row of a packed matrix is spread over many cache lines.
+ */
 class Ant {
     private final int numberOfCities;
-    private final double[][] distanceMatrix;
-    private final double[][] pheromoneMatrix;
-    private final Random random;
-    private final double pheromoneWeight;
-    private final double visibilityWeight;
-
-    List<Integer> tour;
-    boolean[] visited;
-    double tourLength;
-
-    Ant(int numberOfCities, double[][] distanceMatrix, double[][] pheromoneMatrix,
-        Random random, double pheromoneWeight, double visibilityWeight) {
+    private final DistanceMatrix distanceMatrix;
+    private final ChoiceInfo choiceInfo;
+    private final double[] candidateChoiceInfo;
+    private final int[][] candidateLists;
+    private final double exploitation;
+    private final int[] xs;
+    private final int[] ys;
+    private final KdTree unvisitedTree;
+
+    private final long[] visited;
+    private final int[] unvisited;
+    private final int[] unvisitedPositions;
+    private int unvisitedCount;
+    private final double[] probabilities;
+    private SplittableRandom random;
+
+    /**
+     * {@code candidateChoiceInfo} holds the choice info of each city's candidates in list
+     * order, one row of {@code k} values per city, so the common case reads one contiguous
+     * run. {@code choiceInfo} is read only for the other edges, and with candidate lists
+     * only compared, so it may be any value that orders a city's edges like their choice
+     * info.
+     */
+    Ant(int numberOfCities, DistanceMatrix distanceMatrix, ChoiceInfo choiceInfo,
+        double[] candidateChoiceInfo, int[][] candidateLists, double exploitation) {
         this.numberOfCities = numberOfCities;
         this.distanceMatrix = distanceMatrix;
-        this.pheromoneMatrix = pheromoneMatrix;
-        this.random = random;
-        this.pheromoneWeight = pheromoneWeight;
-        this.visibilityWeight = visibilityWeight;
+        this.choiceInfo = choiceInfo;
+        this.candidateChoiceInfo = candidateChoiceInfo;
+        this.candidateLists = candidateLists;
+        this.exploitation = exploitation;
+        this.xs = null;
+        this.ys = null;
+        this.unvisitedTree = null;
+
+        this.visited = new long[(numberOfCities + 63) >>> 6];
+        this.unvisited = new int[numberOfCities];
+        this.unvisitedPositions = new int[numberOfCities];
+        this.probabilities = new double[candidateLists.length == 0 ? 0 : candidateLists[0].length];
+    }
 
-        this.tour = new ArrayList<>();
-        this.visited = new boolean[numberOfCities];
-        this.tourLength = 0.0;
+    /**
+     * Ant that moves along candidate edges only, reading their choice info from
+     * {@code candidateChoiceInfo}. Once every candidate of its city is visited it moves to
+     * the nearest unvisited city, found in a k-d tree over {@code points}, so no step needs
+     * a full row and the ant takes O(n) memory.
+     */
+    Ant(PointSet points, DistanceMatrix distanceMatrix, double[] candidateChoiceInfo, int[][] candidateLists,
+        double exploitation) {
+        this.numberOfCities = points.size();
+        this.distanceMatrix = distanceMatrix;
+        this.choiceInfo = null;
+        this.candidateChoiceInfo = candidateChoiceInfo;
+        this.candidateLists = candidateLists;
+        this.exploitation = exploitation;
+        this.xs = points.sharedXs();
+        this.ys = points.sharedYs();
+        this.unvisitedTree = KdTree.of(xs, ys);
+
+        this.visited = new long[(numberOfCities + 63) >>> 6];
+        this.unvisited = new int[numberOfCities];
+        this.unvisitedPositions = new int[numberOfCities];
+        this.probabilities = new double[candidateLists.length == 0 ? 0 : candidateLists[0].length];
     }
 
-    void constructTour() {
+    /**
+     * Fills {@code tour} with a new closed tour drawn with {@code random} and returns its length.
+     */
+    double constructTour(int[] tour, SplittableRandom random) {
+        this.random = random;
+        Arrays.fill(visited, 0L);
+        for (int city = 0; city < numberOfCities; city++) {
+            unvisited[city] = city;
+            unvisitedPositions[city] = city;
+        }
+        unvisitedCount = numberOfCities;
+        if (unvisitedTree != null) {
+            unvisitedTree.reset();
+        }
+
         int startCity = random.nextInt(numberOfCities);
-        tour.add(startCity);
-        visited[startCity] = true;
+        tour[0] = startCity;
+        markVisited(startCity);
+        double tourLength = 0.0;
 
         for (int step = 1; step < numberOfCities; step++) {
-            int currentCity = tour.getLast();
+            int currentCity = tour[step - 1];
             int nextCity = selectNextCity(currentCity);
 
-            tour.add(nextCity);
-            visited[nextCity] = true;
-            tourLength += distanceMatrix[currentCity][nextCity];
+            tour[step] = nextCity;
+            markVisited(nextCity);
+            tourLength += distanceMatrix.distance(currentCity, nextCity);
         }
 
-        int lastCity = tour.getLast();
-        int firstCity = tour.getFirst();
-        tourLength += distanceMatrix[lastCity][firstCity];
+        tourLength += distanceMatrix.distance(tour[numberOfCities - 1], startCity);
+        return tourLength;
+    }
+
+    private boolean isVisited(int city) {
+        return (visited[city >>> 6] & (1L << city)) != 0;
     }
 
+    private void markVisited(int city) {
+        visited[city >>> 6] |= 1L << city;
+        int last = unvisited[--unvisitedCount];
+        int position = unvisitedPositions[city];
+        unvisited[position] = last;
+        unvisitedPositions[last] = position;
+        if (unvisitedTree != null) {
+            unvisitedTree.remove(city);
+        }
+    }
+
+    /**
+     * Chooses among the unvisited nearest neighbours of {@code currentCity} with the usual
+     * random-proportional rule. Only when all of them are visited does it scan every
+     * unvisited city, moving to the one with the highest choice info. Without candidate lists
+     * every unvisited city takes part in the random-proportional choice. With probability
+     * {@code exploitation} the city with the highest choice info is taken directly.
+     */
     private int selectNextCity(int currentCity) {
-        double[] probabilities = new double[numberOfCities];
-        double totalProbability = 0.0;
+        int[] candidates = candidateLists[currentCity];
+        if (exploitation > 0.0 && random.nextDouble() < exploitation) {
+            return selectBestCandidate(currentCity, candidates);
+        }
+        if (candidates.length == 0) {
+            return selectFromAllCities(currentCity);
+        }
 
-        for (int city = 0; city < numberOfCities; city++) {
-            if (!visited[city]) {
-                double pheromone = Math.pow(pheromoneMatrix[currentCity][city], pheromoneWeight);
-                double visibility = Math.pow(1.0 / distanceMatrix[currentCity][city], visibilityWeight);
-                probabilities[city] = pheromone * visibility;
-                totalProbability += probabilities[city];
+        double totalProbability = 0.0;
+        boolean hasUnvisitedCandidate = false;
+        int offset = currentCity * candidates.length;
+
+        for (int i = 0; i < candidates.length; i++) {
+            int city = candidates[i];
+            if (isVisited(city)) {
+                probabilities[i] = 0.0;
+            } else {
+                probabilities[i] = candidateChoiceInfo[offset + i];
+                totalProbability += probabilities[i];
+                hasUnvisitedCandidate = true;
             }
         }
 
-        for (int city = 0; city < numberOfCities; city++) {
-            if (!visited[city]) {
-                probabilities[city] /= totalProbability;
-            }
+        if (!hasUnvisitedCandidate) {
+            return selectBestUnvisitedCity(currentCity);
         }
 
-        double randomValue = random.nextDouble();
+        double randomValue = random.nextDouble() * totalProbability;
         double cumulativeProbability = 0.0;
+        int lastUnvisited = -1;
 
-        for (int city = 0; city < numberOfCities; city++) {
-            if (!visited[city]) {
-                cumulativeProbability += probabilities[city];
+        for (int i = 0; i < candidates.length; i++) {
+            if (!isVisited(candidates[i])) {
+                cumulativeProbability += probabilities[i];
+                lastUnvisited = candidates[i];
                 if (randomValue <= cumulativeProbability) {
-                    return city;
+                    return lastUnvisited;
                 }
             }
         }
 
-        for (int city = 0; city < numberOfCities; city++) {
-            if (!visited[city]) {
+        return lastUnvisited;
+    }
+
+    private int selectBestCandidate(int currentCity, int[] candidates) {
+        int bestCity = -1;
+        double bestChoiceInfo = -1.0;
+        int offset = currentCity * candidates.length;
+
+        for (int i = 0; i < candidates.length; i++) {
+            int city = candidates[i];
+            if (!isVisited(city)) {
+                double choiceInfo = candidateChoiceInfo[offset + i];
+                if (choiceInfo > bestChoiceInfo) {
+                    bestChoiceInfo = choiceInfo;
+                    bestCity = city;
+                }
+            }
+        }
+
+        return bestCity >= 0 ? bestCity : selectBestUnvisitedCity(currentCity);
+    }
+
+    private int selectBestUnvisitedCity(int currentCity) {
+        if (unvisitedTree != null) {
+            return unvisitedTree.nearest(xs[currentCity], ys[currentCity]);
+        }
+        int bestCity = -1;
+        double bestChoiceInfo = -1.0;
+
+        for (int i = 0; i < unvisitedCount; i++) {
+            int city = unvisited[i];
+            double value = choiceInfo.get(currentCity, city);
+            if (value > bestChoiceInfo || (value == bestChoiceInfo && city < bestCity)) {
+                bestChoiceInfo = value;
+                bestCity = city;
+            }
+        }
+
+        return bestCity;
+    }
+
+    private int selectFromAllCities(int currentCity) {
+        double totalProbability = 0.0;
+
+        for (int i = 0; i < unvisitedCount; i++) {
+            totalProbability += choiceInfo.get(currentCity, unvisited[i]);
+        }
+
+        double randomValue = random.nextDouble() * totalProbability;
+        double cumulativeProbability = 0.0;
+        int lastUnvisited = -1;
+
+        for (int i = 0; i < unvisitedCount; i++) {
+            int city = unvisited[i];
+            cumulativeProbability += choiceInfo.get(currentCity, city);
+            lastUnvisited = city;
+            if (randomValue <= cumulativeProbability) {
                 return city;
             }
         }
 
-        return -1;
+        return lastUnvisited;
     }
 }
-
@@ -0,0 +1,241 @@
+package org.example.domain.algorithm;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class AntColonyConfig {
+    private final long seed;
+    private final int parallelism;
+    private final Executor executor;
+    private final int candidateListSize;
+    private final List<LocalSearchType> localSearchTypes;
+    private final MoveSelection moveSelection;
+    private final PheromoneUpdate pheromoneUpdate;
+    private final AntColonyVariant variant;
+    private final MatrixStorage distanceStorage;
+    private final MatrixStorage pheromoneStorage;
+    private final boolean sparse;
+
+    private AntColonyConfig(Builder builder) {
+        this.seed = builder.seed;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+        this.candidateListSize = builder.candidateListSize;
+        this.localSearchTypes = builder.localSearchTypes;
+        this.moveSelection = builder.moveSelection;
+        this.pheromoneUpdate = builder.pheromoneUpdate;
+        this.variant = builder.variant;
+        this.distanceStorage = builder.distanceStorage;
+        this.pheromoneStorage = builder.pheromoneStorage;
+        this.sparse = builder.sparse;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static AntColonyConfig defaults() {
+        return builder().build();
+    }
+
+    /**
+     * Returns a builder preset with this configuration's values.
+     */
+    public Builder toBuilder() {
+        return builder()
+                .setSeed(seed)
+                .setParallelism(parallelism)
+                .setExecutor(executor)
+                .setCandidateListSize(candidateListSize)
+                .setLocalSearch(localSearchTypes.toArray(LocalSearchType[]::new))
+                .setMoveSelection(moveSelection)
+                .setPheromoneUpdate(pheromoneUpdate)
+                .setVariant(variant)
+                .setDistanceStorage(distanceStorage)
+                .setPheromoneStorage(pheromoneStorage)
+                .setSparse(sparse);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getCandidateListSize() {
+        return candidateListSize;
+    }
+
+    public List<LocalSearchType> getLocalSearchTypes() {
+        return localSearchTypes;
+    }
+
+    public MoveSelection getMoveSelection() {
+        return moveSelection;
+    }
+
+    public PheromoneUpdate getPheromoneUpdate() {
+        return pheromoneUpdate;
+    }
+
+    public AntColonyVariant getVariant() {
+        return variant;
+    }
+
+    public MatrixStorage getDistanceStorage() {
+        return distanceStorage;
+    }
+
+    public MatrixStorage getPheromoneStorage() {
+        return pheromoneStorage;
+    }
+
+    public boolean isSparse() {
+        return sparse;
+    }
+
+    public static class Builder {
+        private long seed = System.nanoTime();
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private Executor executor = ForkJoinPool.commonPool();
+        private int candidateListSize = 20;
+        private List<LocalSearchType> localSearchTypes = List.of(LocalSearchType.TWO_OPT);
+        private MoveSelection moveSelection = MoveSelection.FIRST_IMPROVEMENT;
+        private PheromoneUpdate pheromoneUpdate = PheromoneUpdate.LAZY;
+        private AntColonyVariant variant = AntColonyVariant.HYBRID;
+        private MatrixStorage distanceStorage = MatrixStorage.FULL;
+        private MatrixStorage pheromoneStorage = MatrixStorage.FULL;
+        private boolean sparse = false;
+
+        private Builder() {
+        }
+
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Number of tasks the ants of one iteration are split into. A value of 1 builds
+         * every ant on the calling thread.
+         */
+        public Builder setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Executor running the construction tasks, e.g. a {@link ForkJoinPool} or a fixed
+         * thread pool. The solver never shuts it down.
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Number of nearest neighbours an ant considers before falling back to all unvisited
+         * cities. A value of 0 disables candidate lists.
+         */
+        public Builder setCandidateListSize(int candidateListSize) {
+            this.candidateListSize = candidateListSize;
+            return this;
+        }
+
+        /**
+         * Move types applied to every ant's tour, in order, until none of them improves it.
+         * No types means no local search.
+         */
+        public Builder setLocalSearch(LocalSearchType... localSearchTypes) {
+            this.localSearchTypes = List.of(localSearchTypes);
+            return this;
+        }
+
+        /**
+         * Whether the local search applies the first improving move it finds around a city
+         * or the best one.
+         */
+        public Builder setMoveSelection(MoveSelection moveSelection) {
+            this.moveSelection = moveSelection;
+            return this;
+        }
+
+        /**
+         * How evaporation and bounds are applied to the pheromone matrix. Both modes give
+         * the same trails.
+         */
+        public Builder setPheromoneUpdate(PheromoneUpdate pheromoneUpdate) {
+            this.pheromoneUpdate = pheromoneUpdate;
+            return this;
+        }
+
+        /**
+         * Pheromone update rule: the original hybrid, Ant System, rank-based Ant System,
+         * MAX-MIN Ant System or Ant Colony System.
+         */
+        public Builder setVariant(AntColonyVariant variant) {
+            this.variant = variant;
+            return this;
+        }
+
+        /**
+         * Layout of the distance matrix. Rounded distances make the colony optimise the
+         * TSPLIB length; the returned tour still reports its exact length.
+         */
+        public Builder setDistanceStorage(MatrixStorage distanceStorage) {
+            this.distanceStorage = distanceStorage;
+            return this;
+        }
+
+        /**
+         * Layout of the pheromone trails. Any packed layout also packs the cached choice
+         * info. Trails cannot be rounded.
+         */
+        public Builder setPheromoneStorage(MatrixStorage pheromoneStorage) {
+            this.pheromoneStorage = pheromoneStorage;
+            return this;
+        }
+
+        /**
+         * Runs without n×n matrices: distances come from the coordinates, trails and
+         * choice info exist only on candidate edges, and ants leave those edges only for
+         * the nearest unvisited city once every candidate is visited. Memory is O(n·k)
+         * and the colony has a fixed number of ants; the storage and update settings do
+         * not apply. Instances of 10,000 cities or more always run this way.
+         */
+        public Builder setSparse(boolean sparse) {
+            this.sparse = sparse;
+            return this;
+        }
+
+        public AntColonyConfig build() {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            if (candidateListSize < 0) {
+                throw new IllegalArgumentException("Candidate list size cannot be negative");
+            }
+            Objects.requireNonNull(executor, "Executor must be set");
+            Objects.requireNonNull(moveSelection, "Move selection must be set");
+            Objects.requireNonNull(pheromoneUpdate, "Pheromone update must be set");
+            Objects.requireNonNull(variant, "Variant must be set");
+            Objects.requireNonNull(distanceStorage, "Distance storage must be set");
+            Objects.requireNonNull(pheromoneStorage, "Pheromone storage must be set");
+            if (sparse && candidateListSize == 0) {
+                throw new IllegalArgumentException("Sparse mode needs candidate lists");
+            }
+            if (pheromoneStorage == MatrixStorage.PACKED_ROUNDED) {
+                throw new IllegalArgumentException("Pheromone storage cannot be rounded");
+            }
+            return new AntColonyConfig(this);
+        }
+    }
+}
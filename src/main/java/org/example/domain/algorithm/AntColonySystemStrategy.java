@@ -0,0 +1,56 @@
+package org.example.domain.algorithm;
+
+/**
+ * Ant Colony System: ants take the best-looking city with probability {@code q0}, every
+ * edge an ant used is pulled towards the initial trail, and only the best tour so far
+ * evaporates and deposits.
+ *
+ * <p>Ants of one iteration run in parallel and read a cached choice-info matrix, so the
+ * local update is applied after construction, tour by tour in ant order, instead of after
+ * every step. This keeps results independent of how ants are spread over threads.
+ */
+final class AntColonySystemStrategy implements PheromoneStrategy {
+    private static final double EVAPORATION_RATE = 0.1;
+    private static final double LOCAL_EVAPORATION_RATE = 0.1;
+    private static final double EXPLOITATION = 0.9;
+
+    private double initialPheromone;
+
+    @Override
+    public double evaporationRate() {
+        return EVAPORATION_RATE;
+    }
+
+    @Override
+    public double initialPheromone(int numberOfCities, int numberOfAnts, double nearestNeighbourTourLength) {
+        this.initialPheromone = 1.0 / (numberOfCities * nearestNeighbourTourLength);
+        return initialPheromone;
+    }
+
+    @Override
+    public double exploitation() {
+        return EXPLOITATION;
+    }
+
+    @Override
+    public void localUpdate(PheromoneMatrix pheromone, int[] tour) {
+        for (int i = 0; i < tour.length; i++) {
+            int cityA = tour[i];
+            int cityB = tour[(i + 1) % tour.length];
+            pheromone.set(cityA, cityB, (1.0 - LOCAL_EVAPORATION_RATE) * pheromone.get(cityA, cityB)
+                    + LOCAL_EVAPORATION_RATE * initialPheromone);
+        }
+    }
+
+    @Override
+    public void globalUpdate(PheromoneMatrix pheromone, int[][] tours, double[] tourLengths,
+                             int[] bestTour, double bestTourLength) {
+        for (int i = 0; i < bestTour.length; i++) {
+            int cityA = bestTour[i];
+            int cityB = bestTour[(i + 1) % bestTour.length];
+            pheromone.set(cityA, cityB, (1.0 - EVAPORATION_RATE) * pheromone.get(cityA, cityB)
+                    + EVAPORATION_RATE / bestTourLength);
+        }
+        pheromone.applyBounds(0.0, Double.MAX_VALUE);
+    }
+}
@@ -2,33 +2,48 @@ package org.example.domain.algorithm;
 
 import org.example.domain.model.City;
 import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
 import org.example.domain.model.Tour;
+import org.example.domain.service.KdTree;
 
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.List;
-import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 
-public class AntColonyTspSolver implements TspSolver {
+public class AntColonyTspSolver implements AnytimeTspSolver {
 
-    private final List<Point> points;
+    private final PointSet points;
     private final int numberOfCities;
 
-    private double[][] distanceMatrix;
-    private double[][] pheromoneMatrix;
+    private final boolean sparse;
+    private final DistanceMatrix distanceMatrix;
+    private final PheromoneMatrix pheromoneMatrix;
+    private final SymmetricMatrix heuristicMatrix;
+    private final SymmetricMatrix choiceInfoMatrix;
+    private final SymmetricMatrix rankingHeuristic;
+    private double rankingExponent;
+    private final double[] candidateHeuristic;
+    private final double[] candidateChoiceInfo;
+    private double heuristicWeight;
+    private final int[][] candidateLists;
+    private final int[][] neighbourLists;
+    private final double nearestNeighbourLength;
 
-    private static final double INITIAL_PHEROMONE = 0.1;
-    private static final double PHEROMONE_EVAPORATION_COEFFICIENT = 0.5;
     private static final double PHEROMONE_WEIGHT = 1.0;
     private static final double VISIBILITY_WEIGHT = 5.0;
-    private static final double Q = 100.0;
-
-    private static final double MIN_PHEROMONE = 0.01;
-    private static final double MAX_PHEROMONE = 10.0;
 
     private static final int MIN_ANTS = 20;
+    private static final int LOCAL_SEARCH_NEIGHBOURS = 20;
+
+    /**
+     * Smallest instance that always runs in sparse mode. The dense matrices of this many
+     * cities already take gigabytes, and one ant per city makes an iteration quadratic.
+     */
+    static final int SPARSE_MIN_CITIES = 10_000;
+
     private static final int STAGNATION_LIMIT = 50;
-    private static final long MAX_TIME_MS = 180000;
+    private static final Duration DEFAULT_TIME_LIMIT = Duration.ofMinutes(3);
 
     private static final int SMALL_CITY_THRESHOLD = 20;
     private static final int MEDIUM_CITY_THRESHOLD = 50;
@@ -42,12 +57,21 @@ public class AntColonyTspSolver implements TspSolver {
     private final int maxIterations;
 
     private final int numberOfAnts;
-    private final Random random;
-
-    private List<Integer> bestTour;
+    private final AntColonyConfig config;
+    private final PheromoneStrategy strategy;
+    private final SplittableRandom[] antRandoms;
+    private final int[][] antTours;
+    private final double[] antTourLengths;
+    private final Ant[] workers;
+    private final LocalSearch[] localSearches;
+
+    private final int[] bestTour;
     private double bestTourLength;
+    private boolean hasBestTour;
 
     private int iterationsCompleted;
+    private int iterationsWithoutImprovement;
+    private SolveContext context = SolveContext.unbounded();
 
     private double adaptivePheromoneWeight;
     private double adaptiveVisibilityWeight;
@@ -55,17 +79,42 @@ public class AntColonyTspSolver implements TspSolver {
 
 
     public AntColonyTspSolver(List<Point> points) {
+        this(points, AntColonyConfig.defaults());
+    }
+
+    public AntColonyTspSolver(List<Point> points, AntColonyConfig config) {
+        this(points == null ? null : PointSet.of(points), config);
+    }
+
+    public AntColonyTspSolver(PointSet points) {
+        this(points, AntColonyConfig.defaults());
+    }
+
+    public AntColonyTspSolver(PointSet points, AntColonyConfig config) {
+        this(points, config, null);
+    }
+
+    /**
+     * Reuses the distances, candidate lists and nearest-neighbour tour length of
+     * {@code shared} when it is not null. It must have been built over the same points
+     * with a config that differs at most in the seed.
+     */
+    AntColonyTspSolver(PointSet points, AntColonyConfig config, AntColonyTspSolver shared) {
         if (points == null) {
             throw new IllegalArgumentException("Points list cannot be null");
         }
-        if (points.isEmpty()) {
+        if (points.size() == 0) {
             throw new IllegalArgumentException("Points list cannot be empty");
         }
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
 
         this.points = points;
         this.numberOfCities = points.size();
 
-        this.numberOfAnts = Math.max(this.numberOfCities, MIN_ANTS);
+        this.sparse = runsSparse(numberOfCities, config);
+        this.numberOfAnts = numberOfAnts(numberOfCities, sparse);
 
         if (numberOfCities <= SMALL_CITY_THRESHOLD) {
             this.maxIterations = SMALL_CITY_MAX_ITERATIONS;
@@ -77,227 +126,453 @@ public class AntColonyTspSolver implements TspSolver {
             this.maxIterations = VERY_LARGE_CITY_MAX_ITERATIONS;
         }
 
-        this.random = new Random();
+        this.config = config;
+        this.antRandoms = createAntRandoms(config.getSeed());
         this.bestTourLength = Double.MAX_VALUE;
         this.iterationsCompleted = 0;
 
         this.adaptivePheromoneWeight = PHEROMONE_WEIGHT;
         this.adaptiveVisibilityWeight = VISIBILITY_WEIGHT;
 
-        initializeDistanceMatrix();
-        initializePheromoneMatrix();
-    }
-
-    private void initializeDistanceMatrix() {
-        this.distanceMatrix = new double[numberOfCities][numberOfCities];
+        if (shared != null) {
+            this.distanceMatrix = shared.distanceMatrix;
+            this.candidateLists = shared.candidateLists;
+            this.neighbourLists = shared.neighbourLists;
+            this.nearestNeighbourLength = shared.nearestNeighbourLength;
+        } else {
+            if (sparse) {
+                int candidateListSize = config.getCandidateListSize() > 0
+                        ? config.getCandidateListSize()
+                        : LOCAL_SEARCH_NEIGHBOURS;
+                this.distanceMatrix = DistanceMatrix.euclidean(points);
+                this.candidateLists = CandidateLists.build(points, candidateListSize);
+            } else {
+                this.distanceMatrix = DistanceMatrices.build(points, config.getDistanceStorage());
+                this.candidateLists = CandidateLists.build(distanceMatrix, config.getCandidateListSize());
+            }
+            this.neighbourLists = candidateListLength() > 0
+                    ? candidateLists
+                    : CandidateLists.build(distanceMatrix, LOCAL_SEARCH_NEIGHBOURS);
+            this.nearestNeighbourLength = nearestNeighbourTourLength();
+        }
 
-        for (int i = 0; i < numberOfCities; i++) {
-            for (int j = 0; j < numberOfCities; j++) {
-                if (i == j) {
-                    distanceMatrix[i][j] = 0.0;
-                } else {
-                    distanceMatrix[i][j] = points.get(i).distanceTo(points.get(j));
-                }
+        this.strategy = PheromoneStrategy.create(config.getVariant());
+        double initialPheromone = strategy.initialPheromone(numberOfCities, numberOfAnts, nearestNeighbourLength);
+        if (sparse) {
+            this.pheromoneMatrix = new SparsePheromoneMatrix(candidateLists, initialPheromone,
+                    strategy.evaporationRate());
+            this.heuristicMatrix = null;
+            this.choiceInfoMatrix = null;
+            this.rankingHeuristic = null;
+            this.candidateHeuristic = new double[numberOfCities * candidateListLength()];
+        } else {
+            this.pheromoneMatrix = PheromoneMatrix.create(config.getPheromoneUpdate(), numberOfCities,
+                    initialPheromone, strategy.evaporationRate(), config.getPheromoneStorage());
+            MatrixStorage cacheStorage = cacheStorage(config);
+            // Lazy trails change on few edges per iteration, so with candidate lists only the
+            // candidate edges are refreshed and the others are ranked when an ant needs them.
+            if (config.getPheromoneUpdate() == PheromoneUpdate.LAZY && candidateListLength() > 0) {
+                this.heuristicMatrix = null;
+                this.choiceInfoMatrix = null;
+                this.rankingHeuristic = SymmetricMatrix.create(numberOfCities, cacheStorage);
+                this.candidateHeuristic = new double[numberOfCities * candidateListLength()];
+            } else {
+                this.heuristicMatrix = SymmetricMatrix.create(numberOfCities, cacheStorage);
+                this.choiceInfoMatrix = SymmetricMatrix.create(numberOfCities, cacheStorage);
+                this.rankingHeuristic = null;
+                this.candidateHeuristic = null;
             }
         }
+        this.candidateChoiceInfo = new double[numberOfCities * candidateListLength()];
+
+        this.antTours = new int[numberOfAnts][numberOfCities];
+        this.antTourLengths = new double[numberOfAnts];
+        this.bestTour = new int[numberOfCities];
+        ChoiceInfo choiceInfo = choiceInfoMatrix != null ? choiceInfoMatrix::get : this::choiceRank;
+        int tasks = Math.min(config.getParallelism(), numberOfAnts);
+        this.workers = new Ant[tasks];
+        this.localSearches = new LocalSearch[tasks];
+        for (int task = 0; task < tasks; task++) {
+            workers[task] = sparse
+                    ? new Ant(points, distanceMatrix, candidateChoiceInfo, candidateLists, strategy.exploitation())
+                    : new Ant(numberOfCities, distanceMatrix, choiceInfo, candidateChoiceInfo, candidateLists,
+                    strategy.exploitation());
+            localSearches[task] = LocalSearch.create(config.getLocalSearchTypes(), distanceMatrix, neighbourLists,
+                    config.getMoveSelection());
+        }
+    }
+
+    private static boolean runsSparse(int numberOfCities, AntColonyConfig config) {
+        return config.isSparse() || numberOfCities >= SPARSE_MIN_CITIES;
     }
 
-    private void initializePheromoneMatrix() {
-        this.pheromoneMatrix = new double[numberOfCities][numberOfCities];
+    private static int numberOfAnts(int numberOfCities, boolean sparse) {
+        return sparse ? MIN_ANTS : Math.max(numberOfCities, MIN_ANTS);
+    }
+
+    /**
+     * Products of small powers underflow a float, so the cached factors stay doubles.
+     */
+    private static MatrixStorage cacheStorage(AntColonyConfig config) {
+        return config.getPheromoneStorage() == MatrixStorage.FULL ? MatrixStorage.FULL : MatrixStorage.PACKED;
+    }
 
-        for (double[] row : pheromoneMatrix) {
-            Arrays.fill(row, INITIAL_PHEROMONE);
+    /**
+     * Rough heap size of what a colony over {@code numberOfCities} owns and cannot share
+     * with other colonies: its trails, cached choice factors and ant tours.
+     */
+    static long colonyBytes(int numberOfCities, AntColonyConfig config) {
+        boolean sparse = runsSparse(numberOfCities, config);
+        long tours = (long) numberOfAnts(numberOfCities, sparse) * numberOfCities * Integer.BYTES;
+        if (sparse) {
+            int k = config.getCandidateListSize() > 0 ? config.getCandidateListSize() : LOCAL_SEARCH_NEIGHBOURS;
+            return tours + 3L * numberOfCities * k * Double.BYTES;
         }
+        int cachedMatrices = config.getPheromoneUpdate() == PheromoneUpdate.LAZY
+                && config.getCandidateListSize() > 0 ? 1 : 2;
+        return tours + SymmetricMatrix.bytes(numberOfCities, config.getPheromoneStorage())
+                + cachedMatrices * SymmetricMatrix.bytes(numberOfCities, cacheStorage(config));
     }
 
+    /**
+     * Every ant slot owns its own stream, so a run depends only on the seed and not on
+     * how the ants are spread over tasks.
+     */
+    private SplittableRandom[] createAntRandoms(long seed) {
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[numberOfAnts];
+        for (int antIndex = 0; antIndex < numberOfAnts; antIndex++) {
+            randoms[antIndex] = root.split();
+        }
+        return randoms;
+    }
 
+    /**
+     * Runs until the iteration or stagnation limit, or for at most three minutes.
+     */
     @Override
     public Tour solve(List<City> cities) {
-        int iterationsWithoutImprovement = 0;
-        long startTime = System.currentTimeMillis();
+        return solve(cities, SolveContext.withTimeout(DEFAULT_TIME_LIMIT));
+    }
 
-        for (int iteration = 0; iteration < maxIterations; iteration++) {
-            if (System.currentTimeMillis() - startTime > MAX_TIME_MS) {
-                break;
-            }
+    @Override
+    public Tour solve(PointSet points) {
+        return solve(points, SolveContext.withTimeout(DEFAULT_TIME_LIMIT));
+    }
+
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
+        return solve(PointSet.of(cities), context);
+    }
 
-            IterationOutcome outcome = runIteration();
+    @Override
+    public Tour solve(PointSet cities, SolveContext context) {
+        attach(context);
+        context.begin(cities);
+        try {
+            offerLowerBound(context);
+            double reportedLength = Double.POSITIVE_INFINITY;
+            boolean running;
+            int reportedIterations = 0;
+            do {
+                running = iterate();
+                if (iterationsCompleted > reportedIterations) {
+                    reportedIterations = iterationsCompleted;
+                    context.reportProgress(iterationsCompleted, bestTourLength, bestTourLength < reportedLength,
+                            adaptivePheromoneWeight, adaptiveVisibilityWeight);
+                    reportedLength = bestTourLength;
+                }
+            } while (running);
 
-            updatePheromones(outcome.ants);
+            int[] tour = buildTourFromBest();
+            return Tour.of(cities, tour);
+        } finally {
+            context.finish();
+        }
+    }
 
-            if (!outcome.foundImprovement) {
-                iterationsWithoutImprovement++;
-                stagnationCounter++;
-                adaptParameters();
+    /**
+     * Gives {@code context} the Held-Karp bound, so that the run reports its gap and stops
+     * at the target gap.
+     */
+    void offerLowerBound(SolveContext context) {
+        LowerBounds.offerHeldKarpBound(context, points, nearestNeighbourLength);
+    }
 
-                if (iterationsWithoutImprovement >= STAGNATION_LIMIT) {
-                    this.iterationsCompleted = iteration + 1;
-                    break;
-                }
-            } else {
-                iterationsWithoutImprovement = 0;
-                stagnationCounter = Math.max(0, stagnationCounter - 2);
+    /**
+     * Makes iterations stop once {@code context} does and report improvements to it.
+     */
+    void attach(SolveContext context) {
+        this.context = context;
+        if (context.hasDeadline()) {
+            for (LocalSearch localSearch : localSearches) {
+                localSearch.setDeadline(context.getDeadlineNanos());
             }
+        }
+    }
+
+    /**
+     * Runs one iteration and adapts the parameters. Returns false, without running, once
+     * the iteration limit has been reached or the context says to stop, and also after the
+     * iteration that hits the stagnation limit.
+     */
+    boolean iterate() {
+        if (iterationsCompleted >= maxIterations || context.shouldStop()) {
+            return false;
+        }
+
+        boolean foundImprovement = runIteration();
+        iterationsCompleted++;
+        if (foundImprovement) {
+            context.offer(bestTour.clone(), bestTourLength);
+        }
 
-            this.iterationsCompleted = iteration + 1;
+        if (!foundImprovement) {
+            iterationsWithoutImprovement++;
+            stagnationCounter++;
+            adaptParameters();
+            return iterationsWithoutImprovement < STAGNATION_LIMIT;
         }
 
-        List<City> tourCities = buildTourFromBest(cities);
-        return new Tour(tourCities);
+        iterationsWithoutImprovement = 0;
+        stagnationCounter = Math.max(0, stagnationCounter - 2);
+        return true;
     }
 
-    private IterationOutcome runIteration() {
-        List<Ant> ants = new ArrayList<>();
-        boolean foundImprovement = false;
+    boolean hasBestTour() {
+        return hasBestTour;
+    }
 
-        for (int antIndex = 0; antIndex < numberOfAnts; antIndex++) {
-            Ant ant = new Ant(numberOfCities, distanceMatrix, pheromoneMatrix, random,
-                    adaptivePheromoneWeight, adaptiveVisibilityWeight);
-            ant.constructTour();
+    double getBestTourLength() {
+        return bestTourLength;
+    }
 
-            improveWithLocalSearch(ant.tour);
-            recalculateTourLength(ant);
+    double getPheromoneWeight() {
+        return adaptivePheromoneWeight;
+    }
 
-            ants.add(ant);
+    double getVisibilityWeight() {
+        return adaptiveVisibilityWeight;
+    }
 
-            if (ant.tourLength < bestTourLength) {
-                bestTourLength = ant.tourLength;
-                bestTour = new ArrayList<>(ant.tour);
+    int[] copyBestTour() {
+        return bestTour.clone();
+    }
+
+    /**
+     * Replaces the best tour with {@code tour} when it is shorter, so the next pheromone
+     * update reinforces it. Returns whether it was adopted.
+     */
+    boolean adoptTour(int[] tour, double tourLength) {
+        if (tourLength >= bestTourLength) {
+            return false;
+        }
+        System.arraycopy(tour, 0, bestTour, 0, numberOfCities);
+        bestTourLength = tourLength;
+        hasBestTour = true;
+        iterationsWithoutImprovement = 0;
+        return true;
+    }
+
+    /**
+     * Builds one generation of ants and updates the pheromone trails. After the first
+     * iteration this reuses every buffer and allocates nothing on the calling thread. Once
+     * the context says to stop, remaining ants and the pheromone update are skipped.
+     */
+    boolean runIteration() {
+        updateChoiceInfo();
+        constructAnts();
+
+        boolean foundImprovement = false;
+        for (int antIndex = 0; antIndex < numberOfAnts; antIndex++) {
+            if (antTourLengths[antIndex] < bestTourLength) {
+                bestTourLength = antTourLengths[antIndex];
+                System.arraycopy(antTours[antIndex], 0, bestTour, 0, numberOfCities);
+                hasBestTour = true;
                 foundImprovement = true;
             }
         }
 
-        return new IterationOutcome(ants, foundImprovement);
-    }
-
-    private void recalculateTourLength(Ant ant) {
-        ant.tourLength = 0.0;
-        for (int i = 0; i < ant.tour.size(); i++) {
-            int cityA = ant.tour.get(i);
-            int cityB = ant.tour.get((i + 1) % ant.tour.size());
-            ant.tourLength += distanceMatrix[cityA][cityB];
+        if (!context.shouldStop()) {
+            updatePheromones();
         }
+        return foundImprovement;
     }
 
-    private List<City> buildTourFromBest(List<City> cities) {
-        List<City> tourCities = new ArrayList<>();
-        if (bestTour == null || bestTour.isEmpty()) {
-            return tourCities;
+    private void constructAnts() {
+        int tasks = workers.length;
+        if (tasks == 1) {
+            constructAnts(0, 0, numberOfAnts);
+            return;
         }
-        for (int cityIndex : bestTour) {
-            tourCities.add(cities.get(cityIndex));
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks - 1];
+        for (int task = 1; task < tasks; task++) {
+            int worker = task;
+            int from = task * numberOfAnts / tasks;
+            int to = (task + 1) * numberOfAnts / tasks;
+            futures[task - 1] = CompletableFuture.runAsync(() -> constructAnts(worker, from, to), config.getExecutor());
         }
-        return tourCities;
+        constructAnts(0, 0, numberOfAnts / tasks);
+        CompletableFuture.allOf(futures).join();
     }
 
-    private static class IterationOutcome {
-        final List<Ant> ants;
-        final boolean foundImprovement;
+    private void constructAnts(int worker, int from, int to) {
+        Ant ant = workers[worker];
+        LocalSearch localSearch = localSearches[worker];
 
-        IterationOutcome(List<Ant> ants, boolean foundImprovement) {
-            this.ants = ants;
-            this.foundImprovement = foundImprovement;
+        for (int antIndex = from; antIndex < to; antIndex++) {
+            if (context.shouldStop()) {
+                antTourLengths[antIndex] = Double.POSITIVE_INFINITY;
+                continue;
+            }
+            int[] tour = antTours[antIndex];
+            ant.constructTour(tour, antRandoms[antIndex]);
+
+            localSearch.improve(tour);
+            antTourLengths[antIndex] = DistanceMatrices.tourLength(tour, distanceMatrix);
         }
     }
 
-    private void updatePheromones(List<Ant> ants) {
-        for (int i = 0; i < numberOfCities; i++) {
-            for (int j = 0; j < numberOfCities; j++) {
-                pheromoneMatrix[i][j] *= (1.0 - PHEROMONE_EVAPORATION_COEFFICIENT);
+    /**
+     * Falls back to the input order when the run was stopped before any ant finished.
+     */
+    private int[] buildTourFromBest() {
+        if (!hasBestTour) {
+            int[] inputOrder = new int[numberOfCities];
+            for (int i = 0; i < numberOfCities; i++) {
+                inputOrder[i] = i;
             }
+            return inputOrder;
         }
-
-        depositPheromones(ants);
-        reinforceBestTour();
-        applyMinMaxBounds();
+        return bestTour;
     }
 
-    private void depositPheromones(List<Ant> ants) {
-        for (Ant ant : ants) {
-            double pheromoneDeposit = Q / ant.tourLength;
-
-            for (int i = 0; i < ant.tour.size(); i++) {
-                int cityA = ant.tour.get(i);
-                int cityB = ant.tour.get((i + 1) % ant.tour.size());
-
-                pheromoneMatrix[cityA][cityB] += pheromoneDeposit;
-                pheromoneMatrix[cityB][cityA] += pheromoneDeposit;
-            }
+    void updatePheromones() {
+        for (int antIndex = 0; antIndex < numberOfAnts; antIndex++) {
+            strategy.localUpdate(pheromoneMatrix, antTours[antIndex]);
         }
+        strategy.globalUpdate(pheromoneMatrix, antTours, antTourLengths, bestTour, bestTourLength);
     }
 
-    private void reinforceBestTour() {
-        if (bestTour != null && !bestTour.isEmpty()) {
-            double bestTourPheromoneDeposit = Q / bestTourLength;
+    /**
+     * Length of the tour that always moves to the nearest unvisited city, used to scale the
+     * initial trails of the textbook variants. Found with a k-d tree in O(n log n).
+     */
+    private double nearestNeighbourTourLength() {
+        KdTree unvisited = KdTree.of(points.sharedXs(), points.sharedYs());
+        int current = 0;
+        unvisited.remove(current);
+        double length = 0.0;
+
+        for (int step = 1; step < numberOfCities; step++) {
+            int nearest = unvisited.nearest(points.getX(current), points.getY(current));
+            unvisited.remove(nearest);
+            length += distanceMatrix.distance(current, nearest);
+            current = nearest;
+        }
 
-            for (int i = 0; i < bestTour.size(); i++) {
-                int cityA = bestTour.get(i);
-                int cityB = bestTour.get((i + 1) % bestTour.size());
+        return length + distanceMatrix.distance(current, 0);
+    }
 
-                pheromoneMatrix[cityA][cityB] += bestTourPheromoneDeposit;
-                pheromoneMatrix[cityB][cityA] += bestTourPheromoneDeposit;
-            }
+    /**
+     * Computes {@code pheromone^alpha * (1/d)^beta} for the candidate edges into the dense
+     * per-city table. With eager updates or without candidate lists it also caches the value
+     * of every edge, so ants only read it; with lazy updates ants rank the other edges with
+     * {@link #choiceRank(int, int)}, and in sparse mode they never need them.
+     * Runs once per iteration, after the previous pheromone update and parameter adaptation.
+     * The heuristic parts are rebuilt only when a weight has changed.
+     */
+    private void updateChoiceInfo() {
+        if (heuristicWeight != adaptiveVisibilityWeight) {
+            heuristicWeight = adaptiveVisibilityWeight;
+            updateHeuristicMatrix();
         }
-    }
 
-    private void applyMinMaxBounds() {
-        for (int i = 0; i < numberOfCities; i++) {
-            for (int j = 0; j < numberOfCities; j++) {
-                if (pheromoneMatrix[i][j] < MIN_PHEROMONE) {
-                    pheromoneMatrix[i][j] = MIN_PHEROMONE;
-                } else if (pheromoneMatrix[i][j] > MAX_PHEROMONE) {
-                    pheromoneMatrix[i][j] = MAX_PHEROMONE;
+        boolean linearPheromone = adaptivePheromoneWeight == 1.0;
+        int k = candidateListLength();
+        if (choiceInfoMatrix == null) {
+            if (rankingHeuristic != null) {
+                updateRankingHeuristic();
+            }
+            for (int city = 0; city < numberOfCities; city++) {
+                for (int i = 0; i < k; i++) {
+                    double pheromone = pheromone(city, candidateLists[city][i], linearPheromone);
+                    candidateChoiceInfo[city * k + i] = pheromone * candidateHeuristic[city * k + i];
                 }
             }
+            return;
         }
-    }
-
-    private double calculate2OptGain(List<Integer> tour, int i, int j) {
-        int n = tour.size();
-        int a = tour.get(i);
-        int b = tour.get((i + 1) % n);
-        int c = tour.get(j);
-        int d = tour.get((j + 1) % n);
 
-        double currentDistance = distanceMatrix[a][b] + distanceMatrix[c][d];
-        double newDistance = distanceMatrix[a][c] + distanceMatrix[b][d];
+        for (int i = 0; i < numberOfCities; i++) {
+            for (int j = i + 1; j < numberOfCities; j++) {
+                choiceInfoMatrix.set(i, j, pheromone(i, j, linearPheromone) * heuristicMatrix.get(i, j));
+            }
+        }
 
-        return currentDistance - newDistance;
+        for (int city = 0; city < numberOfCities; city++) {
+            for (int i = 0; i < k; i++) {
+                candidateChoiceInfo[city * k + i] = choiceInfoMatrix.get(city, candidateLists[city][i]);
+            }
+        }
     }
 
-    private void apply2Opt(List<Integer> tour, int i, int j) {
-        int start = i + 1;
-        int end = j;
+    /**
+     * Orders the edges of a city like their choice info, for ants running without the
+     * cached matrix, which only compare it: {@code pheromone * (1/d)^(beta/alpha)} is the
+     * choice info to the power {@code 1/alpha}, and alpha is positive.
+     */
+    private double choiceRank(int cityA, int cityB) {
+        return pheromoneMatrix.get(cityA, cityB) * rankingHeuristic.get(cityA, cityB);
+    }
 
-        while (start < end) {
-            int temp = tour.get(start);
-            tour.set(start, tour.get(end));
-            tour.set(end, temp);
-            start++;
-            end--;
+    private void updateRankingHeuristic() {
+        double exponent = adaptiveVisibilityWeight / adaptivePheromoneWeight;
+        if (exponent == rankingExponent) {
+            return;
+        }
+        rankingExponent = exponent;
+        for (int i = 0; i < numberOfCities; i++) {
+            for (int j = i + 1; j < numberOfCities; j++) {
+                rankingHeuristic.set(i, j, heuristic(distanceMatrix.distance(i, j), exponent));
+            }
         }
     }
 
-    private void improveWithLocalSearch(List<Integer> tour) {
-        boolean improved = true;
-
-        while (improved) {
-            improved = false;
-            int n = tour.size();
+    private double pheromone(int cityA, int cityB, boolean linearPheromone) {
+        double pheromone = pheromoneMatrix.get(cityA, cityB);
+        return linearPheromone ? pheromone : Math.pow(pheromone, adaptivePheromoneWeight);
+    }
 
-            for (int i = 0; i < n - 2; i++) {
-                for (int j = i + 2; j < n; j++) {
-                    double gain = calculate2OptGain(tour, i, j);
+    private int candidateListLength() {
+        return candidateLists.length == 0 ? 0 : candidateLists[0].length;
+    }
 
-                    if (gain > 0.01) {
-                        apply2Opt(tour, i, j);
-                        improved = true;
-                        break;
-                    }
+    private void updateHeuristicMatrix() {
+        if (candidateHeuristic != null) {
+            int k = candidateListLength();
+            for (int city = 0; city < numberOfCities; city++) {
+                for (int i = 0; i < k; i++) {
+                    double distance = distanceMatrix.distance(city, candidateLists[city][i]);
+                    candidateHeuristic[city * k + i] = heuristic(distance, heuristicWeight);
                 }
-                if (improved) break;
             }
+            return;
         }
+
+        for (int i = 0; i < numberOfCities; i++) {
+            for (int j = i + 1; j < numberOfCities; j++) {
+                heuristicMatrix.set(i, j, heuristic(distanceMatrix.distance(i, j), heuristicWeight));
+            }
+        }
+    }
+
+    /**
+     * {@code (1/d)^weight}, with distances below one counted as one, as TSPLIB tools do, so
+     * cities that coincide or round to distance zero do not get an infinite attraction.
+     */
+    private static double heuristic(double distance, double weight) {
+        return Math.pow(1.0 / Math.max(1.0, distance), weight);
     }
 
     private void adaptParameters() {
@@ -0,0 +1,19 @@
+package org.example.domain.algorithm;
+
+public enum AntColonyVariant {
+    HYBRID("Hybrid Ant System"),
+    ANT_SYSTEM("Ant System"),
+    RANK_BASED_ANT_SYSTEM("Rank-Based Ant System"),
+    MAX_MIN_ANT_SYSTEM("MAX-MIN Ant System"),
+    ANT_COLONY_SYSTEM("Ant Colony System");
+
+    private final String displayName;
+
+    AntColonyVariant(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.domain.algorithm;
+
+/**
+ * Ant System: every ant deposits the inverse of its tour length, without bounds.
+ */
+final class AntSystemStrategy implements PheromoneStrategy {
+    private static final double EVAPORATION_RATE = 0.5;
+
+    @Override
+    public double evaporationRate() {
+        return EVAPORATION_RATE;
+    }
+
+    @Override
+    public double initialPheromone(int numberOfCities, int numberOfAnts, double nearestNeighbourTourLength) {
+        return numberOfAnts / nearestNeighbourTourLength;
+    }
+
+    @Override
+    public void globalUpdate(PheromoneMatrix pheromone, int[][] tours, double[] tourLengths,
+                             int[] bestTour, double bestTourLength) {
+        pheromone.evaporate();
+        for (int antIndex = 0; antIndex < tours.length; antIndex++) {
+            PheromoneStrategy.depositAlongTour(pheromone, tours[antIndex], 1.0 / tourLengths[antIndex]);
+        }
+        pheromone.applyBounds(0.0, Double.MAX_VALUE);
+    }
+}
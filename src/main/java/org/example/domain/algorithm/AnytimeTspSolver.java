@@ -0,0 +1,31 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Solver that can be stopped early through a {@link SolveContext} and reports its best tour
+ * while it runs. When stopped it still returns a complete tour, the best one found so far.
+ */
+public interface AnytimeTspSolver extends TspSolver {
+
+    Tour solve(List<City> cities, SolveContext context);
+
+    default Tour solve(PointSet points, SolveContext context) {
+        return solve(points.toCities(), context);
+    }
+
+    /**
+     * Adapts {@code solver} to a context: solvers that already support one are returned
+     * as they are; any other runs to completion, then reports its tour and finishes the
+     * context so that progress subscribers are released.
+     */
+    static AnytimeTspSolver of(TspSolver solver) {
+        Objects.requireNonNull(solver, "solver cannot be null");
+        return solver instanceof AnytimeTspSolver anytime ? anytime : new CompletingTspSolver(solver);
+    }
+}
@@ -0,0 +1,188 @@
+package org.example.domain.algorithm;
+
+/**
+ * Shared machinery of the neighbour-list searches: a {@link TourStructure}, so that
+ * successor, predecessor and betweenness queries are O(1), and a queue of active cities
+ * acting as don't-look bits. Every move is carried out as a sequence of 2-opt reversals;
+ * tours of up to {@link TourStructure#TWO_LEVEL_MIN_CITIES} cities use the array with a
+ * position index, larger ones the two-level list.
+ *
+ * <p>An instance keeps its buffers between calls and must not be shared between threads.
+ */
+abstract class ArrayLocalSearch implements LocalSearch {
+    static final double EPSILON = 1e-9;
+    private static final int DEADLINE_CHECK_MASK = 255;
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    final DistanceMatrix distanceMatrix;
+    final int[][] neighbourLists;
+    final MoveSelection moveSelection;
+
+    private final TourStructure tourStructure;
+    private final int[] queue;
+    private final boolean[] queued;
+    private int queueHead;
+    private int queueSize;
+
+    private int[] tour;
+    int n;
+    private int appliedMoves;
+    private long deadlineNanos = NO_DEADLINE;
+
+    ArrayLocalSearch(DistanceMatrix distanceMatrix, int[][] neighbourLists, MoveSelection moveSelection) {
+        this(distanceMatrix, neighbourLists, moveSelection, TourStructure.create(distanceMatrix.size()));
+    }
+
+    /**
+     * Uses the given tour structure whatever the size, for comparing the structures.
+     */
+    ArrayLocalSearch(DistanceMatrix distanceMatrix, int[][] neighbourLists, MoveSelection moveSelection,
+                     TourStructure tourStructure) {
+        this.distanceMatrix = distanceMatrix;
+        this.neighbourLists = neighbourLists;
+        this.moveSelection = moveSelection;
+        this.tourStructure = tourStructure;
+
+        int numberOfCities = distanceMatrix.size();
+        this.queue = new int[numberOfCities];
+        this.queued = new boolean[numberOfCities];
+    }
+
+    /**
+     * Improves {@code tour} in place until no move around any city shortens it. Cities
+     * whose don't-look bit is set are skipped until one of their tour edges changes. Stops
+     * early, with a valid tour, once the deadline has passed.
+     */
+    @Override
+    public boolean improve(int[] tour) {
+        if (!start(tour)) {
+            return false;
+        }
+        for (int i = 0; i < n; i++) {
+            activate(tour[i]);
+        }
+        return processQueue();
+    }
+
+    /**
+     * Like {@link #improve(int[])}, but only the first {@code count} of {@code startCities}
+     * start active. Used after a small perturbation of an otherwise locally optimal tour.
+     */
+    boolean improve(int[] tour, int[] startCities, int count) {
+        if (!start(tour)) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            activate(startCities[i]);
+        }
+        return processQueue();
+    }
+
+    private boolean start(int[] tour) {
+        this.tour = tour;
+        this.n = tour.length;
+        this.appliedMoves = 0;
+        if (n < minimumCities()) {
+            return false;
+        }
+
+        queueHead = 0;
+        queueSize = 0;
+        for (int i = 0; i < n; i++) {
+            queued[tour[i]] = false;
+        }
+        tourStructure.load(tour);
+        return true;
+    }
+
+    private boolean processQueue() {
+        int processed = 0;
+        while (queueSize > 0) {
+            if ((++processed & DEADLINE_CHECK_MASK) == 0 && deadlineNanos != NO_DEADLINE
+                    && System.nanoTime() - deadlineNanos > 0) {
+                break;
+            }
+            int city = queue[queueHead];
+            queueHead = (queueHead + 1) % n;
+            queueSize--;
+            queued[city] = false;
+
+            improveCity(city);
+        }
+
+        tourStructure.store(tour);
+        return appliedMoves > 0;
+    }
+
+    @Override
+    public void setDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Looks for an improving move involving {@code city} and applies it.
+     */
+    abstract void improveCity(int city);
+
+    int minimumCities() {
+        return 4;
+    }
+
+    final double distance(int cityA, int cityB) {
+        return distanceMatrix.distance(cityA, cityB);
+    }
+
+    final int next(int city) {
+        return tourStructure.next(city);
+    }
+
+    final int previous(int city) {
+        return tourStructure.previous(city);
+    }
+
+    final int successor(int city, boolean forward) {
+        return forward ? next(city) : previous(city);
+    }
+
+    /**
+     * Whether {@code b} lies on the path from {@code a} to {@code c}, both ends included,
+     * walking in the given direction.
+     */
+    final boolean between(int a, int b, int c, boolean forward) {
+        return forward ? tourStructure.between(a, b, c) : tourStructure.between(c, b, a);
+    }
+
+    /**
+     * Replaces tour edges (a, b) and (c, d) with (a, c) and (b, d). The caller guarantees
+     * that this reconnection yields a single tour.
+     */
+    final void makeTwoOptMove(int a, int b, int c, int d) {
+        if (next(a) == b) {
+            tourStructure.reverse(b, c);
+        } else {
+            tourStructure.reverse(c, b);
+        }
+        appliedMoves++;
+    }
+
+    /**
+     * Reverts the most recent {@code makeTwoOptMove(a, b, c, d)} that has not been undone
+     * yet.
+     */
+    final void undoTwoOptMove(int a, int b, int c, int d) {
+        if (next(a) == c) {
+            tourStructure.reverse(c, b);
+        } else {
+            tourStructure.reverse(b, c);
+        }
+        appliedMoves--;
+    }
+
+    final void activate(int city) {
+        if (!queued[city]) {
+            queued[city] = true;
+            queue[(queueHead + queueSize) % n] = city;
+            queueSize++;
+        }
+    }
+}
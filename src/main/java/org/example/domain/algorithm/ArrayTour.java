@@ -0,0 +1,83 @@
+package org.example.domain.algorithm;
+
+/**
+ * The tour array itself plus the inverse position index. A reversal swaps the cities of
+ * the shorter side, so it costs O(n) in the worst case and far less for the short
+ * reversals typical of neighbour-list searches.
+ */
+final class ArrayTour implements TourStructure {
+    private final int[] positions;
+    private int[] tour;
+    private int n;
+
+    ArrayTour(int numberOfCities) {
+        this.positions = new int[numberOfCities];
+    }
+
+    @Override
+    public void load(int[] tour) {
+        this.tour = tour;
+        this.n = tour.length;
+        for (int i = 0; i < n; i++) {
+            positions[tour[i]] = i;
+        }
+    }
+
+    /**
+     * Nothing to do: every change is made to the loaded array.
+     */
+    @Override
+    public void store(int[] tour) {
+    }
+
+    @Override
+    public int next(int city) {
+        int position = positions[city] + 1;
+        return tour[position == n ? 0 : position];
+    }
+
+    @Override
+    public int previous(int city) {
+        int position = positions[city];
+        return tour[position == 0 ? n - 1 : position - 1];
+    }
+
+    @Override
+    public boolean between(int a, int b, int c) {
+        int fromA = positions[b] - positions[a];
+        int toC = positions[c] - positions[a];
+        if (fromA < 0) {
+            fromA += n;
+        }
+        if (toC < 0) {
+            toC += n;
+        }
+        return fromA <= toC;
+    }
+
+    @Override
+    public void reverse(int fromCity, int toCity) {
+        int i = positions[fromCity];
+        int j = positions[toCity];
+        int length = Math.floorMod(j - i, n) + 1;
+
+        if (2 * length > n) {
+            int complementStart = (j + 1) % n;
+            j = Math.floorMod(i - 1, n);
+            i = complementStart;
+            length = n - length;
+        }
+
+        for (int swaps = length / 2; swaps > 0; swaps--) {
+            int cityI = tour[i];
+            int cityJ = tour[j];
+            tour[i] = cityJ;
+            positions[cityJ] = i;
+            tour[j] = cityI;
+            positions[cityI] = j;
+
+            i = i + 1 == n ? 0 : i + 1;
+            j = j == 0 ? n - 1 : j - 1;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.domain.algorithm;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+public class BranchAndBoundConfig {
+    private final TspSolver initialSolver;
+    private final ForkJoinPool pool;
+
+    private BranchAndBoundConfig(Builder builder) {
+        this.initialSolver = builder.initialSolver;
+        this.pool = builder.pool;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static BranchAndBoundConfig defaults() {
+        return builder().build();
+    }
+
+    public TspSolver getInitialSolver() {
+        return initialSolver;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public static class Builder {
+        private TspSolver initialSolver = new GreedyTspSolver(GreedyConfig.builder()
+                .setStarts(GreedyConfig.ALL_STARTS)
+                .setTwoOpt(true)
+                .build());
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
+
+        /**
+         * Solver whose tour is the first incumbent. The shorter it is, the more of the
+         * search tree is pruned. Defaults to nearest neighbour from every city with 2-opt.
+         */
+        public Builder setInitialSolver(TspSolver initialSolver) {
+            this.initialSolver = initialSolver;
+            return this;
+        }
+
+        /**
+         * Pool the subtrees are distributed over by work stealing. The solver never shuts
+         * it down.
+         */
+        public Builder setPool(ForkJoinPool pool) {
+            this.pool = pool;
+            return this;
+        }
+
+        public BranchAndBoundConfig build() {
+            Objects.requireNonNull(initialSolver, "Initial solver must be set");
+            Objects.requireNonNull(pool, "Pool must be set");
+            return new BranchAndBoundConfig(this);
+        }
+    }
+}
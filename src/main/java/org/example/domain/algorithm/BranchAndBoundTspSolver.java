@@ -0,0 +1,471 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Exact branch and bound for instances too large for {@link HeldKarpTspSolver}. Every
+ * node of the search tree fixes some edges as forced or excluded and is bounded by the
+ * minimum 1-tree under those constraints, with node penalties tuned by subgradient
+ * optimisation (the Held-Karp bound). Nodes whose bound reaches the incumbent are pruned;
+ * the others branch on the tree edges at a city of degree above two.
+ *
+ * <p>Subtrees run as fork-join tasks, so idle workers steal them, and all tasks share the
+ * incumbent through an atomic reference. When the context stops the search, the
+ * unexplored nodes' bounds give a proven lower bound, available with the gap through
+ * {@link SolveContext#getLowerBound()} and {@link SolveContext#getGap()}; after a full
+ * search the lower bound equals the tour length.
+ */
+public class BranchAndBoundTspSolver implements AnytimeTspSolver {
+    private static final Duration DEFAULT_TIME_LIMIT = Duration.ofMinutes(3);
+
+    private static final int ROOT_MAX_ITERATIONS = 2000;
+    private static final int ROOT_STALL_ITERATIONS = 20;
+    private static final double ROOT_INITIAL_STEP = 2.0;
+    private static final double MIN_STEP = 1e-4;
+    private static final int NODE_ITERATIONS = 20;
+    private static final double NODE_STEP = 0.5;
+    private static final double RELATIVE_TOLERANCE = 1e-10;
+
+    private final BranchAndBoundConfig config;
+
+    public BranchAndBoundTspSolver() {
+        this(BranchAndBoundConfig.defaults());
+    }
+
+    public BranchAndBoundTspSolver(BranchAndBoundConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+    }
+
+    /**
+     * Searches for at most three minutes.
+     */
+    @Override
+    public Tour solve(List<City> cities) {
+        return solve(cities, SolveContext.withTimeout(DEFAULT_TIME_LIMIT));
+    }
+
+    @Override
+    public Tour solve(PointSet points) {
+        return solve(points, SolveContext.withTimeout(DEFAULT_TIME_LIMIT));
+    }
+
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities), context);
+    }
+
+    /**
+     * The initial solver gets the cities as objects, so that its tour can be mapped back
+     * to indices whatever representation it uses.
+     */
+    @Override
+    public Tour solve(PointSet points, SolveContext context) {
+        if (points == null || points.size() == 0) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        context.begin(points);
+        try {
+            List<City> cities = points.toCities();
+            int[] initialTour = indicesOf(cities, config.getInitialSolver().solve(cities));
+            Search search = new Search(points, context, initialTour);
+            int[] tour = points.size() <= 3 ? initialTour : search.run();
+
+            return Tour.of(points, tour);
+        } finally {
+            context.finish();
+        }
+    }
+
+    private static int[] indicesOf(List<City> cities, Tour tour) {
+        Map<City, Integer> indices = new IdentityHashMap<>();
+        for (int i = 0; i < cities.size(); i++) {
+            indices.put(cities.get(i), i);
+        }
+        int[] tourIndices = new int[cities.size()];
+        List<City> tourCities = tour.getCities();
+        for (int position = 0; position < tourIndices.length; position++) {
+            Integer index = indices.get(tourCities.get(position));
+            if (index == null) {
+                throw new IllegalStateException("Initial solver returned cities not in the input");
+            }
+            tourIndices[position] = index;
+        }
+        return tourIndices;
+    }
+
+    private record Incumbent(int[] tour, double length) {
+    }
+
+    /**
+     * State of one solve, shared by all node tasks.
+     */
+    private final class Search {
+        private final int n;
+        private final double[] distances;
+        private final SolveContext context;
+        private final AtomicReference<Incumbent> incumbent;
+        private final AtomicLong unexploredBoundBits = new AtomicLong(Double.doubleToLongBits(Double.POSITIVE_INFINITY));
+
+        Search(PointSet cities, SolveContext context, int[] initialTour) {
+            this.n = cities.size();
+            this.context = context;
+            this.distances = new double[n * n];
+            for (int a = 0; a < n; a++) {
+                for (int b = 0; b < n; b++) {
+                    distances[a * n + b] = cities.distance(a, b);
+                }
+            }
+            Incumbent initial = new Incumbent(initialTour, tourLength(initialTour));
+            this.incumbent = new AtomicReference<>(initial);
+            context.offer(initialTour, initial.length());
+        }
+
+        int[] run() {
+            Node root = new Node(new byte[n * n], new double[n], 0.0);
+            double rootBound = optimiseRoot(root);
+            if (!Double.isNaN(rootBound)) {
+                context.offerLowerBound(Math.min(rootBound, incumbentLength()));
+                config.getPool().invoke(new NodeTask(root));
+            }
+
+            double unexplored = Double.longBitsToDouble(unexploredBoundBits.get());
+            context.offerLowerBound(Math.min(unexplored, incumbentLength()));
+            return incumbent.get().tour();
+        }
+
+        /**
+         * Subgradient optimisation of the root penalties with a step that halves whenever
+         * the bound has not improved for a while.
+         */
+        private double optimiseRoot(Node root) {
+            OneTree tree = new OneTree(n, distances);
+            double[] pi = root.pi.clone();
+            double step = ROOT_INITIAL_STEP;
+            int sinceImprovement = 0;
+            root.bound = Double.NEGATIVE_INFINITY;
+            for (int iteration = 0; iteration < ROOT_MAX_ITERATIONS && step > MIN_STEP; iteration++) {
+                if (context.shouldStop()) {
+                    break;
+                }
+                double bound = tree.compute(pi, root.states);
+                if (bound > root.bound) {
+                    root.bound = bound;
+                    System.arraycopy(pi, 0, root.pi, 0, n);
+                    sinceImprovement = 0;
+                } else if (++sinceImprovement == ROOT_STALL_ITERATIONS) {
+                    step /= 2;
+                    sinceImprovement = 0;
+                }
+                if (tree.isTour()) {
+                    offerTour(tree.toTour());
+                    break;
+                }
+                if (isPruned(root.bound)) {
+                    break;
+                }
+                moveAlongSubgradient(tree, pi, bound, step);
+            }
+            return root.bound;
+        }
+
+        private void moveAlongSubgradient(OneTree tree, double[] pi, double bound, double step) {
+            int squaredNorm = 0;
+            for (int city = 0; city < n; city++) {
+                int excess = tree.degree(city) - 2;
+                squaredNorm += excess * excess;
+            }
+            double size = step * (incumbentLength() - bound) / squaredNorm;
+            for (int city = 0; city < n; city++) {
+                pi[city] += size * (tree.degree(city) - 2);
+            }
+        }
+
+        double incumbentLength() {
+            return incumbent.get().length();
+        }
+
+        boolean isPruned(double bound) {
+            double length = incumbentLength();
+            return bound >= length - RELATIVE_TOLERANCE * length;
+        }
+
+        void offerTour(int[] tour) {
+            Incumbent candidate = new Incumbent(tour, tourLength(tour));
+            Incumbent current = incumbent.accumulateAndGet(candidate, (held, offered) ->
+                    offered.length() < held.length() ? offered : held);
+            if (current == candidate) {
+                context.offer(tour, candidate.length());
+            }
+        }
+
+        /**
+         * Records the bound of a node left unexplored because the search was stopped.
+         */
+        void abandon(double bound) {
+            unexploredBoundBits.accumulateAndGet(Double.doubleToLongBits(bound),
+                    (held, offered) -> Double.longBitsToDouble(offered) < Double.longBitsToDouble(held)
+                            ? offered
+                            : held);
+        }
+
+        private double tourLength(int[] tour) {
+            double length = 0.0;
+            for (int position = 0; position < n; position++) {
+                int next = tour[position + 1 == n ? 0 : position + 1];
+                length += distances[tour[position] * n + next];
+            }
+            return length;
+        }
+
+        /**
+         * A subproblem: edge states for every ordered pair of cities, the penalties its
+         * parent ended with, and a valid lower bound for it.
+         */
+        private final class Node {
+            final byte[] states;
+            final double[] pi;
+            double bound;
+
+            Node(byte[] states, double[] pi, double bound) {
+                this.states = states;
+                this.pi = pi;
+                this.bound = bound;
+            }
+        }
+
+        private final class NodeTask extends RecursiveAction {
+            private final Node node;
+
+            NodeTask(Node node) {
+                this.node = node;
+            }
+
+            @Override
+            protected void compute() {
+                if (context.shouldStop()) {
+                    abandon(node.bound);
+                    return;
+                }
+                if (isPruned(node.bound)) {
+                    return;
+                }
+
+                OneTree tree = new OneTree(n, distances);
+                if (!tightenBound(tree)) {
+                    return;
+                }
+                List<NodeTask> children = branch(tree);
+                invokeAll(children);
+            }
+
+            /**
+             * Runs a few subgradient steps from the parent's penalties and leaves the tree
+             * of the best ones in {@code tree}. Returns false when the node is infeasible,
+             * pruned or solved by a tour.
+             */
+            private boolean tightenBound(OneTree tree) {
+                double[] pi = node.pi.clone();
+                double[] bestPi = node.pi.clone();
+                double bestBound = Double.NEGATIVE_INFINITY;
+                for (int iteration = 0; iteration < NODE_ITERATIONS; iteration++) {
+                    double bound = tree.compute(pi, node.states);
+                    if (Double.isNaN(bound)) {
+                        return false;
+                    }
+                    if (bound > bestBound) {
+                        bestBound = bound;
+                        System.arraycopy(pi, 0, bestPi, 0, n);
+                    }
+                    if (tree.isTour()) {
+                        offerTour(tree.toTour());
+                        return false;
+                    }
+                    if (isPruned(bound)) {
+                        return false;
+                    }
+                    moveAlongSubgradient(tree, pi, bound, NODE_STEP);
+                }
+                node.bound = Math.max(node.bound, bestBound);
+                System.arraycopy(bestPi, 0, node.pi, 0, n);
+                tree.compute(node.pi, node.states);
+                return true;
+            }
+
+            /**
+             * Picks the city of highest degree and its two cheapest free tree edges e1 and
+             * e2. The children exclude e1, force e1 and exclude e2, and force both; a city
+             * that already has a forced edge only gets the first two.
+             */
+            private List<NodeTask> branch(OneTree tree) {
+                int city = 0;
+                for (int other = 1; other < n; other++) {
+                    if (tree.degree(other) > tree.degree(city)) {
+                        city = other;
+                    }
+                }
+
+                int first = -1;
+                int second = -1;
+                for (int other = 0; other < n; other++) {
+                    if (other == city || node.states[city * n + other] != OneTree.FREE || !tree.contains(city, other)) {
+                        continue;
+                    }
+                    double cost = distances[city * n + other] + node.pi[other];
+                    if (first < 0 || cost < distances[city * n + first] + node.pi[first]) {
+                        second = first;
+                        first = other;
+                    } else if (second < 0 || cost < distances[city * n + second] + node.pi[second]) {
+                        second = other;
+                    }
+                }
+
+                List<NodeTask> children = new ArrayList<>(3);
+                boolean hasForcedEdge = forcedDegree(node.states, city) > 0;
+
+                byte[] excludeFirst = node.states.clone();
+                if (exclude(excludeFirst, city, first)) {
+                    children.add(child(excludeFirst));
+                }
+
+                byte[] forceFirst = node.states.clone();
+                if (force(forceFirst, city, first)) {
+                    if (hasForcedEdge) {
+                        children.add(child(forceFirst));
+                    } else {
+                        byte[] forceBoth = forceFirst.clone();
+                        if (exclude(forceFirst, city, second)) {
+                            children.add(child(forceFirst));
+                        }
+                        if (force(forceBoth, city, second)) {
+                            children.add(child(forceBoth));
+                        }
+                    }
+                }
+                return children;
+            }
+
+            private NodeTask child(byte[] states) {
+                return new NodeTask(new Node(states, node.pi.clone(), node.bound));
+            }
+        }
+
+        private boolean exclude(byte[] states, int a, int b) {
+            if (states[a * n + b] == OneTree.FORCED) {
+                return false;
+            }
+            setState(states, a, b, OneTree.EXCLUDED);
+            return true;
+        }
+
+        /**
+         * Forces edge (a, b). Excludes the remaining free edges of a city once it has two
+         * forced edges, and the edge that would close the forced path through (a, b) into a
+         * cycle short of a full tour. Returns false when the edge cannot be forced.
+         */
+        private boolean force(byte[] states, int a, int b) {
+            if (states[a * n + b] == OneTree.EXCLUDED
+                    || forcedDegree(states, a) == 2 || forcedDegree(states, b) == 2) {
+                return false;
+            }
+            int endOfA = pathEnd(states, a);
+            int endOfB = pathEnd(states, b);
+            if (endOfA == b) {
+                boolean closesTour = pathSize(states, a) == n;
+                if (closesTour) {
+                    setState(states, a, b, OneTree.FORCED);
+                }
+                return closesTour;
+            }
+            setState(states, a, b, OneTree.FORCED);
+
+            for (int city : new int[]{a, b}) {
+                if (forcedDegree(states, city) == 2) {
+                    for (int other = 0; other < n; other++) {
+                        if (other != city && states[city * n + other] == OneTree.FREE) {
+                            setState(states, city, other, OneTree.EXCLUDED);
+                        }
+                    }
+                }
+            }
+
+            int size = pathSize(states, endOfA);
+            if (size > 2 && size < n) {
+                setState(states, endOfA, endOfB, OneTree.EXCLUDED);
+            }
+            return true;
+        }
+
+        private void setState(byte[] states, int a, int b, byte state) {
+            states[a * n + b] = state;
+            states[b * n + a] = state;
+        }
+
+        private int forcedDegree(byte[] states, int city) {
+            int degree = 0;
+            int row = city * n;
+            for (int other = 0; other < n; other++) {
+                if (states[row + other] == OneTree.FORCED) {
+                    degree++;
+                }
+            }
+            return degree;
+        }
+
+        /**
+         * The other end of the path of forced edges starting at {@code city}, which must
+         * have at most one forced edge; the city itself when it has none.
+         */
+        private int pathEnd(byte[] states, int city) {
+            int previous = -1;
+            int current = city;
+            while (true) {
+                int next = forcedNeighbour(states, current, previous);
+                if (next < 0) {
+                    return current;
+                }
+                previous = current;
+                current = next;
+            }
+        }
+
+        private int pathSize(byte[] states, int end) {
+            int size = 1;
+            int previous = -1;
+            int current = end;
+            int next;
+            while ((next = forcedNeighbour(states, current, previous)) >= 0) {
+                size++;
+                previous = current;
+                current = next;
+            }
+            return size;
+        }
+
+        private int forcedNeighbour(byte[] states, int city, int excluded) {
+            int row = city * n;
+            for (int other = 0; other < n; other++) {
+                if (other != excluded && other != city && states[row + other] == OneTree.FORCED) {
+                    return other;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.PointSet;
+import org.example.domain.service.SpatialGrid;
+
+final class CandidateLists {
+
+    private CandidateLists() {
+    }
+
+    static int[][] build(double[][] distanceMatrix, int k) {
+        return build(DistanceMatrix.of(distanceMatrix), k);
+    }
+
+    /**
+     * For every city returns its {@code k} nearest other cities, closest first. The list
+     * size is capped at {@code numberOfCities - 1}.
+     */
+    static int[][] build(DistanceMatrix distanceMatrix, int k) {
+        int numberOfCities = distanceMatrix.size();
+        int size = Math.max(0, Math.min(k, numberOfCities - 1));
+        int[][] candidates = new int[numberOfCities][size];
+        double[] nearestDistances = new double[size];
+
+        for (int city = 0; city < numberOfCities; city++) {
+            int[] nearest = candidates[city];
+            int filled = 0;
+
+            for (int other = 0; other < numberOfCities; other++) {
+                if (other == city) {
+                    continue;
+                }
+                double distance = distanceMatrix.distance(city, other);
+                if (filled == size && (size == 0 || distance >= nearestDistances[size - 1])) {
+                    continue;
+                }
+
+                int position = filled < size ? filled++ : size - 1;
+                while (position > 0 && nearestDistances[position - 1] > distance) {
+                    nearest[position] = nearest[position - 1];
+                    nearestDistances[position] = nearestDistances[position - 1];
+                    position--;
+                }
+                nearest[position] = other;
+                nearestDistances[position] = distance;
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * The same lists as {@link #build(DistanceMatrix, int)} for Euclidean distances, found
+     * with a {@link SpatialGrid} in about O(n·k) time instead of O(n²).
+     */
+    static int[][] build(PointSet points, int k) {
+        int numberOfCities = points.size();
+        int size = Math.max(0, Math.min(k, numberOfCities - 1));
+        int[] table = SpatialGrid.of(points.sharedXs(), points.sharedYs()).nearestNeighbours(size);
+        int[][] candidates = new int[numberOfCities][size];
+
+        for (int city = 0; city < numberOfCities; city++) {
+            System.arraycopy(table, city * size, candidates[city], 0, size);
+        }
+
+        return candidates;
+    }
+}
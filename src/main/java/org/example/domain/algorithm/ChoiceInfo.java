@@ -0,0 +1,12 @@
+package org.example.domain.algorithm;
+
+/**
+ * Attractiveness {@code pheromone^alpha * heuristic^beta} of the edge between two cities,
+ * or a value that orders a city's edges the same way, read by ants when they leave their
+ * candidate lists.
+ */
+@FunctionalInterface
+interface ChoiceInfo {
+
+    double get(int cityA, int cityB);
+}
@@ -0,0 +1,50 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.util.List;
+
+/**
+ * Runs a solver without anytime support under a context: the run cannot be stopped
+ * early, but its tour is reported as the best so far and the context is finished, so
+ * progress subscribers complete.
+ */
+final class CompletingTspSolver implements AnytimeTspSolver {
+    private final TspSolver solver;
+
+    CompletingTspSolver(TspSolver solver) {
+        this.solver = solver;
+    }
+
+    @Override
+    public Tour solve(List<City> cities) {
+        return solver.solve(cities);
+    }
+
+    @Override
+    public Tour solve(PointSet points) {
+        return solver.solve(points);
+    }
+
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities), context);
+    }
+
+    @Override
+    public Tour solve(PointSet points, SolveContext context) {
+        try {
+            context.begin(points);
+            Tour tour = solver.solve(points);
+            context.offer(tour.getOrder(), tour.getTotalDistance());
+            return tour;
+        } finally {
+            context.finish();
+        }
+    }
+}
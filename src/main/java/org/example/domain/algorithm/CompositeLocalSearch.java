@@ -0,0 +1,41 @@
+package org.example.domain.algorithm;
+
+/**
+ * Runs several searches in turn until a full round leaves the tour unchanged.
+ */
+final class CompositeLocalSearch implements LocalSearch {
+    private final LocalSearch[] searches;
+    private long deadlineNanos;
+    private boolean hasDeadline;
+
+    CompositeLocalSearch(LocalSearch[] searches) {
+        this.searches = searches;
+    }
+
+    @Override
+    public boolean improve(int[] tour) {
+        boolean changed = false;
+        boolean improvedInRound = true;
+
+        while (improvedInRound && !(hasDeadline && System.nanoTime() - deadlineNanos > 0)) {
+            improvedInRound = false;
+            for (LocalSearch search : searches) {
+                if (search.improve(tour)) {
+                    improvedInRound = true;
+                    changed = true;
+                }
+            }
+        }
+
+        return changed;
+    }
+
+    @Override
+    public void setDeadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+        this.hasDeadline = true;
+        for (LocalSearch search : searches) {
+            search.setDeadline(deadlineNanos);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
+
+import java.util.List;
+
+final class DistanceMatrices {
+
+    private DistanceMatrices() {
+    }
+
+    static double[][] build(List<? extends Point> points) {
+        int numberOfCities = points.size();
+        double[][] distanceMatrix = new double[numberOfCities][numberOfCities];
+
+        for (int i = 0; i < numberOfCities; i++) {
+            for (int j = i + 1; j < numberOfCities; j++) {
+                double distance = points.get(i).distanceTo(points.get(j));
+                distanceMatrix[i][j] = distance;
+                distanceMatrix[j][i] = distance;
+            }
+        }
+
+        return distanceMatrix;
+    }
+
+    static double[][] build(PointSet points) {
+        int numberOfCities = points.size();
+        double[][] distanceMatrix = new double[numberOfCities][numberOfCities];
+
+        for (int i = 0; i < numberOfCities; i++) {
+            for (int j = i + 1; j < numberOfCities; j++) {
+                double distance = points.distance(i, j);
+                distanceMatrix[i][j] = distance;
+                distanceMatrix[j][i] = distance;
+            }
+        }
+
+        return distanceMatrix;
+    }
+
+    /**
+     * Precomputes every distance in {@code storage}'s layout.
+     */
+    static SymmetricMatrix build(PointSet points, MatrixStorage storage) {
+        int numberOfCities = points.size();
+        SymmetricMatrix distanceMatrix = SymmetricMatrix.create(numberOfCities, storage);
+
+        for (int i = 0; i < numberOfCities; i++) {
+            for (int j = i + 1; j < numberOfCities; j++) {
+                distanceMatrix.set(i, j, points.distance(i, j));
+            }
+        }
+
+        return distanceMatrix;
+    }
+
+    static double tourLength(int[] tour, double[][] distanceMatrix) {
+        double tourLength = 0.0;
+        for (int i = 0; i < tour.length; i++) {
+            tourLength += distanceMatrix[tour[i]][tour[(i + 1) % tour.length]];
+        }
+        return tourLength;
+    }
+
+    static double tourLength(int[] tour, DistanceMatrix distanceMatrix) {
+        double tourLength = 0.0;
+        for (int i = 0; i < tour.length; i++) {
+            tourLength += distanceMatrix.distance(tour[i], tour[(i + 1) % tour.length]);
+        }
+        return tourLength;
+    }
+}
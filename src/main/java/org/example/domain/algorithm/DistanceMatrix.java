@@ -0,0 +1,35 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
+
+import java.util.List;
+
+/**
+ * Symmetric distances between cities identified by their index.
+ */
+public interface DistanceMatrix {
+
+    int size();
+
+    double distance(int from, int to);
+
+    /**
+     * Wraps a precomputed full matrix.
+     */
+    static DistanceMatrix of(double[][] distanceMatrix) {
+        return new FullSymmetricMatrix(distanceMatrix);
+    }
+
+    /**
+     * Computes Euclidean distances from the coordinates on every call, using memory linear
+     * in the number of points.
+     */
+    static DistanceMatrix euclidean(List<? extends Point> points) {
+        return new EuclideanDistanceMatrix(points);
+    }
+
+    static DistanceMatrix euclidean(PointSet points) {
+        return new EuclideanDistanceMatrix(points);
+    }
+}
@@ -0,0 +1,41 @@
+package org.example.domain.algorithm;
+
+final class EagerPheromoneMatrix implements PheromoneMatrix {
+    private final SymmetricMatrix pheromone;
+    private final double evaporationRate;
+
+    EagerPheromoneMatrix(int numberOfCities, double initialPheromone, double evaporationRate) {
+        this(SymmetricMatrix.create(numberOfCities, MatrixStorage.FULL), initialPheromone, evaporationRate);
+    }
+
+    EagerPheromoneMatrix(SymmetricMatrix trails, double initialPheromone, double evaporationRate) {
+        this.pheromone = trails;
+        this.pheromone.fill(initialPheromone);
+        this.evaporationRate = evaporationRate;
+    }
+
+    @Override
+    public double get(int cityA, int cityB) {
+        return pheromone.get(cityA, cityB);
+    }
+
+    @Override
+    public void evaporate() {
+        pheromone.multiplyAll(1.0 - evaporationRate);
+    }
+
+    @Override
+    public void deposit(int cityA, int cityB, double amount) {
+        pheromone.set(cityA, cityB, pheromone.get(cityA, cityB) + amount);
+    }
+
+    @Override
+    public void set(int cityA, int cityB, double value) {
+        pheromone.set(cityA, cityB, value);
+    }
+
+    @Override
+    public void applyBounds(double minPheromone, double maxPheromone) {
+        pheromone.clampAll(minPheromone, maxPheromone);
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
+
+import java.util.List;
+
+final class EuclideanDistanceMatrix implements DistanceMatrix {
+    private final double[] xs;
+    private final double[] ys;
+
+    EuclideanDistanceMatrix(List<? extends Point> points) {
+        int numberOfCities = points.size();
+        this.xs = new double[numberOfCities];
+        this.ys = new double[numberOfCities];
+        for (int i = 0; i < numberOfCities; i++) {
+            xs[i] = points.get(i).getX();
+            ys[i] = points.get(i).getY();
+        }
+    }
+
+    EuclideanDistanceMatrix(PointSet points) {
+        int numberOfCities = points.size();
+        this.xs = new double[numberOfCities];
+        this.ys = new double[numberOfCities];
+        for (int i = 0; i < numberOfCities; i++) {
+            xs[i] = points.getX(i);
+            ys[i] = points.getY(i);
+        }
+    }
+
+    @Override
+    public int size() {
+        return xs.length;
+    }
+
+    @Override
+    public double distance(int from, int to) {
+        double dx = xs[from] - xs[to];
+        double dy = ys[from] - ys[to];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
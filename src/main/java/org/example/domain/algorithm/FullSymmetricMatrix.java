@@ -0,0 +1,59 @@
+package org.example.domain.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * {@link MatrixStorage#FULL} layout: one row array per city, so both halves are stored.
+ */
+final class FullSymmetricMatrix implements SymmetricMatrix {
+    private final double[][] cells;
+
+    FullSymmetricMatrix(double[][] cells) {
+        this.cells = cells;
+    }
+
+    @Override
+    public int size() {
+        return cells.length;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        return cells[i][j];
+    }
+
+    @Override
+    public void set(int i, int j, double value) {
+        cells[i][j] = value;
+        cells[j][i] = value;
+    }
+
+    @Override
+    public void fill(double value) {
+        for (double[] row : cells) {
+            Arrays.fill(row, value);
+        }
+    }
+
+    @Override
+    public void multiplyAll(double factor) {
+        for (double[] row : cells) {
+            for (int j = 0; j < row.length; j++) {
+                row[j] *= factor;
+            }
+        }
+    }
+
+    @Override
+    public void clampAll(double min, double max) {
+        for (double[] row : cells) {
+            for (int j = 0; j < row.length; j++) {
+                if (row[j] < min) {
+                    row[j] = min;
+                } else if (row[j] > max) {
+                    row[j] = max;
+                }
+            }
+        }
+    }
+}
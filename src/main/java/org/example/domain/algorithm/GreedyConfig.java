@@ -0,0 +1,116 @@
+package org.example.domain.algorithm;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class GreedyConfig {
+    /**
+     * Value of {@link Builder#setStarts(int)} that starts a walk from every city.
+     */
+    public static final int ALL_STARTS = 0;
+
+    private final int starts;
+    private final long seed;
+    private final boolean twoOpt;
+    private final int parallelism;
+    private final Executor executor;
+
+    private GreedyConfig(Builder builder) {
+        this.starts = builder.starts;
+        this.seed = builder.seed;
+        this.twoOpt = builder.twoOpt;
+        this.parallelism = builder.parallelism;
+        this.executor = builder.executor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static GreedyConfig defaults() {
+        return builder().build();
+    }
+
+    public int getStarts() {
+        return starts;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean isTwoOpt() {
+        return twoOpt;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public static class Builder {
+        private int starts = 1;
+        private long seed = System.nanoTime();
+        private boolean twoOpt = false;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
+
+        /**
+         * Number of start cities. The first city is always one of them, the others are
+         * drawn with the seed; {@link #ALL_STARTS} uses every city. The default of one
+         * reproduces the single walk from the first city.
+         */
+        public Builder setStarts(int starts) {
+            this.starts = starts;
+            return this;
+        }
+
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Whether every walk is improved with 2-opt before the tours are compared.
+         */
+        public Builder setTwoOpt(boolean twoOpt) {
+            this.twoOpt = twoOpt;
+            return this;
+        }
+
+        /**
+         * Number of tasks the starts are split into. The result does not depend on it.
+         */
+        public Builder setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Executor running all tasks but the first, which runs on the calling thread. The
+         * solver never shuts it down.
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public GreedyConfig build() {
+            if (starts < 0) {
+                throw new IllegalArgumentException("Number of starts cannot be negative");
+            }
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("Parallelism must be positive");
+            }
+            Objects.requireNonNull(executor, "Executor must be set");
+            return new GreedyConfig(this);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+import org.example.domain.service.KdTree;
+import org.example.domain.service.SpatialGrid;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Greedy-edge (multi-fragment) construction. Candidate edges to each city's nearest
+ * neighbours are taken shortest first whenever both ends still have degree below two and
+ * the edge closes no cycle, which grows a set of path fragments. The fragments are then
+ * chained by walking from the end of one to the nearest free end of another.
+ *
+ * <p>Candidate neighbours come from a {@link SpatialGrid} and free ends are looked up in a
+ * {@link KdTree}, so the whole construction runs in O(n k log n) for k candidates, on
+ * primitive arrays only.
+ */
+public class GreedyEdgeTspSolver implements AnytimeTspSolver {
+    private static final int CANDIDATE_NEIGHBOURS = 8;
+    private static final int EDGE_BITS = 32;
+
+    @Override
+    public Tour solve(List<City> cities) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities));
+    }
+
+    @Override
+    public Tour solve(PointSet points) {
+        return solve(points, SolveContext.unbounded());
+    }
+
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities), context);
+    }
+
+    /**
+     * Builds the tour in one pass that cannot be stopped early, then reports it to
+     * {@code context} as the best so far.
+     */
+    @Override
+    public Tour solve(PointSet points, SolveContext context) {
+        if (points == null || points.size() == 0) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        context.begin(points);
+        try {
+            int[] tour = buildTour(points);
+            Tour result = Tour.of(points, tour);
+            context.offer(tour, result.getTotalDistance());
+            return result;
+        } finally {
+            context.finish();
+        }
+    }
+
+    static int[] buildTour(PointSet points) {
+        int n = points.size();
+        int[] adjacent = new int[2 * n];
+        Arrays.fill(adjacent, -1);
+        if (n > 1) {
+            addFragmentEdges(points, adjacent);
+        }
+        return chainFragments(points, adjacent);
+    }
+
+    /**
+     * Fills {@code adjacent}, two slots per city, with the fragment edges. Edge number
+     * {@code city * k + i} leads to the i-th nearest neighbour of the city; an edge found
+     * from both ends is kept only once. Each sort key holds the float bits of the squared
+     * length, which order like the lengths, above the edge number.
+     */
+    private static void addFragmentEdges(PointSet points, int[] adjacent) {
+        int[] xs = points.sharedXs();
+        int[] ys = points.sharedYs();
+        int n = points.size();
+        int k = Math.min(CANDIDATE_NEIGHBOURS, n - 1);
+
+        int[] neighbours = SpatialGrid.of(xs, ys).nearestNeighbours(k);
+        long[] keys = new long[n * k];
+        int edges = 0;
+        for (int city = 0; city < n; city++) {
+            for (int i = 0; i < k; i++) {
+                int edge = city * k + i;
+                int other = neighbours[edge];
+                if (other < city && isNeighbour(neighbours, k, other, city)) {
+                    continue;
+                }
+                long dx = (long) xs[city] - xs[other];
+                long dy = (long) ys[city] - ys[other];
+                keys[edges++] = ((long) Float.floatToIntBits((float) (dx * dx + dy * dy)) << EDGE_BITS) | edge;
+            }
+        }
+        Arrays.parallelSort(keys, 0, edges);
+
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        int added = 0;
+        for (int e = 0; e < edges && added < n - 1; e++) {
+            int edge = (int) keys[e];
+            int a = edge / k;
+            int b = neighbours[edge];
+            if (adjacent[2 * a + 1] >= 0 || adjacent[2 * b + 1] >= 0) {
+                continue;
+            }
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA == rootB) {
+                continue;
+            }
+            parent[rootA] = rootB;
+            link(adjacent, a, b);
+            link(adjacent, b, a);
+            added++;
+        }
+    }
+
+    /**
+     * Walks the fragments one after another, each time continuing at the free end nearest
+     * to where the previous fragment ended. Cities without fragment edges are fragments of
+     * their own.
+     */
+    private static int[] chainFragments(PointSet points, int[] adjacent) {
+        int n = points.size();
+        int[] otherEnd = new int[n];
+        Arrays.fill(otherEnd, -1);
+        int[] slots = new int[n];
+        int endpoints = 0;
+        for (int city = 0; city < n; city++) {
+            if (adjacent[2 * city + 1] < 0) {
+                slots[city] = endpoints++;
+                if (otherEnd[city] < 0) {
+                    int end = farEnd(adjacent, city);
+                    otherEnd[city] = end;
+                    otherEnd[end] = city;
+                }
+            }
+        }
+
+        int[] endpointCities = new int[endpoints];
+        int[] endpointXs = new int[endpoints];
+        int[] endpointYs = new int[endpoints];
+        for (int city = 0; city < n; city++) {
+            if (adjacent[2 * city + 1] < 0) {
+                int slot = slots[city];
+                endpointCities[slot] = city;
+                endpointXs[slot] = points.getX(city);
+                endpointYs[slot] = points.getY(city);
+            }
+        }
+        KdTree freeEnds = KdTree.of(endpointXs, endpointYs);
+
+        int[] tour = new int[n];
+        int filled = 0;
+        int start = endpointCities[0];
+        while (true) {
+            int end = otherEnd[start];
+            freeEnds.remove(slots[start]);
+            freeEnds.remove(slots[end]);
+            filled = appendFragment(adjacent, start, tour, filled);
+            if (freeEnds.size() == 0) {
+                break;
+            }
+            start = endpointCities[freeEnds.nearest(endpointXs[slots[end]], endpointYs[slots[end]])];
+        }
+        return tour;
+    }
+
+    private static int farEnd(int[] adjacent, int start) {
+        int previous = -1;
+        int city = start;
+        int next = nextCity(adjacent, city, previous);
+        while (next >= 0) {
+            previous = city;
+            city = next;
+            next = nextCity(adjacent, city, previous);
+        }
+        return city;
+    }
+
+    /**
+     * Appends the fragment starting at its end {@code start} and returns the new fill level.
+     */
+    private static int appendFragment(int[] adjacent, int start, int[] tour, int filled) {
+        int previous = -1;
+        int city = start;
+        while (city >= 0) {
+            tour[filled++] = city;
+            int next = nextCity(adjacent, city, previous);
+            previous = city;
+            city = next;
+        }
+        return filled;
+    }
+
+    private static int nextCity(int[] adjacent, int city, int previous) {
+        return adjacent[2 * city] == previous ? adjacent[2 * city + 1] : adjacent[2 * city];
+    }
+
+    private static boolean isNeighbour(int[] neighbours, int k, int city, int other) {
+        for (int i = city * k; i < (city + 1) * k; i++) {
+            if (neighbours[i] == other) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void link(int[] adjacent, int from, int to) {
+        adjacent[adjacent[2 * from] < 0 ? 2 * from : 2 * from + 1] = to;
+    }
+
+    private static int find(int[] parent, int city) {
+        while (parent[city] != city) {
+            parent[city] = parent[parent[city]];
+            city = parent[city];
+        }
+        return city;
+    }
+}
@@ -1,49 +1,212 @@
 package org.example.domain.algorithm;
 
 import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
 import org.example.domain.model.Tour;
+import org.example.domain.service.KdTree;
 
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
 
-public class GreedyTspSolver implements TspSolver {
+/**
+ * Nearest-neighbour construction, by default a single walk from the first city. With more
+ * starts configured, walks from several cities run in parallel, each optionally improved
+ * with 2-opt, and the shortest tour wins.
+ */
+public class GreedyTspSolver implements AnytimeTspSolver {
+    private static final int TWO_OPT_NEIGHBOURS = 10;
+
+    private final GreedyConfig config;
+
+    public GreedyTspSolver() {
+        this(GreedyConfig.defaults());
+    }
+
+    public GreedyTspSolver(GreedyConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+    }
 
     public Tour solve(List<City> cities) {
+        return solve(cities, SolveContext.unbounded());
+    }
+
+    @Override
+    public Tour solve(PointSet points) {
+        return solve(points, SolveContext.unbounded());
+    }
+
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
         if (cities == null || cities.isEmpty()) {
             throw new IllegalArgumentException("Cities list cannot be empty");
         }
+        return solve(PointSet.of(cities), context);
+    }
+
+    /**
+     * Reports the cities in input order as a first tour, then every walk that beats the
+     * shortest so far. Each step asks a k-d tree of the unvisited cities for the nearest
+     * one, so a walk takes O(n log n) on evenly spread cities. When stopped, a walk in
+     * progress appends the remaining cities in input order and later starts are skipped.
+     * Equally long tours are resolved in favour of the earlier start, so the result does
+     * not depend on the parallelism.
+     */
+    @Override
+    public Tour solve(PointSet points, SolveContext context) {
+        if (points == null || points.size() == 0) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        context.begin(points);
+        try {
+            int numberOfCities = points.size();
+            int[] inputOrder = new int[numberOfCities];
+            for (int i = 0; i < numberOfCities; i++) {
+                inputOrder[i] = i;
+            }
+            context.offer(inputOrder, tourLength(points, inputOrder));
+
+            int[] startCities = chooseStartCities(numberOfCities);
+            int[][] neighbourLists = null;
+            DistanceMatrix distanceMatrix = null;
+            if (config.isTwoOpt()) {
+                distanceMatrix = DistanceMatrix.euclidean(points);
+                neighbourLists = CandidateLists.build(points, TWO_OPT_NEIGHBOURS);
+            }
 
-        List<City> tourOrder = new ArrayList<>();
-        Set<City> unvisited = new HashSet<>(cities);
-        
-        City current = cities.getFirst();
-        tourOrder.add(current);
-        unvisited.remove(current);
+            int tasks = Math.min(config.getParallelism(), startCities.length);
+            Walker[] walkers = new Walker[tasks];
+            for (int task = 0; task < tasks; task++) {
+                walkers[task] = new Walker(points, context, distanceMatrix, neighbourLists);
+            }
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks - 1];
+            for (int task = 1; task < tasks; task++) {
+                Walker walker = walkers[task];
+                int from = task * startCities.length / tasks;
+                int to = (task + 1) * startCities.length / tasks;
+                futures[task - 1] = CompletableFuture.runAsync(() -> walker.walkFrom(startCities, from, to),
+                        config.getExecutor());
+            }
+            walkers[0].walkFrom(startCities, 0, startCities.length / tasks);
+            CompletableFuture.allOf(futures).join();
 
-        while (!unvisited.isEmpty()) {
-            City nearest = findNearestCity(current, unvisited);
-            tourOrder.add(nearest);
-            unvisited.remove(nearest);
-            current = nearest;
+            Walker best = walkers[0];
+            for (Walker walker : walkers) {
+                if (walker.bestLength < best.bestLength) {
+                    best = walker;
+                }
+            }
+
+            return Tour.of(points, best.bestTour);
+        } finally {
+            context.finish();
         }
+    }
 
-        return new Tour(tourOrder);
+    /**
+     * The first city followed by a seeded sample of the others, or every city.
+     */
+    private int[] chooseStartCities(int numberOfCities) {
+        int starts = config.getStarts() == GreedyConfig.ALL_STARTS
+                ? numberOfCities
+                : Math.min(config.getStarts(), numberOfCities);
+        int[] cities = new int[numberOfCities];
+        for (int i = 0; i < numberOfCities; i++) {
+            cities[i] = i;
+        }
+        SplittableRandom random = new SplittableRandom(config.getSeed());
+        for (int i = 1; i < starts && starts < numberOfCities; i++) {
+            int j = i + random.nextInt(numberOfCities - i);
+            int swap = cities[i];
+            cities[i] = cities[j];
+            cities[j] = swap;
+        }
+        int[] startCities = new int[starts];
+        System.arraycopy(cities, 0, startCities, 0, starts);
+        return startCities;
     }
 
-    private City findNearestCity(City current, Set<City> unvisited) {
-        City nearest = null;
-        double minDistance = Double.MAX_VALUE;
+    private static double tourLength(PointSet points, int[] tour) {
+        double length = 0.0;
+        for (int i = 0; i < tour.length; i++) {
+            length += points.distance(tour[i], tour[(i + 1) % tour.length]);
+        }
+        return length;
+    }
 
-        for (City city : unvisited) {
-            double distance = current.distanceTo(city);
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearest = city;
+    /**
+     * Buffers of one task: its own k-d tree, reset before every walk, and the shortest tour
+     * the task has built.
+     */
+    private static final class Walker {
+        private final PointSet points;
+        private final SolveContext context;
+        private final KdTree unvisited;
+        private final LocalSearch twoOpt;
+        private final int[] tour;
+        private final int[] bestTour;
+        private double bestLength = Double.POSITIVE_INFINITY;
+
+        Walker(PointSet points, SolveContext context, DistanceMatrix distanceMatrix, int[][] neighbourLists) {
+            this.points = points;
+            this.context = context;
+            this.unvisited = KdTree.of(points.sharedXs(), points.sharedYs());
+            this.tour = new int[points.size()];
+            this.bestTour = new int[points.size()];
+            if (distanceMatrix != null) {
+                this.twoOpt = LocalSearch.create(List.of(LocalSearchType.TWO_OPT), distanceMatrix, neighbourLists,
+                        MoveSelection.FIRST_IMPROVEMENT);
+                if (context.hasDeadline()) {
+                    twoOpt.setDeadline(context.getDeadlineNanos());
+                }
+            } else {
+                this.twoOpt = null;
+            }
+        }
+
+        /**
+         * Walks from {@code startCities[from, to)}. The very first start always runs, so
+         * there is a tour even when the context has already stopped.
+         */
+        void walkFrom(int[] startCities, int from, int to) {
+            for (int slot = from; slot < to; slot++) {
+                if (slot > 0 && context.shouldStop()) {
+                    return;
+                }
+                walk(startCities[slot]);
+                if (twoOpt != null) {
+                    twoOpt.improve(tour);
+                }
+                double length = tourLength(points, tour);
+                if (length < bestLength) {
+                    bestLength = length;
+                    System.arraycopy(tour, 0, bestTour, 0, tour.length);
+                    context.offer(tour.clone(), length);
+                }
             }
         }
 
-        return nearest;
+        private void walk(int start) {
+            int numberOfCities = tour.length;
+            unvisited.reset();
+            unvisited.remove(start);
+            tour[0] = start;
+
+            int step = 1;
+            while (unvisited.size() > 0 && !context.shouldStop()) {
+                int current = tour[step - 1];
+                int nearest = unvisited.nearest(points.getX(current), points.getY(current));
+                unvisited.remove(nearest);
+                tour[step++] = nearest;
+            }
+            for (int city = 0; step < numberOfCities; city++) {
+                if (unvisited.contains(city)) {
+                    tour[step++] = city;
+                }
+            }
+        }
     }
 }
@@ -0,0 +1,239 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Exact Held-Karp dynamic programming over subsets, for up to {@link #MAX_CITIES} cities.
+ * The tour starts at the first city; the state (S, j) holds the shortest path from it
+ * through every city of S ending at j, where S ranges over subsets of the other m cities.
+ *
+ * <p>Only states with j in S exist, so the table is one flat {@code double[]} of
+ * {@code m * 2^(m-1)} entries: row j indexed by S with bit j squeezed out, about 40 MB at
+ * twenty cities. States are filled layer by layer in increasing size of S; a layer reads
+ * only the one before it, so its rows are split over parallel tasks. The tour is read
+ * back by repeating the minimisation along the optimal path instead of storing parents.
+ */
+public class HeldKarpTspSolver implements AnytimeTspSolver {
+    /**
+     * Largest number of cities accepted.
+     */
+    public static final int MAX_CITIES = 20;
+    private static final int PARALLEL_MIN_CITIES = 14;
+
+    private final int parallelism;
+    private final Executor executor;
+
+    public HeldKarpTspSolver() {
+        this(Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Splits every layer into at most {@code parallelism} tasks, all but the first run on
+     * {@code executor}, which the solver never shuts down.
+     */
+    public HeldKarpTspSolver(int parallelism, Executor executor) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        this.parallelism = parallelism;
+        this.executor = executor;
+    }
+
+    @Override
+    public Tour solve(List<City> cities) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities));
+    }
+
+    @Override
+    public Tour solve(PointSet cities) {
+        return solve(cities, SolveContext.unbounded());
+    }
+
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities), context);
+    }
+
+    /**
+     * Runs to completion whatever the context says, then reports the optimal tour both as
+     * the best so far and as the lower bound, so the context sees a gap of zero.
+     */
+    @Override
+    public Tour solve(PointSet cities, SolveContext context) {
+        if (cities == null || cities.size() == 0) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        if (cities.size() > MAX_CITIES) {
+            throw new IllegalArgumentException("Held-Karp supports at most " + MAX_CITIES + " cities");
+        }
+
+        context.begin(cities);
+        try {
+            int[] tour = cities.size() <= 3
+                    ? identity(cities.size())
+                    : new Table(cities).optimalTour();
+            Tour result = Tour.of(cities, tour);
+            context.offer(tour, result.getTotalDistance());
+            context.offerLowerBound(result.getTotalDistance());
+            return result;
+        } finally {
+            context.finish();
+        }
+    }
+
+    private static int[] identity(int n) {
+        int[] tour = new int[n];
+        for (int i = 0; i < n; i++) {
+            tour[i] = i;
+        }
+        return tour;
+    }
+
+    /**
+     * Bit j of a subset stands for city j + 1.
+     */
+    private final class Table {
+        private final int n;
+        private final int m;
+        private final int rowLength;
+        private final double[] distances;
+        private final double[] costs;
+
+        Table(PointSet cities) {
+            this.n = cities.size();
+            this.m = n - 1;
+            this.rowLength = 1 << (m - 1);
+            this.distances = new double[n * n];
+            for (int a = 0; a < n; a++) {
+                for (int b = 0; b < n; b++) {
+                    distances[a * n + b] = cities.distance(a, b);
+                }
+            }
+            this.costs = new double[m * rowLength];
+        }
+
+        int[] optimalTour() {
+            for (int j = 0; j < m; j++) {
+                costs[j * rowLength] = distances[j + 1];
+            }
+            for (int size = 2; size <= m; size++) {
+                fillLayer(size);
+            }
+
+            int full = (1 << m) - 1;
+            int last = 0;
+            double best = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < m; j++) {
+                double length = costs[j * rowLength + squeeze(full, j)] + distances[(j + 1) * n];
+                if (length < best) {
+                    best = length;
+                    last = j;
+                }
+            }
+
+            int[] tour = new int[n];
+            int subset = full;
+            for (int position = n - 1; position > 0; position--) {
+                tour[position] = last + 1;
+                int rest = subset & ~(1 << last);
+                if (rest != 0) {
+                    last = bestPredecessor(rest, last);
+                }
+                subset = rest;
+            }
+            return tour;
+        }
+
+        private void fillLayer(int size) {
+            int tasks = n < PARALLEL_MIN_CITIES ? 1 : Math.min(parallelism, m);
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks - 1];
+            for (int task = 1; task < tasks; task++) {
+                int from = task * m / tasks;
+                int to = (task + 1) * m / tasks;
+                futures[task - 1] = CompletableFuture.runAsync(() -> fillRows(size, from, to), executor);
+            }
+            fillRows(size, 0, m / tasks);
+            CompletableFuture.allOf(futures).join();
+        }
+
+        /**
+         * Fills the states of the given subset size that end at cities {@code from} to
+         * {@code to}, enumerating the squeezed subsets of the remaining cities in
+         * increasing order.
+         */
+        private void fillRows(int size, int from, int to) {
+            int limit = 1 << (m - 1);
+            for (int j = from; j < to; j++) {
+                int row = j * rowLength;
+                for (int squeezed = (1 << (size - 1)) - 1; squeezed < limit; squeezed = nextWithSameBitCount(squeezed)) {
+                    int rest = expand(squeezed, j);
+                    int predecessor = bestPredecessor(rest, j);
+                    costs[row + squeezed] = pathCost(rest, predecessor, j);
+                }
+            }
+        }
+
+        private double pathCost(int rest, int i, int j) {
+            return costs[i * rowLength + squeeze(rest, i)] + distances[(i + 1) * n + j + 1];
+        }
+
+        /**
+         * The city i of {@code rest} minimising the path through {@code rest} ending at i
+         * plus the step from i to j; ties go to the lower index.
+         */
+        private int bestPredecessor(int rest, int j) {
+            int best = -1;
+            double bestCost = Double.POSITIVE_INFINITY;
+            for (int bits = rest; bits != 0; bits &= bits - 1) {
+                int i = Integer.numberOfTrailingZeros(bits);
+                double cost = pathCost(rest, i, j);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    best = i;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Removes bit {@code bit} from {@code subset}, shifting the higher bits down.
+     */
+    static int squeeze(int subset, int bit) {
+        int low = subset & ((1 << bit) - 1);
+        return ((subset >>> (bit + 1)) << bit) | low;
+    }
+
+    /**
+     * Inverse of {@link #squeeze(int, int)} that leaves bit {@code bit} clear.
+     */
+    static int expand(int squeezed, int bit) {
+        int low = squeezed & ((1 << bit) - 1);
+        return ((squeezed >>> bit) << (bit + 1)) | low;
+    }
+
+    /**
+     * The next larger integer with the same number of set bits.
+     */
+    private static int nextWithSameBitCount(int value) {
+        int lowest = value & -value;
+        int ripple = value + lowest;
+        return ripple | (((value ^ ripple) >>> 2) / lowest);
+    }
+}
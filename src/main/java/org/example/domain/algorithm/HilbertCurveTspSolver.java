@@ -0,0 +1,121 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Visits the cities in the order of a Hilbert curve through the bounding square. The curve
+ * keeps nearby positions close together, so on uniform inputs the tour comes out roughly
+ * 40 percent above optimal, at the cost of a single O(n log n) sort of primitive keys.
+ * Meant as a cheap seed for the improvement solvers on very large inputs.
+ */
+public class HilbertCurveTspSolver implements AnytimeTspSolver {
+    private static final int ORDER = 16;
+    private static final int INDEX_BITS = 31;
+
+    @Override
+    public Tour solve(List<City> cities) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities));
+    }
+
+    @Override
+    public Tour solve(PointSet points) {
+        return solve(points, SolveContext.unbounded());
+    }
+
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities), context);
+    }
+
+    /**
+     * Builds the tour in one pass that cannot be stopped early, then reports it to
+     * {@code context} as the best so far.
+     */
+    @Override
+    public Tour solve(PointSet points, SolveContext context) {
+        if (points == null || points.size() == 0) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        context.begin(points);
+        try {
+            int[] tour = buildTour(points);
+            Tour result = Tour.of(points, tour);
+            context.offer(tour, result.getTotalDistance());
+            return result;
+        } finally {
+            context.finish();
+        }
+    }
+
+    /**
+     * Sorts the cities by their position on the curve. Each key holds the curve position
+     * above the city index, so a primitive sort is enough.
+     */
+    static int[] buildTour(PointSet points) {
+        int[] xs = points.sharedXs();
+        int[] ys = points.sharedYs();
+        int n = points.size();
+
+        int minX = Integer.MAX_VALUE;
+        int minY = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            minX = Math.min(minX, xs[i]);
+            maxX = Math.max(maxX, xs[i]);
+            minY = Math.min(minY, ys[i]);
+            maxY = Math.max(maxY, ys[i]);
+        }
+        long span = Math.max(1L, Math.max((long) maxX - minX, (long) maxY - minY));
+        long cells = (1L << ORDER) - 1;
+
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            int x = (int) (((long) xs[i] - minX) * cells / span);
+            int y = (int) (((long) ys[i] - minY) * cells / span);
+            keys[i] = (hilbertIndex(x, y) << INDEX_BITS) | i;
+        }
+        Arrays.sort(keys);
+
+        int[] tour = new int[n];
+        long indexMask = (1L << INDEX_BITS) - 1;
+        for (int i = 0; i < n; i++) {
+            tour[i] = (int) (keys[i] & indexMask);
+        }
+        return tour;
+    }
+
+    /**
+     * Position of cell (x, y) along the Hilbert curve of order {@link #ORDER}.
+     */
+    static long hilbertIndex(int x, int y) {
+        int side = 1 << ORDER;
+        long index = 0;
+        for (int half = side >>> 1; half > 0; half >>>= 1) {
+            int rx = (x & half) != 0 ? 1 : 0;
+            int ry = (y & half) != 0 ? 1 : 0;
+            index += (long) half * half * ((3 * rx) ^ ry);
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = side - 1 - x;
+                    y = side - 1 - y;
+                }
+                int swap = x;
+                x = y;
+                y = swap;
+            }
+        }
+        return index;
+    }
+}
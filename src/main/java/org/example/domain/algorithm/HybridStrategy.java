@@ -0,0 +1,34 @@
+package org.example.domain.algorithm;
+
+/**
+ * The original update of this solver: every ant deposits, the best tour found so far is
+ * reinforced once more and trails are kept within fixed bounds.
+ */
+final class HybridStrategy implements PheromoneStrategy {
+    private static final double INITIAL_PHEROMONE = 0.1;
+    private static final double EVAPORATION_RATE = 0.5;
+    private static final double Q = 100.0;
+    private static final double MIN_PHEROMONE = 0.01;
+    private static final double MAX_PHEROMONE = 10.0;
+
+    @Override
+    public double evaporationRate() {
+        return EVAPORATION_RATE;
+    }
+
+    @Override
+    public double initialPheromone(int numberOfCities, int numberOfAnts, double nearestNeighbourTourLength) {
+        return INITIAL_PHEROMONE;
+    }
+
+    @Override
+    public void globalUpdate(PheromoneMatrix pheromone, int[][] tours, double[] tourLengths,
+                             int[] bestTour, double bestTourLength) {
+        pheromone.evaporate();
+        for (int antIndex = 0; antIndex < tours.length; antIndex++) {
+            PheromoneStrategy.depositAlongTour(pheromone, tours[antIndex], Q / tourLengths[antIndex]);
+        }
+        PheromoneStrategy.depositAlongTour(pheromone, bestTour, Q / bestTourLength);
+        pheromone.applyBounds(MIN_PHEROMONE, MAX_PHEROMONE);
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.domain.algorithm;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Stores every trail divided by a global evaporation factor, so evaporating the whole
+ * matrix only multiplies that factor. A cell untouched since its last deposit has decayed
+ * geometrically from a value inside the bounds, which makes clamping it on read to the
+ * current lower bound give the same value the eager update would hold, as long as the
+ * bounds never decrease. Deposited cells are clamped explicitly at the end of the update.
+ * Stored values grow as the factor shrinks, so float storage folds the factor in long
+ * before it would overflow. Each cell written during an update is listed once, however
+ * often it is written, so repeated local updates of Ant Colony System do not grow the list.
+ */
+final class LazyPheromoneMatrix implements PheromoneMatrix {
+    private static final double MIN_SCALE = 1e-100;
+    private static final double MIN_FLOAT_SCALE = 1e-20;
+
+    private final SymmetricMatrix pheromone;
+    private final double evaporationRate;
+    private final double minScale;
+    private double minPheromone;
+    private double scale = 1.0;
+
+    private final BitSet touched;
+    private int[] touchedCells;
+    private int touchedCount;
+
+    LazyPheromoneMatrix(int numberOfCities, double initialPheromone, double evaporationRate) {
+        this(SymmetricMatrix.create(numberOfCities, MatrixStorage.FULL), initialPheromone, evaporationRate);
+    }
+
+    LazyPheromoneMatrix(SymmetricMatrix trails, double initialPheromone, double evaporationRate) {
+        this.pheromone = trails;
+        this.pheromone.fill(initialPheromone);
+        this.evaporationRate = evaporationRate;
+        this.minScale = trails instanceof PackedFloatMatrix ? MIN_FLOAT_SCALE : MIN_SCALE;
+        this.touched = new BitSet(SymmetricMatrix.packedLength(trails.size()));
+        this.touchedCells = new int[2 * trails.size()];
+    }
+
+    @Override
+    public double get(int cityA, int cityB) {
+        return Math.max(minPheromone, pheromone.get(cityA, cityB) * scale);
+    }
+
+    @Override
+    public void evaporate() {
+        scale *= 1.0 - evaporationRate;
+        if (scale < minScale) {
+            rescale();
+        }
+    }
+
+    /**
+     * Before the first deposit of an update the eager matrix holds the previous bounded value
+     * times the retained fraction, i.e. at least {@code minPheromone * (1 - rate)}. Later
+     * deposits in the same update are already above that, so the same formula applies.
+     */
+    @Override
+    public void deposit(int cityA, int cityB, double amount) {
+        double current = Math.max(minPheromone * (1.0 - evaporationRate), pheromone.get(cityA, cityB) * scale);
+        store(cityA, cityB, current + amount);
+    }
+
+    @Override
+    public void set(int cityA, int cityB, double value) {
+        store(cityA, cityB, value);
+    }
+
+    private void store(int cityA, int cityB, double value) {
+        pheromone.set(cityA, cityB, value / scale);
+
+        int cell = SymmetricMatrix.packedIndex(cityA, cityB);
+        if (touched.get(cell)) {
+            return;
+        }
+        touched.set(cell);
+        if (touchedCount + 2 > touchedCells.length) {
+            touchedCells = Arrays.copyOf(touchedCells, 2 * touchedCells.length);
+        }
+        touchedCells[touchedCount++] = cityA;
+        touchedCells[touchedCount++] = cityB;
+    }
+
+    @Override
+    public void applyBounds(double minPheromone, double maxPheromone) {
+        this.minPheromone = minPheromone;
+        double lower = minPheromone / scale;
+        double upper = maxPheromone / scale;
+        for (int i = 0; i < touchedCount; i += 2) {
+            int cityA = touchedCells[i];
+            int cityB = touchedCells[i + 1];
+            pheromone.set(cityA, cityB, Math.min(upper, Math.max(lower, pheromone.get(cityA, cityB))));
+            touched.clear(SymmetricMatrix.packedIndex(cityA, cityB));
+        }
+        touchedCount = 0;
+    }
+
+    /**
+     * Folds the evaporation factor into the cells before it underflows.
+     */
+    private void rescale() {
+        pheromone.multiplyAll(scale);
+        scale = 1.0;
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.domain.algorithm;
+
+import java.time.Duration;
+import java.util.Objects;
+
+public class LinKernighanConfig {
+    private final long seed;
+    private final int candidateListSize;
+    private final int maxDepth;
+    private final double kicksPerCity;
+    private final Duration timeLimit;
+
+    private LinKernighanConfig(Builder builder) {
+        this.seed = builder.seed;
+        this.candidateListSize = builder.candidateListSize;
+        this.maxDepth = builder.maxDepth;
+        this.kicksPerCity = builder.kicksPerCity;
+        this.timeLimit = builder.timeLimit;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static LinKernighanConfig defaults() {
+        return builder().build();
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getCandidateListSize() {
+        return candidateListSize;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public double getKicksPerCity() {
+        return kicksPerCity;
+    }
+
+    public Duration getTimeLimit() {
+        return timeLimit;
+    }
+
+    public static class Builder {
+        private long seed = System.nanoTime();
+        private int candidateListSize = 10;
+        private int maxDepth = LinKernighanLocalSearch.DEFAULT_MAX_DEPTH;
+        private double kicksPerCity = 1.0;
+        private Duration timeLimit = Duration.ofSeconds(60);
+
+        private Builder() {
+        }
+
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Number of nearest neighbours considered for every new edge.
+         */
+        public Builder setCandidateListSize(int candidateListSize) {
+            this.candidateListSize = candidateListSize;
+            return this;
+        }
+
+        /**
+         * Maximum number of edge exchanges in one improving chain.
+         */
+        public Builder setMaxDepth(int maxDepth) {
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Number of double-bridge kicks tried after the first local optimum, relative to the
+         * number of cities. A kicked tour is repaired by the search and kept only when it is
+         * shorter. A value of 0 stops at the first local optimum.
+         */
+        public Builder setKicksPerCity(double kicksPerCity) {
+            this.kicksPerCity = kicksPerCity;
+            return this;
+        }
+
+        /**
+         * Time after which the search stops and returns the best tour found so far.
+         */
+        public Builder setTimeLimit(Duration timeLimit) {
+            this.timeLimit = timeLimit;
+            return this;
+        }
+
+        public LinKernighanConfig build() {
+            if (candidateListSize <= 0) {
+                throw new IllegalArgumentException("Candidate list size must be positive");
+            }
+            if (maxDepth <= 0) {
+                throw new IllegalArgumentException("Max depth must be positive");
+            }
+            if (kicksPerCity < 0) {
+                throw new IllegalArgumentException("Kicks per city cannot be negative");
+            }
+            Objects.requireNonNull(timeLimit, "Time limit must be set");
+            if (timeLimit.isNegative() || timeLimit.isZero()) {
+                throw new IllegalArgumentException("Time limit must be positive");
+            }
+            return new LinKernighanConfig(this);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.example.domain.algorithm;
+
+/**
+ * Lin–Kernighan style variable-depth search over nearest-neighbour lists. Starting from
+ * t1 and its tour neighbour t2, every step adds an edge (t2, t3) to a neighbour of t2,
+ * removes (t3, t4) and closes the tour with (t4, t1) by a 2-opt move; t4 then takes the
+ * place of t2 and the chain goes on while the partial gain stays positive. The chain is
+ * kept as soon as closing it shortens the tour and undone otherwise. The first levels try
+ * several alternatives ordered by {@code d(t3, t4) - d(t2, t3)}, deeper levels only the
+ * best one. Added edges are never removed and removed edges never added again within one
+ * chain.
+ *
+ * <p>Always applies the first improving chain, so {@link MoveSelection} does not apply.
+ */
+final class LinKernighanLocalSearch extends ArrayLocalSearch {
+    private static final int[] BREADTH = {5, 3, 1};
+    static final int DEFAULT_MAX_DEPTH = 50;
+
+    private final int maxDepth;
+    private final int[][] candidatesT3;
+    private final int[][] candidatesT4;
+    private final double[][] candidateScores;
+
+    private final int[] addedFrom;
+    private final int[] addedTo;
+    private final int[] removedFrom;
+    private final int[] removedTo;
+
+    private int t1;
+
+    LinKernighanLocalSearch(DistanceMatrix distanceMatrix, int[][] neighbourLists) {
+        this(distanceMatrix, neighbourLists, DEFAULT_MAX_DEPTH);
+    }
+
+    LinKernighanLocalSearch(DistanceMatrix distanceMatrix, int[][] neighbourLists, int maxDepth) {
+        super(distanceMatrix, neighbourLists, MoveSelection.FIRST_IMPROVEMENT);
+        this.maxDepth = maxDepth;
+
+        this.candidatesT3 = new int[maxDepth][];
+        this.candidatesT4 = new int[maxDepth][];
+        this.candidateScores = new double[maxDepth][];
+        for (int level = 0; level < maxDepth; level++) {
+            int breadth = level < BREADTH.length ? BREADTH[level] : 1;
+            candidatesT3[level] = new int[breadth];
+            candidatesT4[level] = new int[breadth];
+            candidateScores[level] = new double[breadth];
+        }
+
+        this.addedFrom = new int[maxDepth];
+        this.addedTo = new int[maxDepth];
+        this.removedFrom = new int[maxDepth + 1];
+        this.removedTo = new int[maxDepth + 1];
+    }
+
+    @Override
+    int minimumCities() {
+        return 5;
+    }
+
+    @Override
+    void improveCity(int city) {
+        t1 = city;
+        for (int direction = 0; direction < 2; direction++) {
+            int t2 = direction == 0 ? next(t1) : previous(t1);
+            removedFrom[0] = t1;
+            removedTo[0] = t2;
+            if (step(0, t2, distance(t1, t2))) {
+                activate(t1);
+                activate(t2);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Extends the chain whose open end is {@code t2}, where the tour currently contains edge
+     * (t1, t2) that is to be removed. {@code gain} is the total length of removed edges
+     * minus added ones, not counting (t1, t2) as added. Returns true when an improving
+     * chain has been applied.
+     */
+    private boolean step(int level, int t2, double gain) {
+        boolean forward = next(t1) == t2;
+        int[] t3s = candidatesT3[level];
+        int[] t4s = candidatesT4[level];
+        double[] scores = candidateScores[level];
+        int breadth = t3s.length;
+        int count = 0;
+
+        for (int t3 : neighbourLists[t2]) {
+            double added = distance(t2, t3);
+            if (gain - added <= EPSILON) {
+                break;
+            }
+            int t4 = successor(t3, !forward);
+            if (t3 == t1 || t4 == t2 || isAdded(t3, t4, level) || isRemoved(t2, t3, level)) {
+                continue;
+            }
+
+            double score = distance(t3, t4) - added;
+            if (count == breadth && score <= scores[breadth - 1]) {
+                continue;
+            }
+            int position = count < breadth ? count++ : breadth - 1;
+            while (position > 0 && scores[position - 1] < score) {
+                scores[position] = scores[position - 1];
+                t3s[position] = t3s[position - 1];
+                t4s[position] = t4s[position - 1];
+                position--;
+            }
+            scores[position] = score;
+            t3s[position] = t3;
+            t4s[position] = t4;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (tryStep(level, t2, t3s[i], t4s[i], gain)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean tryStep(int level, int t2, int t3, int t4, double gain) {
+        double newGain = gain - distance(t2, t3) + distance(t3, t4);
+        makeTwoOptMove(t1, t2, t4, t3);
+
+        if (newGain - distance(t4, t1) > EPSILON) {
+            activate(t2);
+            activate(t3);
+            activate(t4);
+            return true;
+        }
+
+        if (level + 1 < maxDepth) {
+            addedFrom[level] = t2;
+            addedTo[level] = t3;
+            removedFrom[level + 1] = t3;
+            removedTo[level + 1] = t4;
+            if (step(level + 1, t4, newGain)) {
+                activate(t2);
+                activate(t3);
+                activate(t4);
+                return true;
+            }
+        }
+
+        undoTwoOptMove(t1, t2, t4, t3);
+        return false;
+    }
+
+    private boolean isAdded(int a, int b, int level) {
+        for (int i = 0; i < level; i++) {
+            if ((addedFrom[i] == a && addedTo[i] == b) || (addedFrom[i] == b && addedTo[i] == a)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isRemoved(int a, int b, int level) {
+        for (int i = 0; i <= level; i++) {
+            if ((removedFrom[i] == a && removedTo[i] == b) || (removedFrom[i] == b && removedTo[i] == a)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
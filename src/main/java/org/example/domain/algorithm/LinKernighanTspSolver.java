@@ -0,0 +1,190 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Builds a nearest-neighbour tour, polishes it with 2-opt and Or-opt and then runs
+ * Lin–Kernighan style variable-depth search. The local optimum is then perturbed by
+ * random double-bridge kicks, each repaired by the same search around the changed edges
+ * and kept only when the tour gets shorter, until the kick count or the time limit runs
+ * out. Distances are computed from the coordinates, so memory stays linear in the number
+ * of cities apart from the candidate lists.
+ */
+public class LinKernighanTspSolver implements AnytimeTspSolver {
+    private static final int MIN_CITIES_FOR_KICKS = 8;
+    private static final int MAX_KICK_SEGMENT_LENGTH = 50;
+    private static final double EPSILON = 1e-9;
+    private static final long PUBLISH_INTERVAL_NANOS = 50_000_000L;
+
+    private final LinKernighanConfig config;
+
+    public LinKernighanTspSolver() {
+        this(LinKernighanConfig.defaults());
+    }
+
+    public LinKernighanTspSolver(LinKernighanConfig config) {
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        this.config = config;
+    }
+
+    @Override
+    public Tour solve(List<City> cities) {
+        return solve(cities, SolveContext.unbounded());
+    }
+
+    @Override
+    public Tour solve(PointSet points) {
+        return solve(points, SolveContext.unbounded());
+    }
+
+    /**
+     * Stops at the earlier of the configured time limit and the context deadline. A
+     * cancellation or a reached target gap is noticed between kicks.
+     */
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
+        if (cities == null || cities.isEmpty()) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        return solve(PointSet.of(cities), context);
+    }
+
+    @Override
+    public Tour solve(PointSet cities, SolveContext context) {
+        if (cities == null || cities.size() == 0) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        context.begin(cities);
+        try {
+            long deadline = System.nanoTime() + config.getTimeLimit().toNanos();
+            if (context.hasDeadline() && context.getDeadlineNanos() - deadline < 0) {
+                deadline = context.getDeadlineNanos();
+            }
+
+            DistanceMatrix distanceMatrix = DistanceMatrix.euclidean(cities);
+            int[][] neighbourLists = CandidateLists.build(cities, config.getCandidateListSize());
+            int[] tour = nearestNeighbourTour(distanceMatrix, neighbourLists);
+            double initialLength = DistanceMatrices.tourLength(tour, distanceMatrix);
+            context.offer(tour.clone(), initialLength);
+            LowerBounds.offerHeldKarpBound(context, cities, initialLength);
+
+            LocalSearch seed = LocalSearch.create(List.of(LocalSearchType.TWO_OPT, LocalSearchType.OR_OPT),
+                    distanceMatrix, neighbourLists, MoveSelection.FIRST_IMPROVEMENT);
+            seed.setDeadline(deadline);
+            seed.improve(tour);
+
+            LinKernighanLocalSearch linKernighan = new LinKernighanLocalSearch(distanceMatrix, neighbourLists,
+                    config.getMaxDepth());
+            linKernighan.setDeadline(deadline);
+            linKernighan.improve(tour);
+            context.offer(tour.clone(), DistanceMatrices.tourLength(tour, distanceMatrix));
+
+            if (tour.length >= MIN_CITIES_FOR_KICKS) {
+                long kicks = Math.round(config.getKicksPerCity() * tour.length);
+                applyKicks(tour, kicks, deadline, distanceMatrix, linKernighan, context);
+                context.offer(tour.clone(), DistanceMatrices.tourLength(tour, distanceMatrix));
+            }
+
+            return Tour.of(cities, tour);
+        } finally {
+            context.finish();
+        }
+    }
+
+    /**
+     * Walks to the nearest unvisited candidate and only scans all cities when every
+     * candidate has been visited.
+     */
+    static int[] nearestNeighbourTour(DistanceMatrix distanceMatrix, int[][] neighbourLists) {
+        int numberOfCities = distanceMatrix.size();
+        int[] tour = new int[numberOfCities];
+        boolean[] visited = new boolean[numberOfCities];
+
+        int current = 0;
+        visited[current] = true;
+        for (int step = 1; step < numberOfCities; step++) {
+            int next = -1;
+            for (int candidate : neighbourLists[current]) {
+                if (!visited[candidate]) {
+                    next = candidate;
+                    break;
+                }
+            }
+            if (next < 0) {
+                double nearestDistance = Double.MAX_VALUE;
+                for (int city = 0; city < numberOfCities; city++) {
+                    if (!visited[city] && distanceMatrix.distance(current, city) < nearestDistance) {
+                        nearestDistance = distanceMatrix.distance(current, city);
+                        next = city;
+                    }
+                }
+            }
+            tour[step] = next;
+            visited[next] = true;
+            current = next;
+        }
+
+        return tour;
+    }
+
+    /**
+     * Swaps two short adjacent segments of a copy of the tour, repairs it starting from the
+     * six cities at the changed edges and adopts the result when it is shorter. Improvements
+     * are reported to the context, with the kick number as iteration, at most every 50 ms.
+     */
+    private void applyKicks(int[] tour, long kicks, long deadline, DistanceMatrix distanceMatrix,
+                            LinKernighanLocalSearch linKernighan, SolveContext context) {
+        int n = tour.length;
+        SplittableRandom random = new SplittableRandom(config.getSeed());
+        int[] candidate = new int[n];
+        int[] segmentBuffer = new int[2 * MAX_KICK_SEGMENT_LENGTH];
+        int[] kickedCities = new int[6];
+        int maxSegmentLength = Math.min(MAX_KICK_SEGMENT_LENGTH, (n - 2) / 2);
+        double tourLength = DistanceMatrices.tourLength(tour, distanceMatrix);
+        long lastPublished = System.nanoTime();
+
+        for (long kick = 0; kick < kicks && System.nanoTime() - deadline < 0 && !context.shouldStop(); kick++) {
+            System.arraycopy(tour, 0, candidate, 0, n);
+
+            int start = random.nextInt(n);
+            int firstLength = 1 + random.nextInt(maxSegmentLength);
+            int secondLength = 1 + random.nextInt(maxSegmentLength);
+            for (int i = 0; i < secondLength; i++) {
+                segmentBuffer[i] = tour[(start + 1 + firstLength + i) % n];
+            }
+            for (int i = 0; i < firstLength; i++) {
+                segmentBuffer[secondLength + i] = tour[(start + 1 + i) % n];
+            }
+            int length = firstLength + secondLength;
+            for (int i = 0; i < length; i++) {
+                candidate[(start + 1 + i) % n] = segmentBuffer[i];
+            }
+
+            kickedCities[0] = tour[start];
+            kickedCities[1] = tour[(start + 1) % n];
+            kickedCities[2] = tour[(start + firstLength) % n];
+            kickedCities[3] = tour[(start + firstLength + 1) % n];
+            kickedCities[4] = tour[(start + length) % n];
+            kickedCities[5] = tour[(start + length + 1) % n];
+
+            linKernighan.improve(candidate, kickedCities, kickedCities.length);
+            double candidateLength = DistanceMatrices.tourLength(candidate, distanceMatrix);
+            if (candidateLength < tourLength - EPSILON) {
+                System.arraycopy(candidate, 0, tour, 0, n);
+                tourLength = candidateLength;
+                if (System.nanoTime() - lastPublished > PUBLISH_INTERVAL_NANOS) {
+                    context.offer(tour.clone(), tourLength);
+                    context.reportProgress(kick + 1, tourLength, true, Double.NaN, Double.NaN);
+                    lastPublished = System.nanoTime();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.domain.algorithm;
+
+import java.util.List;
+
+/**
+ * Improvement heuristic working on a tour given as a permutation of city indices.
+ */
+public interface LocalSearch {
+
+    /**
+     * Improves {@code tour} in place and returns whether it was changed.
+     */
+    boolean improve(int[] tour);
+
+    /**
+     * Makes later {@link #improve} calls return early, leaving a valid tour, once
+     * {@link System#nanoTime()} passes {@code deadlineNanos}. Searches that finish quickly
+     * may ignore it.
+     */
+    default void setDeadline(long deadlineNanos) {
+    }
+
+    /**
+     * Creates a search applying the given move types one after another until none of them
+     * shortens the tour any more.
+     */
+    static LocalSearch create(List<LocalSearchType> types, double[][] distanceMatrix,
+                              int neighbourListSize, MoveSelection moveSelection) {
+        return create(types, DistanceMatrix.of(distanceMatrix), neighbourListSize, moveSelection);
+    }
+
+    static LocalSearch create(List<LocalSearchType> types, double[][] distanceMatrix,
+                              int[][] neighbourLists, MoveSelection moveSelection) {
+        return create(types, DistanceMatrix.of(distanceMatrix), neighbourLists, moveSelection);
+    }
+
+    static LocalSearch create(List<LocalSearchType> types, DistanceMatrix distanceMatrix,
+                              int neighbourListSize, MoveSelection moveSelection) {
+        return create(types, distanceMatrix, CandidateLists.build(distanceMatrix, neighbourListSize), moveSelection);
+    }
+
+    static LocalSearch create(List<LocalSearchType> types, DistanceMatrix distanceMatrix,
+                              int[][] neighbourLists, MoveSelection moveSelection) {
+        LocalSearch[] searches = new LocalSearch[types.size()];
+        for (int i = 0; i < searches.length; i++) {
+            searches[i] = switch (types.get(i)) {
+                case TWO_OPT -> new TwoOptLocalSearch(distanceMatrix, neighbourLists, moveSelection);
+                case OR_OPT -> new OrOptLocalSearch(distanceMatrix, neighbourLists, moveSelection);
+                case THREE_OPT -> new ThreeOptLocalSearch(distanceMatrix, neighbourLists, moveSelection);
+                case LIN_KERNIGHAN -> new LinKernighanLocalSearch(distanceMatrix, neighbourLists);
+            };
+        }
+        return searches.length == 1 ? searches[0] : new CompositeLocalSearch(searches);
+    }
+}
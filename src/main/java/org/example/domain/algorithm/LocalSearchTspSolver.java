@@ -0,0 +1,65 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.util.List;
+
+/**
+ * Runs another solver and improves its tour with local search. {@link #improve(Tour)} can
+ * also be used on its own as a post-processor for any tour.
+ */
+public class LocalSearchTspSolver implements TspSolver {
+    private static final int NEIGHBOUR_LIST_SIZE = 10;
+
+    private final TspSolver initialSolver;
+    private final List<LocalSearchType> localSearchTypes;
+    private final MoveSelection moveSelection;
+
+    public LocalSearchTspSolver(TspSolver initialSolver, List<LocalSearchType> localSearchTypes) {
+        this(initialSolver, localSearchTypes, MoveSelection.FIRST_IMPROVEMENT);
+    }
+
+    public LocalSearchTspSolver(TspSolver initialSolver, List<LocalSearchType> localSearchTypes,
+                                MoveSelection moveSelection) {
+        if (initialSolver == null) {
+            throw new IllegalArgumentException("Initial solver cannot be null");
+        }
+        if (localSearchTypes == null || localSearchTypes.isEmpty()) {
+            throw new IllegalArgumentException("Local search types cannot be empty");
+        }
+        if (moveSelection == null) {
+            throw new IllegalArgumentException("Move selection cannot be null");
+        }
+        this.initialSolver = initialSolver;
+        this.localSearchTypes = List.copyOf(localSearchTypes);
+        this.moveSelection = moveSelection;
+    }
+
+    @Override
+    public Tour solve(List<City> cities) {
+        return improve(initialSolver.solve(cities));
+    }
+
+    @Override
+    public Tour solve(PointSet points) {
+        return improve(initialSolver.solve(points));
+    }
+
+    /**
+     * Computes distances from the coordinates and finds neighbour lists on a grid, so the
+     * memory used grows linearly with the number of cities.
+     */
+    public Tour improve(Tour tour) {
+        PointSet points = tour.getPoints();
+        int[] order = tour.getOrder();
+
+        LocalSearch localSearch = LocalSearch.create(localSearchTypes, DistanceMatrix.euclidean(points),
+                CandidateLists.build(points, NEIGHBOUR_LIST_SIZE), moveSelection);
+        if (!localSearch.improve(order)) {
+            return tour;
+        }
+        return Tour.of(points, order);
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.domain.algorithm;
+
+public enum LocalSearchType {
+    TWO_OPT("2-opt"),
+    OR_OPT("Or-opt"),
+    THREE_OPT("3-opt"),
+    LIN_KERNIGHAN("Lin-Kernighan");
+
+    private final String displayName;
+
+    LocalSearchType(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.PointSet;
+import org.example.domain.service.LowerBoundCalculator;
+
+final class LowerBounds {
+    /**
+     * Largest instance whose bound is computed; each subgradient step takes O(n^2), which
+     * is about two milliseconds at this size.
+     */
+    static final int MAX_CITIES = 1000;
+    static final int HELD_KARP_ITERATIONS = 100;
+
+    private LowerBounds() {
+    }
+
+    /**
+     * Computes the Held-Karp bound of {@code cities} and offers it to {@code context}, so
+     * the gap is known and the run can stop at the context's target gap. Skipped above
+     * {@link #MAX_CITIES} cities. {@code upperBound} is the length of any tour.
+     */
+    static void offerHeldKarpBound(SolveContext context, PointSet cities, double upperBound) {
+        if (cities.size() > MAX_CITIES || context.shouldStop()) {
+            return;
+        }
+        double bound = LowerBoundCalculator.of(cities.sharedXs(), cities.sharedYs()).heldKarpBound(upperBound, HELD_KARP_ITERATIONS);
+        context.offerLowerBound(bound);
+    }
+}
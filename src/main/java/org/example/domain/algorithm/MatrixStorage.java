@@ -0,0 +1,26 @@
+package org.example.domain.algorithm;
+
+/**
+ * Memory layout of a symmetric n×n matrix. The packed layouts keep only the lower triangle,
+ * diagonal included, in one flat array, which halves the memory of {@link #FULL} and
+ * avoids an object header and bounds check per row.
+ */
+public enum MatrixStorage {
+    /**
+     * One {@code double[]} row per city with both halves stored: 8n² bytes.
+     */
+    FULL,
+    /**
+     * The lower triangle as {@code double}s: 4n² bytes with the same values as {@link #FULL}.
+     */
+    PACKED,
+    /**
+     * The lower triangle as {@code float}s: 2n² bytes, keeping about seven significant digits.
+     */
+    PACKED_FLOAT,
+    /**
+     * The lower triangle as {@code int}s rounded to the nearest integer, as TSPLIB's
+     * {@code EUC_2D} distances are: 2n² bytes. Only meaningful for distances.
+     */
+    PACKED_ROUNDED
+}
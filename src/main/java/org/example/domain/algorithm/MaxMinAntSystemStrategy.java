@@ -0,0 +1,58 @@
+package org.example.domain.algorithm;
+
+/**
+ * MAX-MIN Ant System: a single ant deposits, usually the iteration best and periodically
+ * the best so far, and trails stay within bounds derived from the best tour length. Trails
+ * start at the upper bound.
+ */
+final class MaxMinAntSystemStrategy implements PheromoneStrategy {
+    private static final double EVAPORATION_RATE = 0.02;
+    private static final double BEST_TOUR_PROBABILITY = 0.05;
+    private static final int BEST_SO_FAR_INTERVAL = 10;
+
+    private int numberOfCities;
+    private double nearestNeighbourTourLength;
+    private int updates;
+
+    @Override
+    public double evaporationRate() {
+        return EVAPORATION_RATE;
+    }
+
+    @Override
+    public double initialPheromone(int numberOfCities, int numberOfAnts, double nearestNeighbourTourLength) {
+        this.numberOfCities = numberOfCities;
+        this.nearestNeighbourTourLength = nearestNeighbourTourLength;
+        return maxPheromone(nearestNeighbourTourLength);
+    }
+
+    @Override
+    public void globalUpdate(PheromoneMatrix pheromone, int[][] tours, double[] tourLengths,
+                             int[] bestTour, double bestTourLength) {
+        updates++;
+        pheromone.evaporate();
+        if (updates % BEST_SO_FAR_INTERVAL == 0) {
+            PheromoneStrategy.depositAlongTour(pheromone, bestTour, 1.0 / bestTourLength);
+        } else {
+            int iterationBest = PheromoneStrategy.bestIndex(tourLengths);
+            PheromoneStrategy.depositAlongTour(pheromone, tours[iterationBest], 1.0 / tourLengths[iterationBest]);
+        }
+
+        // Using the shorter of the two lengths keeps both bounds from ever decreasing.
+        double maxPheromone = maxPheromone(Math.min(bestTourLength, nearestNeighbourTourLength));
+        pheromone.applyBounds(minPheromone(maxPheromone), maxPheromone);
+    }
+
+    private double maxPheromone(double bestTourLength) {
+        return 1.0 / (EVAPORATION_RATE * bestTourLength);
+    }
+
+    private double minPheromone(double maxPheromone) {
+        double averageChoices = numberOfCities / 2.0;
+        if (averageChoices <= 1.0) {
+            return 0.0;
+        }
+        double root = Math.pow(BEST_TOUR_PROBABILITY, 1.0 / numberOfCities);
+        return Math.min(maxPheromone, maxPheromone * (1.0 - root) / ((averageChoices - 1.0) * root));
+    }
+}
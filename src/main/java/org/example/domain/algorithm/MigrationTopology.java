@@ -0,0 +1,12 @@
+package org.example.domain.algorithm;
+
+public enum MigrationTopology {
+    /**
+     * Every colony receives the best tour of the colony before it.
+     */
+    RING,
+    /**
+     * Every colony receives the best tour found by any colony.
+     */
+    BROADCAST
+}
@@ -0,0 +1,6 @@
+package org.example.domain.algorithm;
+
+public enum MoveSelection {
+    FIRST_IMPROVEMENT,
+    BEST_IMPROVEMENT
+}
@@ -0,0 +1,109 @@
+package org.example.domain.algorithm;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class MultiColonyConfig {
+    private final int colonies;
+    private final int migrationInterval;
+    private final MigrationTopology topology;
+    private final AntColonyConfig colonyConfig;
+    private final Executor executor;
+
+    private MultiColonyConfig(Builder builder) {
+        this.colonies = builder.colonies;
+        this.migrationInterval = builder.migrationInterval;
+        this.topology = builder.topology;
+        this.colonyConfig = builder.colonyConfig;
+        this.executor = builder.executor;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static MultiColonyConfig defaults() {
+        return builder().build();
+    }
+
+    public int getColonies() {
+        return colonies;
+    }
+
+    public int getMigrationInterval() {
+        return migrationInterval;
+    }
+
+    public MigrationTopology getTopology() {
+        return topology;
+    }
+
+    public AntColonyConfig getColonyConfig() {
+        return colonyConfig;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public static class Builder {
+        private int colonies = Runtime.getRuntime().availableProcessors();
+        private int migrationInterval = 10;
+        private MigrationTopology topology = MigrationTopology.RING;
+        private AntColonyConfig colonyConfig = AntColonyConfig.builder().setParallelism(1).build();
+        private Executor executor = ForkJoinPool.commonPool();
+
+        private Builder() {
+        }
+
+        public Builder setColonies(int colonies) {
+            this.colonies = colonies;
+            return this;
+        }
+
+        /**
+         * Number of iterations between two exchanges of best tours.
+         */
+        public Builder setMigrationInterval(int migrationInterval) {
+            this.migrationInterval = migrationInterval;
+            return this;
+        }
+
+        public Builder setTopology(MigrationTopology topology) {
+            this.topology = topology;
+            return this;
+        }
+
+        /**
+         * Settings shared by all colonies. Each colony gets its own seed split from this
+         * config's seed. Keep its parallelism at 1 so every colony runs on a single thread.
+         */
+        public Builder setColonyConfig(AntColonyConfig colonyConfig) {
+            this.colonyConfig = colonyConfig;
+            return this;
+        }
+
+        /**
+         * Executor running all colonies but the first, which runs on the calling thread.
+         * The solver never shuts it down.
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public MultiColonyConfig build() {
+            if (colonies <= 0) {
+                throw new IllegalArgumentException("Number of colonies must be positive");
+            }
+            if (migrationInterval <= 0) {
+                throw new IllegalArgumentException("Migration interval must be positive");
+            }
+            Objects.requireNonNull(topology, "Topology must be set");
+            Objects.requireNonNull(colonyConfig, "Colony config must be set");
+            Objects.requireNonNull(executor, "Executor must be set");
+            return new MultiColonyConfig(this);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Island model: independent {@link AntColonyTspSolver} colonies, each with its own
+ * pheromone trails and seed, run on separate threads. Every few iterations a colony
+ * publishes its best tour to a shared elite slot and adopts the tour waiting in the slot
+ * its topology points to, if that one is shorter. Slots are swapped with compare-and-set,
+ * so colonies never block each other. Because colonies progress at their own pace, which
+ * tour a colony receives depends on thread timing. The distances and candidate lists are
+ * built once, by the first colony, and shared by the others. Fewer colonies than configured
+ * run when their own trails and tours would take more than half the maximum heap.
+ */
+public class MultiColonyTspSolver implements AnytimeTspSolver {
+    private static final Duration DEFAULT_TIME_LIMIT = Duration.ofMinutes(3);
+
+    private record EliteTour(int[] tour, double length) {
+    }
+
+    private final MultiColonyConfig config;
+    private final AntColonyTspSolver[] colonies;
+    private final AtomicReferenceArray<EliteTour> colonySlots;
+    private final AtomicReference<EliteTour> globalSlot = new AtomicReference<>();
+
+    public MultiColonyTspSolver(List<Point> points) {
+        this(points, MultiColonyConfig.defaults());
+    }
+
+    public MultiColonyTspSolver(List<Point> points, MultiColonyConfig config) {
+        this(points == null ? null : PointSet.of(points), config);
+    }
+
+    public MultiColonyTspSolver(PointSet points) {
+        this(points, MultiColonyConfig.defaults());
+    }
+
+    public MultiColonyTspSolver(PointSet points, MultiColonyConfig config) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points list cannot be null");
+        }
+        if (config == null) {
+            throw new IllegalArgumentException("Config cannot be null");
+        }
+        AntColonyConfig colonyConfig = config.getColonyConfig();
+        int colonyCount = coloniesThatFit(config.getColonies(), points.size(), colonyConfig,
+                Runtime.getRuntime().maxMemory());
+        this.config = config;
+        this.colonies = new AntColonyTspSolver[colonyCount];
+        this.colonySlots = new AtomicReferenceArray<>(colonyCount);
+
+        SplittableRandom seeds = new SplittableRandom(colonyConfig.getSeed());
+        for (int colony = 0; colony < colonies.length; colony++) {
+            AntColonyConfig seeded = colonyConfig.toBuilder()
+                    .setSeed(seeds.nextLong())
+                    .build();
+            colonies[colony] = new AntColonyTspSolver(points, seeded, colony == 0 ? null : colonies[0]);
+        }
+    }
+
+    /**
+     * Number of colonies whose own matrices take at most half of {@code maxHeapBytes}; at
+     * least one and at most {@code configured}.
+     */
+    static int coloniesThatFit(int configured, int numberOfCities, AntColonyConfig colonyConfig, long maxHeapBytes) {
+        long perColony = Math.max(1, AntColonyTspSolver.colonyBytes(numberOfCities, colonyConfig));
+        return (int) Math.max(1, Math.min(configured, maxHeapBytes / 2 / perColony));
+    }
+
+    /**
+     * Runs until every colony reaches its iteration or stagnation limit, or for at most
+     * three minutes.
+     */
+    @Override
+    public Tour solve(List<City> cities) {
+        return solve(cities, SolveContext.withTimeout(DEFAULT_TIME_LIMIT));
+    }
+
+    @Override
+    public Tour solve(PointSet points) {
+        return solve(points, SolveContext.withTimeout(DEFAULT_TIME_LIMIT));
+    }
+
+    /**
+     * All colonies stop with the context and report their improvements to it. Progress is
+     * published from the first colony's iterations, with the best length over all colonies.
+     */
+    @Override
+    public Tour solve(List<City> cities, SolveContext context) {
+        return solve(PointSet.of(cities), context);
+    }
+
+    @Override
+    public Tour solve(PointSet cities, SolveContext context) {
+        context.begin(cities);
+        try {
+            colonies[0].offerLowerBound(context);
+            for (AntColonyTspSolver colony : colonies) {
+                colony.attach(context);
+            }
+
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[colonies.length - 1];
+            for (int colony = 1; colony < colonies.length; colony++) {
+                int index = colony;
+                futures[colony - 1] = CompletableFuture.runAsync(() -> runColony(index, null), config.getExecutor());
+            }
+            runColony(0, context);
+            CompletableFuture.allOf(futures).join();
+
+            EliteTour best = globalSlot.get();
+            if (best == null) {
+                int[] inputOrder = new int[cities.size()];
+                for (int i = 0; i < inputOrder.length; i++) {
+                    inputOrder[i] = i;
+                }
+                return Tour.of(cities, inputOrder);
+            }
+            return Tour.of(cities, best.tour());
+        } finally {
+            context.finish();
+        }
+    }
+
+    /**
+     * Runs one colony to the end, publishing progress to {@code progressContext} unless it
+     * is null.
+     */
+    private void runColony(int index, SolveContext progressContext) {
+        AntColonyTspSolver colony = colonies[index];
+        int iteration = 0;
+        double reportedLength = Double.POSITIVE_INFINITY;
+
+        while (colony.iterate()) {
+            iteration++;
+            if (iteration % config.getMigrationInterval() == 0) {
+                publish(index, colony);
+                migrate(index, colony);
+            }
+            if (progressContext != null) {
+                double bestLength = progressContext.getBestLength();
+                progressContext.reportProgress(iteration, bestLength, bestLength < reportedLength,
+                        colony.getPheromoneWeight(), colony.getVisibilityWeight());
+                reportedLength = bestLength;
+            }
+        }
+        publish(index, colony);
+    }
+
+    private void publish(int index, AntColonyTspSolver colony) {
+        EliteTour ownSlot = colonySlots.get(index);
+        if (!colony.hasBestTour() || (ownSlot != null && ownSlot.length() <= colony.getBestTourLength())) {
+            return;
+        }
+        EliteTour elite = new EliteTour(colony.copyBestTour(), colony.getBestTourLength());
+        colonySlots.set(index, elite);
+        globalSlot.accumulateAndGet(elite, MultiColonyTspSolver::shorter);
+    }
+
+    private void migrate(int index, AntColonyTspSolver colony) {
+        EliteTour immigrant = switch (config.getTopology()) {
+            case RING -> colonySlots.get((index + colonies.length - 1) % colonies.length);
+            case BROADCAST -> globalSlot.get();
+        };
+        if (immigrant != null) {
+            colony.adoptTour(immigrant.tour(), immigrant.length());
+        }
+    }
+
+    private static EliteTour shorter(EliteTour current, EliteTour candidate) {
+        return current == null || candidate.length() < current.length() ? candidate : current;
+    }
+}
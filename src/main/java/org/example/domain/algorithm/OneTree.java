@@ -0,0 +1,208 @@
+package org.example.domain.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Minimum 1-tree under node penalties and edge constraints: a spanning tree over cities
+ * 1 to n-1 plus the two cheapest edges at city 0. An edge (i, j) costs
+ * {@code d(i, j) + pi[i] + pi[j]}, and the tree's cost minus {@code 2 * sum(pi)} is a lower
+ * bound on every tour that uses all forced and no excluded edges. Forced edges are taken
+ * before any free one, so they must not contain a cycle.
+ *
+ * <p>An instance keeps its buffers between calls and must not be shared between threads.
+ */
+final class OneTree {
+    static final byte FREE = 0;
+    static final byte FORCED = 1;
+    static final byte EXCLUDED = 2;
+
+    private final int n;
+    private final double[] distances;
+
+    private final int[] parents;
+    private final int[] degrees;
+    private final double[] keys;
+    private final byte[] keyStates;
+    private final boolean[] inTree;
+    private int firstAtZero;
+    private int secondAtZero;
+
+    /**
+     * {@code distances} is the full row-major matrix of {@code n * n} entries.
+     */
+    OneTree(int n, double[] distances) {
+        this.n = n;
+        this.distances = distances;
+        this.parents = new int[n];
+        this.degrees = new int[n];
+        this.keys = new double[n];
+        this.keyStates = new byte[n];
+        this.inTree = new boolean[n];
+    }
+
+    /**
+     * Builds the minimum 1-tree and returns its bound, or NaN when the constraints leave
+     * no 1-tree without excluded edges. {@code states} holds one of {@link #FREE},
+     * {@link #FORCED} and {@link #EXCLUDED} per ordered pair of cities.
+     */
+    double compute(double[] pi, byte[] states) {
+        for (int city = 0; city < n; city++) {
+            degrees[city] = 0;
+            inTree[city] = false;
+            keys[city] = Double.POSITIVE_INFINITY;
+            keyStates[city] = EXCLUDED;
+        }
+
+        double cost = 0.0;
+        int city = 1;
+        parents[city] = -1;
+        for (int added = 1; added < n; added++) {
+            inTree[city] = true;
+            if (parents[city] >= 0) {
+                if (keyStates[city] == EXCLUDED) {
+                    return Double.NaN;
+                }
+                cost += keys[city];
+                degrees[city]++;
+                degrees[parents[city]]++;
+            }
+
+            int next = -1;
+            int row = city * n;
+            for (int other = 1; other < n; other++) {
+                if (inTree[other]) {
+                    continue;
+                }
+                byte state = states[row + other];
+                double key = distances[row + other] + pi[city] + pi[other];
+                if (precedes(state, key, keyStates[other], keys[other])) {
+                    keyStates[other] = state;
+                    keys[other] = key;
+                    parents[other] = city;
+                }
+                if (next < 0 || precedes(keyStates[other], keys[other], keyStates[next], keys[next])) {
+                    next = other;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            city = next;
+        }
+
+        firstAtZero = -1;
+        secondAtZero = -1;
+        for (int other = 1; other < n; other++) {
+            if (firstAtZero < 0 || precedesAtZero(other, firstAtZero, pi, states)) {
+                secondAtZero = firstAtZero;
+                firstAtZero = other;
+            } else if (secondAtZero < 0 || precedesAtZero(other, secondAtZero, pi, states)) {
+                secondAtZero = other;
+            }
+        }
+        if (states[firstAtZero] == EXCLUDED || states[secondAtZero] == EXCLUDED) {
+            return Double.NaN;
+        }
+        cost += distances[firstAtZero] + distances[secondAtZero] + 2 * pi[0] + pi[firstAtZero] + pi[secondAtZero];
+        degrees[0] = 2;
+        degrees[firstAtZero]++;
+        degrees[secondAtZero]++;
+
+        double penalties = 0.0;
+        for (int i = 0; i < n; i++) {
+            penalties += pi[i];
+        }
+        return cost - 2 * penalties;
+    }
+
+    int degree(int city) {
+        return degrees[city];
+    }
+
+    /**
+     * Whether every city has degree two, in which case the 1-tree is a tour of length
+     * equal to the bound.
+     */
+    boolean isTour() {
+        for (int city = 0; city < n; city++) {
+            if (degrees[city] != 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the last 1-tree contains edge (a, b).
+     */
+    boolean contains(int a, int b) {
+        if (a == 0 || b == 0) {
+            int other = a == 0 ? b : a;
+            return other == firstAtZero || other == secondAtZero;
+        }
+        return parents[a] == b || parents[b] == a;
+    }
+
+    /**
+     * The last 1-tree as a tour starting at city 0; only valid when {@link #isTour()}.
+     */
+    int[] toTour() {
+        int[] firstNeighbour = new int[n];
+        int[] secondNeighbour = new int[n];
+        Arrays.fill(firstNeighbour, -1);
+        Arrays.fill(secondNeighbour, -1);
+        for (int city = 1; city < n; city++) {
+            if (parents[city] >= 0) {
+                attach(firstNeighbour, secondNeighbour, city, parents[city]);
+            }
+        }
+        attach(firstNeighbour, secondNeighbour, 0, firstAtZero);
+        attach(firstNeighbour, secondNeighbour, 0, secondAtZero);
+
+        int[] tour = new int[n];
+        int previous = -1;
+        int city = 0;
+        for (int position = 0; position < n; position++) {
+            tour[position] = city;
+            int next = firstNeighbour[city] != previous ? firstNeighbour[city] : secondNeighbour[city];
+            previous = city;
+            city = next;
+        }
+        return tour;
+    }
+
+    private static void attach(int[] firstNeighbour, int[] secondNeighbour, int a, int b) {
+        if (firstNeighbour[a] < 0) {
+            firstNeighbour[a] = b;
+        } else {
+            secondNeighbour[a] = b;
+        }
+        if (firstNeighbour[b] < 0) {
+            firstNeighbour[b] = a;
+        } else {
+            secondNeighbour[b] = a;
+        }
+    }
+
+    private boolean precedesAtZero(int a, int b, double[] pi, byte[] states) {
+        return precedes(states[a], distances[a] + pi[a], states[b], distances[b] + pi[b]);
+    }
+
+    /**
+     * Forced edges come before free ones, which come before excluded ones; within a class
+     * the cheaper edge comes first.
+     */
+    private static boolean precedes(byte state, double key, byte otherState, double otherKey) {
+        int rank = rank(state);
+        int otherRank = rank(otherState);
+        return rank < otherRank || (rank == otherRank && key < otherKey);
+    }
+
+    private static int rank(byte state) {
+        return switch (state) {
+            case FORCED -> 0;
+            case FREE -> 1;
+            default -> 2;
+        };
+    }
+}
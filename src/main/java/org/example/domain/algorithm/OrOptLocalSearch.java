@@ -0,0 +1,146 @@
+package org.example.domain.algorithm;
+
+/**
+ * Or-opt over nearest-neighbour lists: moves a segment of one to three cities starting at
+ * a city to another place in the tour, optionally reversed. The new position is searched
+ * among edges touching a neighbour of one of the segment ends.
+ */
+final class OrOptLocalSearch extends ArrayLocalSearch {
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    private double bestDelta;
+    private int bestFirst;
+    private int bestLast;
+    private boolean bestForward;
+    private int bestC;
+    private int bestY;
+    private int bestJoinedToC;
+
+    OrOptLocalSearch(DistanceMatrix distanceMatrix, int[][] neighbourLists, MoveSelection moveSelection) {
+        super(distanceMatrix, neighbourLists, moveSelection);
+    }
+
+    @Override
+    int minimumCities() {
+        return 5;
+    }
+
+    @Override
+    void improveCity(int a) {
+        bestDelta = -EPSILON;
+        bestFirst = -1;
+
+        for (int direction = 0; direction < 2; direction++) {
+            boolean forward = direction == 0;
+            int last = a;
+
+            for (int length = 1; length <= MAX_SEGMENT_LENGTH && length + 3 <= n; length++) {
+                if (length > 1) {
+                    last = successor(last, forward);
+                }
+                if (length == 1 && !forward) {
+                    continue;
+                }
+                if (tryMoveSegment(a, last, forward)) {
+                    return;
+                }
+            }
+        }
+
+        if (bestFirst >= 0) {
+            applyMove(bestFirst, bestLast, bestForward, bestC, bestY, bestJoinedToC);
+        }
+    }
+
+    /**
+     * Evaluates moving the segment from {@code first} to {@code last} (in the given
+     * direction) between the ends of an edge (c, y). Returns true when a first-improvement
+     * move has been applied.
+     */
+    private boolean tryMoveSegment(int first, int last, boolean forward) {
+        int before = successor(first, !forward);
+        int after = successor(last, forward);
+        double removalGain = distance(before, first) + distance(last, after) - distance(before, after);
+        if (removalGain <= EPSILON) {
+            return false;
+        }
+
+        for (int end = 0; end < 2; end++) {
+            int joined = end == 0 ? first : last;
+            int other = end == 0 ? last : first;
+
+            for (int c : neighbourLists[joined]) {
+                double addedC = distance(c, joined);
+                if (addedC >= removalGain - EPSILON) {
+                    break;
+                }
+                if (between(first, c, last, forward)) {
+                    continue;
+                }
+
+                for (int side = 0; side < 2; side++) {
+                    int y = side == 0 ? next(c) : previous(c);
+                    if (between(first, y, last, forward)) {
+                        continue;
+                    }
+
+                    double delta = addedC + distance(other, y) - distance(c, y) - removalGain;
+                    if (delta < bestDelta) {
+                        bestDelta = delta;
+                        bestFirst = first;
+                        bestLast = last;
+                        bestForward = forward;
+                        bestC = c;
+                        bestY = y;
+                        bestJoinedToC = joined;
+                        if (moveSelection == MoveSelection.FIRST_IMPROVEMENT) {
+                            applyMove(first, last, forward, c, y, joined);
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Moves the segment running from {@code first} to {@code last} in the given direction
+     * into edge (c, y) so that {@code joinedToC} becomes adjacent to c. Done as two or
+     * three 2-opt moves.
+     */
+    private void applyMove(int first, int last, boolean forward, int c, int y, int joinedToC) {
+        int before = successor(first, !forward);
+        int after = successor(last, forward);
+        int u = successor(c, forward) == y ? c : y;
+        int v = u == c ? y : c;
+
+        if (v == before) {
+            int swap = first;
+            first = last;
+            last = swap;
+            swap = before;
+            before = after;
+            after = swap;
+            swap = u;
+            u = v;
+            v = swap;
+        }
+
+        int joinedToU = u == c ? joinedToC : (joinedToC == first ? last : first);
+
+        makeTwoOptMove(before, first, u, v);
+        makeTwoOptMove(before, u, after, last);
+        if (joinedToU == first && first != last) {
+            makeTwoOptMove(u, last, first, v);
+        }
+
+        activate(before);
+        activate(after);
+        activate(first);
+        activate(last);
+        activate(c);
+        activate(y);
+    }
+}
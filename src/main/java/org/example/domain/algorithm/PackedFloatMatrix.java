@@ -0,0 +1,47 @@
+package org.example.domain.algorithm;
+
+import java.util.Arrays;
+
+final class PackedFloatMatrix implements SymmetricMatrix {
+    private final int size;
+    private final float[] cells;
+
+    PackedFloatMatrix(int size) {
+        this.size = size;
+        this.cells = new float[SymmetricMatrix.packedLength(size)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        return cells[SymmetricMatrix.packedIndex(i, j)];
+    }
+
+    @Override
+    public void set(int i, int j, double value) {
+        cells[SymmetricMatrix.packedIndex(i, j)] = (float) value;
+    }
+
+    @Override
+    public void fill(double value) {
+        Arrays.fill(cells, (float) value);
+    }
+
+    @Override
+    public void multiplyAll(double factor) {
+        for (int k = 0; k < cells.length; k++) {
+            cells[k] = (float) (cells[k] * factor);
+        }
+    }
+
+    @Override
+    public void clampAll(double min, double max) {
+        for (int k = 0; k < cells.length; k++) {
+            cells[k] = (float) Math.min(max, Math.max(min, cells[k]));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.example.domain.algorithm;
+
+import java.util.Arrays;
+
+/**
+ * Packed lower triangle of values rounded to the nearest integer with TSPLIB's
+ * {@code nint}, i.e. {@code (int) (x + 0.5)}, so distances must be non-negative.
+ */
+final class PackedRoundedMatrix implements SymmetricMatrix {
+    private final int size;
+    private final int[] cells;
+
+    PackedRoundedMatrix(int size) {
+        this.size = size;
+        this.cells = new int[SymmetricMatrix.packedLength(size)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double get(int i, int j) {
+        return cells[SymmetricMatrix.packedIndex(i, j)];
+    }
+
+    @Override
+    public void set(int i, int j, double value) {
+        cells[SymmetricMatrix.packedIndex(i, j)] = nint(value);
+    }
+
+    @Override
+    public void fill(double value) {
+        Arrays.fill(cells, nint(value));
+    }
+
+    @Override
+    public void multiplyAll(double factor) {
+        for (int k = 0; k < cells.length; k++) {
+            cells[k] = nint(cells[k] * factor);
+        }
+    }
+
+    @Override
+    public void clampAll(double min, double max) {
+        for (int k = 0; k < cells.length; k++) {
+            cells[k] = nint(Math.min(max, Math.max(min, cells[k])));
+        }
+    }
+
+    private static int nint(double value) {
+        return (int) (value + 0.5);
+    }
+}
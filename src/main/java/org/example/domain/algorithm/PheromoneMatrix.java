@@ -0,0 +1,38 @@
+package org.example.domain.algorithm;
+
+/**
+ * Symmetric pheromone trails with evaporation, deposits and bounds. One update consists
+ * of an optional {@link #evaporate()}, any number of {@link #deposit} and {@link #set}
+ * calls and a final {@link #applyBounds}. The bounds passed to successive updates must
+ * never decrease.
+ */
+interface PheromoneMatrix {
+
+    double get(int cityA, int cityB);
+
+    void evaporate();
+
+    void deposit(int cityA, int cityB, double amount);
+
+    /**
+     * Overwrites the trail on one edge, e.g. for the edge-local updates of Ant Colony
+     * System.
+     */
+    void set(int cityA, int cityB, double value);
+
+    void applyBounds(double minPheromone, double maxPheromone);
+
+    static PheromoneMatrix create(PheromoneUpdate update, int numberOfCities, double initialPheromone,
+                                  double evaporationRate) {
+        return create(update, numberOfCities, initialPheromone, evaporationRate, MatrixStorage.FULL);
+    }
+
+    static PheromoneMatrix create(PheromoneUpdate update, int numberOfCities, double initialPheromone,
+                                  double evaporationRate, MatrixStorage storage) {
+        SymmetricMatrix trails = SymmetricMatrix.create(numberOfCities, storage);
+        return switch (update) {
+            case EAGER -> new EagerPheromoneMatrix(trails, initialPheromone, evaporationRate);
+            case LAZY -> new LazyPheromoneMatrix(trails, initialPheromone, evaporationRate);
+        };
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.domain.algorithm;
+
+/**
+ * How one ant colony variant initialises, reinforces and bounds the pheromone trails. An
+ * instance belongs to a single solver and may keep state between iterations.
+ */
+interface PheromoneStrategy {
+
+    double evaporationRate();
+
+    /**
+     * Trail every edge starts with, derived from the length of a nearest-neighbour tour.
+     */
+    double initialPheromone(int numberOfCities, int numberOfAnts, double nearestNeighbourTourLength);
+
+    /**
+     * Probability that an ant takes the best-looking unvisited city instead of drawing one.
+     */
+    default double exploitation() {
+        return 0.0;
+    }
+
+    /**
+     * Called for every ant's tour in ant order after all ants of an iteration are built.
+     */
+    default void localUpdate(PheromoneMatrix pheromone, int[] tour) {
+    }
+
+    /**
+     * Applies the end-of-iteration update, finishing with {@link PheromoneMatrix#applyBounds}.
+     */
+    void globalUpdate(PheromoneMatrix pheromone, int[][] tours, double[] tourLengths,
+                      int[] bestTour, double bestTourLength);
+
+    static PheromoneStrategy create(AntColonyVariant variant) {
+        return switch (variant) {
+            case HYBRID -> new HybridStrategy();
+            case ANT_SYSTEM -> new AntSystemStrategy();
+            case RANK_BASED_ANT_SYSTEM -> new RankBasedAntSystemStrategy();
+            case MAX_MIN_ANT_SYSTEM -> new MaxMinAntSystemStrategy();
+            case ANT_COLONY_SYSTEM -> new AntColonySystemStrategy();
+        };
+    }
+
+    static void depositAlongTour(PheromoneMatrix pheromone, int[] tour, double amount) {
+        for (int i = 0; i < tour.length; i++) {
+            pheromone.deposit(tour[i], tour[(i + 1) % tour.length], amount);
+        }
+    }
+
+    static int bestIndex(double[] tourLengths) {
+        int best = 0;
+        for (int i = 1; i < tourLengths.length; i++) {
+            if (tourLengths[i] < tourLengths[best]) {
+                best = i;
+            }
+        }
+        return best;
+    }
+}
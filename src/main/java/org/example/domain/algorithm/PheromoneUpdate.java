@@ -0,0 +1,13 @@
+package org.example.domain.algorithm;
+
+public enum PheromoneUpdate {
+    /**
+     * Evaporates and clamps every cell of the matrix in each iteration.
+     */
+    EAGER,
+    /**
+     * Keeps a global evaporation factor and touches only the cells on deposited edges, so
+     * an iteration costs O(m·n) for m depositing ants instead of O(n²).
+     */
+    LAZY
+}
@@ -0,0 +1,182 @@
+package org.example.domain.algorithm;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes {@link SolverProgress} events without ever blocking the solver. Each subscriber
+ * has a single pending slot: an event that arrives before the previous one was delivered
+ * replaces it, so a slow subscriber sees fewer, but always the latest, events. Delivery
+ * happens on the executor, one drain at a time per subscriber.
+ */
+public final class ProgressPublisher implements Flow.Publisher<SolverProgress>, AutoCloseable {
+
+    private final Executor executor;
+    private final List<CoalescingSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    public ProgressPublisher() {
+        this(defaultExecutor());
+    }
+
+    public ProgressPublisher(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "executor");
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super SolverProgress> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        CoalescingSubscription subscription = new CoalescingSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+        if (closed) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Cheap check that lets solvers skip building events nobody listens to.
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Hands {@code progress} to every subscriber, replacing any event still pending.
+     */
+    public void publish(SolverProgress progress) {
+        if (closed) {
+            return;
+        }
+        for (CoalescingSubscription subscription : subscriptions) {
+            subscription.offer(progress);
+        }
+    }
+
+    /**
+     * Completes every subscription after its pending event has been delivered.
+     * Idempotent.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (CoalescingSubscription subscription : subscriptions) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * The common pool, unless it has no worker threads to spare, as on a single-CPU machine.
+     * Then all publishers share one daemon thread, started on first use.
+     */
+    private static Executor defaultExecutor() {
+        if (ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return ForkJoinPool.commonPool();
+        }
+        return FallbackExecutor.INSTANCE;
+    }
+
+    private static final class FallbackExecutor {
+        static final Executor INSTANCE = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "progress-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private final class CoalescingSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super SolverProgress> subscriber;
+        private final AtomicReference<SolverProgress> pending = new AtomicReference<>();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drainRequests = new AtomicInteger();
+        private volatile boolean completing;
+        private volatile boolean done;
+
+        CoalescingSubscription(Flow.Subscriber<? super SolverProgress> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void offer(SolverProgress progress) {
+            pending.set(progress);
+            if (demand.get() > 0) {
+                scheduleDrain();
+            }
+        }
+
+        void complete() {
+            completing = true;
+            scheduleDrain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Requested count must be positive: " + n));
+                return;
+            }
+            demand.accumulateAndGet(n, (current, added) -> {
+                long sum = current + added;
+                return sum < 0 ? Long.MAX_VALUE : sum;
+            });
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            pending.set(null);
+            subscriptions.remove(this);
+        }
+
+        private void scheduleDrain() {
+            if (drainRequests.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * Delivers the pending event while there is demand, then the completion signal. The
+         * drain counter makes sure only one thread runs this at a time and that no request
+         * made during a drain is lost.
+         */
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                while (!done && demand.get() > 0) {
+                    SolverProgress progress = pending.getAndSet(null);
+                    if (progress == null) {
+                        break;
+                    }
+                    if (demand.get() != Long.MAX_VALUE) {
+                        demand.decrementAndGet();
+                    }
+                    try {
+                        subscriber.onNext(progress);
+                    } catch (RuntimeException e) {
+                        cancel();
+                        subscriber.onError(e);
+                    }
+                }
+                if (!done && completing && pending.get() == null) {
+                    done = true;
+                    subscriptions.remove(this);
+                    subscriber.onComplete();
+                }
+                missed = drainRequests.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.domain.algorithm;
+
+/**
+ * Rank-based Ant System: only the {@code w - 1} best ants of an iteration deposit,
+ * weighted by rank, and the best tour found so far deposits with weight {@code w}.
+ */
+final class RankBasedAntSystemStrategy implements PheromoneStrategy {
+    private static final double EVAPORATION_RATE = 0.1;
+    private static final int WEIGHT = 6;
+
+    private final int[] rankedAnts = new int[WEIGHT - 1];
+
+    @Override
+    public double evaporationRate() {
+        return EVAPORATION_RATE;
+    }
+
+    @Override
+    public double initialPheromone(int numberOfCities, int numberOfAnts, double nearestNeighbourTourLength) {
+        return 0.5 * WEIGHT * (WEIGHT - 1) / (EVAPORATION_RATE * nearestNeighbourTourLength);
+    }
+
+    @Override
+    public void globalUpdate(PheromoneMatrix pheromone, int[][] tours, double[] tourLengths,
+                             int[] bestTour, double bestTourLength) {
+        int ranked = rankAnts(tourLengths);
+
+        pheromone.evaporate();
+        for (int rank = 0; rank < ranked; rank++) {
+            int antIndex = rankedAnts[rank];
+            PheromoneStrategy.depositAlongTour(pheromone, tours[antIndex],
+                    (WEIGHT - 1 - rank) / tourLengths[antIndex]);
+        }
+        PheromoneStrategy.depositAlongTour(pheromone, bestTour, WEIGHT / bestTourLength);
+        pheromone.applyBounds(0.0, Double.MAX_VALUE);
+    }
+
+    /**
+     * Fills {@code rankedAnts} with the indices of the shortest tours, shortest first, and
+     * returns how many there are.
+     */
+    private int rankAnts(double[] tourLengths) {
+        int filled = 0;
+        for (int antIndex = 0; antIndex < tourLengths.length; antIndex++) {
+            double length = tourLengths[antIndex];
+            if (filled == rankedAnts.length && length >= tourLengths[rankedAnts[filled - 1]]) {
+                continue;
+            }
+
+            int position = filled < rankedAnts.length ? filled++ : filled - 1;
+            while (position > 0 && tourLengths[rankedAnts[position - 1]] > length) {
+                rankedAnts[position] = rankedAnts[position - 1];
+                position--;
+            }
+            rankedAnts[position] = antIndex;
+        }
+        return filled;
+    }
+}
@@ -0,0 +1,200 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Deadline, cancellation handle and best-tour-so-far of one solver run. The solver checks
+ * {@link #shouldStop()} regularly and returns its best tour once it is true. Any thread may
+ * call {@link #cancel()} or {@link #getBestSoFar()} while the run is in progress, or
+ * subscribe to {@link #progress()} for per-iteration events.
+ *
+ * <p>Solvers that know a lower bound on the tour length report it, and the run also stops
+ * once the gap between the best tour and that bound is within the target gap. The default
+ * target of zero stops only at a tour proven optimal.
+ */
+public final class SolveContext {
+
+    private record Snapshot(int[] tour, double length) {
+    }
+
+    private static final double GAP_TOLERANCE = 1e-9;
+
+    private final boolean hasDeadline;
+    private final long deadlineNanos;
+    private volatile boolean cancelled;
+    private volatile double targetGap;
+    private volatile PointSet points;
+    private final AtomicReference<Snapshot> best = new AtomicReference<>();
+    private final AtomicLong lowerBoundBits = new AtomicLong(Double.doubleToLongBits(0.0));
+    private final ProgressPublisher progress = new ProgressPublisher();
+    private volatile long startNanos = System.nanoTime();
+
+    private SolveContext(boolean hasDeadline, long deadlineNanos) {
+        this.hasDeadline = hasDeadline;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static SolveContext unbounded() {
+        return new SolveContext(false, 0L);
+    }
+
+    /**
+     * Creates a context whose deadline is {@code timeout} from now.
+     */
+    public static SolveContext withTimeout(Duration timeout) {
+        if (timeout == null || timeout.isNegative()) {
+            throw new IllegalArgumentException("Timeout cannot be negative");
+        }
+        return new SolveContext(true, System.nanoTime() + timeout.toNanos());
+    }
+
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    public boolean shouldStop() {
+        return cancelled || (hasDeadline && System.nanoTime() - deadlineNanos >= 0) || isTargetGapReached();
+    }
+
+    /**
+     * Makes the run stop once the best tour is within {@code targetGap} of the lower bound,
+     * e.g. 0.01 for one percent above it.
+     */
+    public void setTargetGap(double targetGap) {
+        if (!(targetGap >= 0.0)) {
+            throw new IllegalArgumentException("Target gap cannot be negative");
+        }
+        this.targetGap = targetGap;
+    }
+
+    public double getTargetGap() {
+        return targetGap;
+    }
+
+    public boolean isTargetGapReached() {
+        return getGap() <= targetGap + GAP_TOLERANCE;
+    }
+
+    public boolean hasDeadline() {
+        return hasDeadline;
+    }
+
+    /**
+     * Deadline in {@link System#nanoTime()} units; only meaningful when
+     * {@link #hasDeadline()} is true.
+     */
+    public long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    /**
+     * The shortest complete tour the solver has reported so far, if any.
+     */
+    public Optional<Tour> getBestSoFar() {
+        Snapshot snapshot = best.get();
+        PointSet currentPoints = points;
+        if (snapshot == null || currentPoints == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Tour.of(currentPoints, snapshot.tour()));
+    }
+
+    public double getBestLength() {
+        Snapshot snapshot = best.get();
+        return snapshot == null ? Double.POSITIVE_INFINITY : snapshot.length();
+    }
+
+    /**
+     * The largest proven lower bound on the tour length reported so far, or zero when the
+     * solver proves none.
+     */
+    public double getLowerBound() {
+        return Double.longBitsToDouble(lowerBoundBits.get());
+    }
+
+    /**
+     * Relative gap between the best tour so far and the lower bound, zero once the tour is
+     * proven optimal; infinite while either is missing.
+     */
+    public double getGap() {
+        double lowerBound = getLowerBound();
+        double bestLength = getBestLength();
+        if (lowerBound <= 0.0 || bestLength == Double.POSITIVE_INFINITY) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Math.max(0.0, (bestLength - lowerBound) / lowerBound);
+    }
+
+    /**
+     * Progress events of the run. Completes when the solver returns.
+     */
+    public ProgressPublisher progress() {
+        return progress;
+    }
+
+    /**
+     * Called by the solver before it reports tours as indices into {@code cities}.
+     */
+    void begin(List<City> cities) {
+        begin(PointSet.of(cities));
+    }
+
+    /**
+     * Called by the solver before it reports tours as indices into {@code points}.
+     */
+    void begin(PointSet points) {
+        this.points = points;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Called by the solver once it has returned its tour.
+     */
+    void finish() {
+        progress.close();
+    }
+
+    /**
+     * Publishes an iteration's progress. Does nothing, and allocates nothing, while there
+     * are no subscribers.
+     */
+    void reportProgress(long iteration, double bestLength, boolean improved, double alpha, double beta) {
+        if (!progress.hasSubscribers()) {
+            return;
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        progress.publish(new SolverProgress(iteration, bestLength, improved, elapsed, alpha, beta, getGap()));
+    }
+
+    /**
+     * Records {@code tour} unless a shorter one has been reported. The array must not be
+     * modified afterwards. Safe to call from several threads.
+     */
+    void offer(int[] tour, double length) {
+        Snapshot candidate = new Snapshot(tour, length);
+        best.accumulateAndGet(candidate, (current, offered) ->
+                current == null || offered.length() < current.length() ? offered : current);
+    }
+
+    /**
+     * Records a proven lower bound on the length of every tour; smaller bounds than one
+     * already reported are ignored. Safe to call from several threads.
+     */
+    void offerLowerBound(double lowerBound) {
+        long offered = Double.doubleToLongBits(lowerBound);
+        // Non-negative doubles order like their bit patterns.
+        lowerBoundBits.accumulateAndGet(offered, Math::max);
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.domain.algorithm;
+
+import java.time.Duration;
+
+/**
+ * Progress of a running solver after one iteration. Alpha and beta are the current
+ * pheromone and visibility weights, or NaN for solvers without them. The gap is relative
+ * to the best known lower bound, infinite when there is none.
+ */
+public record SolverProgress(long iteration,
+                             double bestLength,
+                             boolean improved,
+                             Duration elapsed,
+                             double alpha,
+                             double beta,
+                             double gap) {
+}
@@ -0,0 +1,139 @@
+package org.example.domain.algorithm;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Trails on candidate edges only, in O(n·k) memory: slot {@code i} of city {@code c}
+ * holds the edge from {@code c} to its {@code i}-th candidate, and an edge listed by both
+ * ends is kept in both slots. Every other edge reads one shared default, which evaporates
+ * with the rest but ignores deposits. Evaporation and bounds work as in
+ * {@link LazyPheromoneMatrix}, so the default is exactly what an untouched cell of a full
+ * matrix would hold.
+ */
+final class SparsePheromoneMatrix implements PheromoneMatrix {
+    private static final double MIN_SCALE = 1e-100;
+
+    private final int[][] candidateLists;
+    private final int candidateListSize;
+    private final double[] trails;
+    private final double evaporationRate;
+    private double defaultTrail;
+    private double minPheromone;
+    private double scale = 1.0;
+
+    private final BitSet touched;
+    private int[] touchedSlots;
+    private int touchedCount;
+
+    SparsePheromoneMatrix(int[][] candidateLists, double initialPheromone, double evaporationRate) {
+        this.candidateLists = candidateLists;
+        this.candidateListSize = candidateLists.length == 0 ? 0 : candidateLists[0].length;
+        this.trails = new double[candidateLists.length * candidateListSize];
+        Arrays.fill(trails, initialPheromone);
+        this.defaultTrail = initialPheromone;
+        this.evaporationRate = evaporationRate;
+        this.touched = new BitSet(trails.length);
+        this.touchedSlots = new int[2 * candidateLists.length];
+    }
+
+    @Override
+    public double get(int cityA, int cityB) {
+        int slot = slot(cityA, cityB);
+        if (slot < 0) {
+            slot = slot(cityB, cityA);
+        }
+        double stored = slot < 0 ? defaultTrail : trails[slot];
+        return Math.max(minPheromone, stored * scale);
+    }
+
+    @Override
+    public void evaporate() {
+        scale *= 1.0 - evaporationRate;
+        if (scale < MIN_SCALE) {
+            rescale();
+        }
+    }
+
+    @Override
+    public void deposit(int cityA, int cityB, double amount) {
+        int slotA = slot(cityA, cityB);
+        int slotB = slot(cityB, cityA);
+        if (slotA < 0 && slotB < 0) {
+            return;
+        }
+        double stored = trails[slotA >= 0 ? slotA : slotB];
+        double current = Math.max(minPheromone * (1.0 - evaporationRate), stored * scale);
+        store(slotA, slotB, current + amount);
+    }
+
+    @Override
+    public void set(int cityA, int cityB, double value) {
+        store(slot(cityA, cityB), slot(cityB, cityA), value);
+    }
+
+    private void store(int slotA, int slotB, double value) {
+        double stored = value / scale;
+        if (touchedCount + 2 > touchedSlots.length) {
+            touchedSlots = Arrays.copyOf(touchedSlots, 2 * touchedSlots.length);
+        }
+        if (slotA >= 0) {
+            trails[slotA] = stored;
+            touch(slotA);
+        }
+        if (slotB >= 0) {
+            trails[slotB] = stored;
+            touch(slotB);
+        }
+    }
+
+    /**
+     * Lists {@code slot} for the bounds unless it already is, so the list never holds more
+     * entries than there are slots.
+     */
+    private void touch(int slot) {
+        if (touched.get(slot)) {
+            return;
+        }
+        touched.set(slot);
+        touchedSlots[touchedCount++] = slot;
+    }
+
+    @Override
+    public void applyBounds(double minPheromone, double maxPheromone) {
+        this.minPheromone = minPheromone;
+        double lower = minPheromone / scale;
+        double upper = maxPheromone / scale;
+        for (int i = 0; i < touchedCount; i++) {
+            int slot = touchedSlots[i];
+            trails[slot] = Math.min(upper, Math.max(lower, trails[slot]));
+            touched.clear(slot);
+        }
+        touchedCount = 0;
+    }
+
+    /**
+     * Slot of the edge in {@code city}'s candidate list, or -1 when {@code other} is not a
+     * candidate of {@code city}.
+     */
+    private int slot(int city, int other) {
+        int[] candidates = candidateLists[city];
+        for (int i = 0; i < candidates.length; i++) {
+            if (candidates[i] == other) {
+                return city * candidateListSize + i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Folds the evaporation factor into the trails and the default before it underflows.
+     */
+    private void rescale() {
+        for (int slot = 0; slot < trails.length; slot++) {
+            trails[slot] *= scale;
+        }
+        defaultTrail *= scale;
+        scale = 1.0;
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.domain.algorithm;
+
+/**
+ * Mutable symmetric matrix in one of the {@link MatrixStorage} layouts. Setting a cell sets
+ * its mirror too.
+ */
+interface SymmetricMatrix extends DistanceMatrix {
+
+    double get(int i, int j);
+
+    void set(int i, int j, double value);
+
+    void fill(double value);
+
+    void multiplyAll(double factor);
+
+    /**
+     * Clamps every cell to {@code [min, max]}.
+     */
+    void clampAll(double min, double max);
+
+    @Override
+    default double distance(int from, int to) {
+        return get(from, to);
+    }
+
+    static SymmetricMatrix create(int size, MatrixStorage storage) {
+        return switch (storage) {
+            case FULL -> new FullSymmetricMatrix(new double[size][size]);
+            case PACKED -> new PackedDoubleMatrix(size);
+            case PACKED_FLOAT -> new PackedFloatMatrix(size);
+            case PACKED_ROUNDED -> new PackedRoundedMatrix(size);
+        };
+    }
+
+    /**
+     * Approximate heap size of a {@code size}×{@code size} matrix in {@code storage}.
+     */
+    static long bytes(int size, MatrixStorage storage) {
+        long cells = (long) size * size;
+        return switch (storage) {
+            case FULL -> cells * Double.BYTES;
+            case PACKED -> cells / 2 * Double.BYTES;
+            case PACKED_FLOAT -> cells / 2 * Float.BYTES;
+            case PACKED_ROUNDED -> cells / 2 * Integer.BYTES;
+        };
+    }
+
+    /**
+     * Number of cells in the lower triangle of a {@code size}×{@code size} matrix,
+     * diagonal included.
+     */
+    static int packedLength(int size) {
+        long length = (long) size * (size + 1) / 2;
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many cities for packed storage: " + size);
+        }
+        return (int) length;
+    }
+
+    /**
+     * Index of cell (i, j) in the lower triangle stored row by row.
+     */
+    static int packedIndex(int i, int j) {
+        int high = Math.max(i, j);
+        int low = Math.min(i, j);
+        return (int) ((long) high * (high + 1) >>> 1) + low;
+    }
+}
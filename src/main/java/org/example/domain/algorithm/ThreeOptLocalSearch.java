@@ -0,0 +1,171 @@
+package org.example.domain.algorithm;
+
+/**
+ * Sequential 3-opt over nearest-neighbour lists. Starting from t1 and its tour neighbour
+ * t2, it adds edge (t2, t3) to a neighbour of t2, removes (t3, t4), adds (t4, t5) to a
+ * neighbour of t4, removes (t5, t6) and closes with (t6, t1). The 2-opt closure after the
+ * first exchange is tried as well. When t4 follows t3, closing after the first exchange
+ * would split the tour, so t5 has to lie between t2 and t3. Moves are carried out as two
+ * or three segment reversals.
+ */
+final class ThreeOptLocalSearch extends ArrayLocalSearch {
+    private static final int TWO_OPT = 0;
+    private static final int THREE_OPT_ACROSS = 1;
+    private static final int THREE_OPT_INSIDE_AFTER = 2;
+    private static final int THREE_OPT_INSIDE_BEFORE = 3;
+
+    private double bestDelta;
+    private int bestType;
+    private final int[] bestCities = new int[6];
+
+    ThreeOptLocalSearch(DistanceMatrix distanceMatrix, int[][] neighbourLists, MoveSelection moveSelection) {
+        super(distanceMatrix, neighbourLists, moveSelection);
+    }
+
+    @Override
+    int minimumCities() {
+        return 5;
+    }
+
+    @Override
+    void improveCity(int t1) {
+        bestDelta = -EPSILON;
+        bestType = -1;
+
+        for (int direction = 0; direction < 2; direction++) {
+            boolean forward = direction == 0;
+            if (searchFrom(t1, forward)) {
+                return;
+            }
+        }
+
+        if (bestType >= 0) {
+            applyMove(bestType, bestCities[0], bestCities[1], bestCities[2],
+                    bestCities[3], bestCities[4], bestCities[5]);
+        }
+    }
+
+    /**
+     * Returns true when a first-improvement move has been applied.
+     */
+    private boolean searchFrom(int t1, boolean forward) {
+        int t2 = successor(t1, forward);
+        double removed12 = distance(t1, t2);
+
+        for (int t3 : neighbourLists[t2]) {
+            double gain1 = removed12 - distance(t2, t3);
+            if (gain1 <= EPSILON) {
+                break;
+            }
+            if (t3 == t1 || t3 == successor(t2, forward)) {
+                continue;
+            }
+
+            for (int choice = 0; choice < 2; choice++) {
+                boolean closable = choice == 0;
+                int t4 = closable ? successor(t3, !forward) : successor(t3, forward);
+                if (t4 == t1 || t4 == t2) {
+                    continue;
+                }
+                double gain2 = gain1 + distance(t3, t4);
+
+                if (closable && consider(gain2 - distance(t4, t1), TWO_OPT, t1, t2, t3, t4, -1, -1)) {
+                    return true;
+                }
+
+                for (int t5 : neighbourLists[t4]) {
+                    double gain3 = gain2 - distance(t4, t5);
+                    if (gain3 <= EPSILON) {
+                        break;
+                    }
+                    if (t5 == t1 || t5 == t2 || t5 == t3) {
+                        continue;
+                    }
+
+                    if (closable) {
+                        int t6 = between(t2, t5, t4, forward) ? successor(t5, forward) : successor(t5, !forward);
+                        if (t6 == t1 || t6 == t4) {
+                            continue;
+                        }
+                        double delta = gain3 + distance(t5, t6) - distance(t6, t1);
+                        if (consider(delta, THREE_OPT_ACROSS, t1, t2, t3, t4, t5, t6)) {
+                            return true;
+                        }
+                    } else if (between(t2, t5, t3, forward)) {
+                        for (int side = 0; side < 2; side++) {
+                            boolean after = side == 0;
+                            int t6 = successor(t5, after ? forward : !forward);
+                            if (t6 == t4 || t6 == t1) {
+                                continue;
+                            }
+                            double delta = gain3 + distance(t5, t6) - distance(t6, t1);
+                            int type = after ? THREE_OPT_INSIDE_AFTER : THREE_OPT_INSIDE_BEFORE;
+                            if (consider(delta, type, t1, t2, t3, t4, t5, t6)) {
+                                return true;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Records a move whose total gain is {@code gain}. Applies it straight away and returns
+     * true under first improvement.
+     */
+    private boolean consider(double gain, int type, int t1, int t2, int t3, int t4, int t5, int t6) {
+        double delta = -gain;
+        if (delta >= bestDelta) {
+            return false;
+        }
+        if (moveSelection == MoveSelection.FIRST_IMPROVEMENT) {
+            applyMove(type, t1, t2, t3, t4, t5, t6);
+            return true;
+        }
+
+        bestDelta = delta;
+        bestType = type;
+        bestCities[0] = t1;
+        bestCities[1] = t2;
+        bestCities[2] = t3;
+        bestCities[3] = t4;
+        bestCities[4] = t5;
+        bestCities[5] = t6;
+        return false;
+    }
+
+    /**
+     * Removes (t1, t2), (t3, t4) and (t5, t6) and adds (t2, t3), (t4, t5) and (t6, t1), or
+     * only the first exchange closed with (t4, t1) for a 2-opt move.
+     */
+    private void applyMove(int type, int t1, int t2, int t3, int t4, int t5, int t6) {
+        switch (type) {
+            case TWO_OPT -> makeTwoOptMove(t1, t2, t4, t3);
+            case THREE_OPT_ACROSS -> {
+                makeTwoOptMove(t1, t2, t4, t3);
+                makeTwoOptMove(t4, t1, t5, t6);
+            }
+            case THREE_OPT_INSIDE_AFTER -> {
+                makeTwoOptMove(t1, t2, t3, t4);
+                makeTwoOptMove(t1, t3, t6, t5);
+                makeTwoOptMove(t3, t5, t2, t4);
+            }
+            default -> {
+                makeTwoOptMove(t1, t2, t6, t5);
+                makeTwoOptMove(t2, t5, t3, t4);
+            }
+        }
+
+        activate(t1);
+        activate(t2);
+        activate(t3);
+        activate(t4);
+        if (type != TWO_OPT) {
+            activate(t5);
+            activate(t6);
+        }
+    }
+}
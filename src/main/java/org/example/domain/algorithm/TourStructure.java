@@ -0,0 +1,50 @@
+package org.example.domain.algorithm;
+
+/**
+ * Tour representation for the local searches: answers successor, predecessor and
+ * betweenness queries in O(1) and reverses paths of the tour. A reversal may instead
+ * reverse the rest of the tour, which gives the same cycle in the opposite orientation.
+ */
+interface TourStructure {
+    /**
+     * From this size on the two-level list reverses faster than the array, see
+     * {@code TourStructureBenchmark}.
+     */
+    int TWO_LEVEL_MIN_CITIES = 100_000;
+
+    /**
+     * The structure suited to tours of up to {@code numberOfCities} cities.
+     */
+    static TourStructure create(int numberOfCities) {
+        return numberOfCities >= TWO_LEVEL_MIN_CITIES
+                ? new TwoLevelListTour(numberOfCities)
+                : new ArrayTour(numberOfCities);
+    }
+
+    /**
+     * Starts from {@code tour}. The structure may work on the array directly, so it must
+     * not be modified until {@link #store(int[])} has been called.
+     */
+    void load(int[] tour);
+
+    /**
+     * Writes the current tour into the array passed to {@link #load(int[])}.
+     */
+    void store(int[] tour);
+
+    int next(int city);
+
+    int previous(int city);
+
+    /**
+     * Whether {@code b} lies on the forward path from {@code a} to {@code c}, both ends
+     * included.
+     */
+    boolean between(int a, int b, int c);
+
+    /**
+     * Reverses the forward path from {@code fromCity} to {@code toCity}, or the rest of the
+     * tour.
+     */
+    void reverse(int fromCity, int toCity);
+}
@@ -1,10 +1,19 @@
 package org.example.domain.algorithm;
 
 import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
 import org.example.domain.model.Tour;
 
 import java.util.List;
 
 public interface TspSolver {
     Tour solve(List<City> cities);
+
+    /**
+     * Solves over index-addressed coordinates. Solvers that work on indices override this
+     * to avoid creating a {@link City} per point; the default materialises them once.
+     */
+    default Tour solve(PointSet points) {
+        return solve(points.toCities());
+    }
 }
@@ -0,0 +1,291 @@
+package org.example.domain.algorithm;
+
+/**
+ * Two-level list: the tour is cut into about sqrt(n) segments, each a run of a backing
+ * array with its own reversal bit, and the segments are kept in tour order. A reversal
+ * inside one segment swaps cities as {@link ArrayTour} does; a longer one splits the
+ * segments at both ends of the path and then reverses the order and the bits of the whole
+ * segments in between. Either way it costs O(sqrt(n)) instead of O(n). Splits add
+ * segments, so the backing array is rewritten in tour order whenever their number has
+ * doubled, which amortises to O(sqrt(n)) per reversal as well.
+ */
+final class TwoLevelListTour implements TourStructure {
+    private int[] cities;
+    private int[] scratch;
+    private final int[] positions;
+    private final int[] segmentAt;
+
+    private int[] starts = new int[0];
+    private int[] ends = new int[0];
+    private boolean[] reversed = new boolean[0];
+    private int[] ranks = new int[0];
+    private int[] order = new int[0];
+    private int segments;
+    private int maxSegments;
+    private int n;
+
+    TwoLevelListTour(int numberOfCities) {
+        this.cities = new int[numberOfCities];
+        this.scratch = new int[numberOfCities];
+        this.positions = new int[numberOfCities];
+        this.segmentAt = new int[numberOfCities];
+    }
+
+    @Override
+    public void load(int[] tour) {
+        this.n = tour.length;
+        System.arraycopy(tour, 0, cities, 0, n);
+        layOut();
+    }
+
+    @Override
+    public void store(int[] tour) {
+        writeTour(tour);
+    }
+
+    @Override
+    public int next(int city) {
+        int position = positions[city];
+        int segment = segmentAt[position];
+        if (!reversed[segment]) {
+            if (position < ends[segment]) {
+                return cities[position + 1];
+            }
+        } else if (position > starts[segment]) {
+            return cities[position - 1];
+        }
+        int rank = ranks[segment] + 1;
+        int following = order[rank == segments ? 0 : rank];
+        return cities[reversed[following] ? ends[following] : starts[following]];
+    }
+
+    @Override
+    public int previous(int city) {
+        int position = positions[city];
+        int segment = segmentAt[position];
+        if (!reversed[segment]) {
+            if (position > starts[segment]) {
+                return cities[position - 1];
+            }
+        } else if (position < ends[segment]) {
+            return cities[position + 1];
+        }
+        int rank = ranks[segment];
+        int preceding = order[rank == 0 ? segments - 1 : rank - 1];
+        return cities[reversed[preceding] ? starts[preceding] : ends[preceding]];
+    }
+
+    @Override
+    public boolean between(int a, int b, int c) {
+        long keyA = sequence(a);
+        long keyB = sequence(b);
+        long keyC = sequence(c);
+        if (keyA <= keyC) {
+            return keyA <= keyB && keyB <= keyC;
+        }
+        return keyB >= keyA || keyB <= keyC;
+    }
+
+    @Override
+    public void reverse(int fromCity, int toCity) {
+        if (fromCity == toCity) {
+            return;
+        }
+        int afterTo = next(toCity);
+        if (afterTo == fromCity) {
+            // The whole tour: the cycle stays the same.
+            return;
+        }
+        if (reverseWithinSegment(fromCity, toCity)) {
+            return;
+        }
+
+        if (segments + 2 > maxSegments) {
+            rebuild();
+        }
+        splitBefore(fromCity);
+        splitBefore(afterTo);
+        int first = ranks[segmentAt[positions[fromCity]]];
+        int last = ranks[segmentAt[positions[toCity]]];
+        if (first <= last) {
+            reverseSegments(first, last);
+        } else {
+            reverseSegments(last + 1, first - 1);
+        }
+    }
+
+    /**
+     * Reverses the path by swapping cities when it runs forward inside a single segment.
+     */
+    private boolean reverseWithinSegment(int fromCity, int toCity) {
+        int i = positions[fromCity];
+        int j = positions[toCity];
+        int segment = segmentAt[i];
+        if (segmentAt[j] != segment) {
+            return false;
+        }
+        if (reversed[segment]) {
+            int swap = i;
+            i = j;
+            j = swap;
+        }
+        if (i > j) {
+            return false;
+        }
+        for (; i < j; i++, j--) {
+            int cityI = cities[i];
+            int cityJ = cities[j];
+            cities[i] = cityJ;
+            positions[cityJ] = i;
+            cities[j] = cityI;
+            positions[cityI] = j;
+        }
+        return true;
+    }
+
+    /**
+     * Position of {@code city} along the tour as it is currently oriented, starting from
+     * the first segment.
+     */
+    private long sequence(int city) {
+        int position = positions[city];
+        int segment = segmentAt[position];
+        int offset = reversed[segment] ? ends[segment] - position : position - starts[segment];
+        return (long) ranks[segment] * n + offset;
+    }
+
+    /**
+     * Splits the segment of {@code city} so that the city comes first in its segment. The
+     * smaller piece becomes the new segment, so only its cities are relabelled.
+     */
+    private void splitBefore(int city) {
+        int position = positions[city];
+        int segment = segmentAt[position];
+        int firstLow;
+        int firstHigh;
+        int secondLow;
+        int secondHigh;
+        if (!reversed[segment]) {
+            if (position == starts[segment]) {
+                return;
+            }
+            firstLow = starts[segment];
+            firstHigh = position - 1;
+            secondLow = position;
+            secondHigh = ends[segment];
+        } else {
+            if (position == ends[segment]) {
+                return;
+            }
+            firstLow = position + 1;
+            firstHigh = ends[segment];
+            secondLow = starts[segment];
+            secondHigh = position;
+        }
+
+        int added = segments;
+        reversed[added] = reversed[segment];
+        int rank = ranks[segment];
+        if (firstHigh - firstLow <= secondHigh - secondLow) {
+            claim(added, firstLow, firstHigh);
+            starts[segment] = secondLow;
+            ends[segment] = secondHigh;
+            insertAt(rank, added);
+        } else {
+            starts[segment] = firstLow;
+            ends[segment] = firstHigh;
+            claim(added, secondLow, secondHigh);
+            insertAt(rank + 1, added);
+        }
+    }
+
+    private void claim(int segment, int low, int high) {
+        starts[segment] = low;
+        ends[segment] = high;
+        for (int position = low; position <= high; position++) {
+            segmentAt[position] = segment;
+        }
+    }
+
+    private void insertAt(int rank, int segment) {
+        System.arraycopy(order, rank, order, rank + 1, segments - rank);
+        order[rank] = segment;
+        segments++;
+        for (int r = rank; r < segments; r++) {
+            ranks[order[r]] = r;
+        }
+    }
+
+    /**
+     * Reverses the segments ranked {@code first} to {@code last}: their order and each
+     * one's direction.
+     */
+    private void reverseSegments(int first, int last) {
+        for (int r = first; r <= last; r++) {
+            reversed[order[r]] = !reversed[order[r]];
+        }
+        for (int i = first, j = last; i < j; i++, j--) {
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        for (int r = first; r <= last; r++) {
+            ranks[order[r]] = r;
+        }
+    }
+
+    private void rebuild() {
+        writeTour(scratch);
+        int[] swap = cities;
+        cities = scratch;
+        scratch = swap;
+        layOut();
+    }
+
+    private void writeTour(int[] target) {
+        int filled = 0;
+        for (int rank = 0; rank < segments; rank++) {
+            int segment = order[rank];
+            if (reversed[segment]) {
+                for (int position = ends[segment]; position >= starts[segment]; position--) {
+                    target[filled++] = cities[position];
+                }
+            } else {
+                for (int position = starts[segment]; position <= ends[segment]; position++) {
+                    target[filled++] = cities[position];
+                }
+            }
+        }
+    }
+
+    /**
+     * Cuts the backing array into segments of about sqrt(n) cities in array order.
+     */
+    private void layOut() {
+        int size = Math.max(1, (int) Math.ceil(Math.sqrt(n)));
+        int count = (n + size - 1) / size;
+        maxSegments = 2 * count + 2;
+        if (starts.length < maxSegments) {
+            starts = new int[maxSegments];
+            ends = new int[maxSegments];
+            reversed = new boolean[maxSegments];
+            ranks = new int[maxSegments];
+            order = new int[maxSegments];
+        }
+
+        segments = count;
+        for (int segment = 0; segment < count; segment++) {
+            starts[segment] = segment * size;
+            ends[segment] = Math.min(n, (segment + 1) * size) - 1;
+            reversed[segment] = false;
+            ranks[segment] = segment;
+            order[segment] = segment;
+            for (int position = starts[segment]; position <= ends[segment]; position++) {
+                segmentAt[position] = segment;
+            }
+        }
+        for (int position = 0; position < n; position++) {
+            positions[cities[position]] = position;
+        }
+    }
+}
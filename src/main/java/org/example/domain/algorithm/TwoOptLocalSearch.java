@@ -0,0 +1,73 @@
+package org.example.domain.algorithm;
+
+/**
+ * 2-opt over nearest-neighbour lists. For a city {@code a} and both tour directions it
+ * tries to replace edge (a, b) with a shorter edge (a, c) to one of a's neighbours.
+ */
+final class TwoOptLocalSearch extends ArrayLocalSearch {
+
+    TwoOptLocalSearch(DistanceMatrix distanceMatrix, int[][] neighbourLists, MoveSelection moveSelection) {
+        super(distanceMatrix, neighbourLists, moveSelection);
+    }
+
+    TwoOptLocalSearch(DistanceMatrix distanceMatrix, int[][] neighbourLists, MoveSelection moveSelection,
+                      TourStructure tourStructure) {
+        super(distanceMatrix, neighbourLists, moveSelection, tourStructure);
+    }
+
+    @Override
+    void improveCity(int a) {
+        double bestDelta = -EPSILON;
+        int bestC = -1;
+        boolean bestForward = false;
+
+        for (int direction = 0; direction < 2; direction++) {
+            boolean forward = direction == 0;
+            int b = successor(a, forward);
+            double removedAB = distance(a, b);
+
+            for (int c : neighbourLists[a]) {
+                double addedAC = distance(a, c);
+                if (removedAB - addedAC <= EPSILON) {
+                    break;
+                }
+
+                int d = successor(c, forward);
+                if (c == b || d == a) {
+                    continue;
+                }
+
+                double delta = addedAC + distance(b, d) - removedAB - distance(c, d);
+                if (delta < bestDelta) {
+                    bestDelta = delta;
+                    bestC = c;
+                    bestForward = forward;
+                    if (moveSelection == MoveSelection.FIRST_IMPROVEMENT) {
+                        applyMove(a, c, forward);
+                        return;
+                    }
+                }
+            }
+        }
+
+        if (bestC >= 0) {
+            applyMove(a, bestC, bestForward);
+        }
+    }
+
+    /**
+     * Replaces edges (a, b) and (c, d) with (a, c) and (b, d), where b and d follow a and c
+     * in the given direction.
+     */
+    private void applyMove(int a, int c, boolean forward) {
+        int b = successor(a, forward);
+        int d = successor(c, forward);
+
+        makeTwoOptMove(a, b, c, d);
+
+        activate(a);
+        activate(b);
+        activate(c);
+        activate(d);
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.domain.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Immutable coordinates of the cities of one instance, stored as two primitive arrays and
+ * addressed by index. Names are not stored: city i is called "City" + (i + 1) unless the
+ * set was built from {@link City} objects, whose own names and instances are kept.
+ */
+public final class PointSet {
+    private final int[] xs;
+    private final int[] ys;
+    private final List<? extends Point> source;
+
+    private PointSet(int[] xs, int[] ys, List<? extends Point> source) {
+        this.xs = xs;
+        this.ys = ys;
+        this.source = source;
+    }
+
+    /**
+     * Copies the coordinates of {@code points}. The points themselves are kept, so cities
+     * come back as the same instances with their own names.
+     */
+    public static PointSet of(List<? extends Point> points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points list cannot be null");
+        }
+        List<? extends Point> copy = List.copyOf(points);
+        int n = copy.size();
+        int[] xs = new int[n];
+        int[] ys = new int[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = copy.get(i).getX();
+            ys[i] = copy.get(i).getY();
+        }
+        return new PointSet(xs, ys, copy);
+    }
+
+    public static PointSet of(int[] xs, int[] ys) {
+        checkCoordinates(xs, ys);
+        return new PointSet(xs.clone(), ys.clone(), null);
+    }
+
+    /**
+     * Takes the arrays over without copying, for loaders and generators that fill them
+     * themselves. The caller must not modify them afterwards.
+     */
+    public static PointSet wrap(int[] xs, int[] ys) {
+        checkCoordinates(xs, ys);
+        return new PointSet(xs, ys, null);
+    }
+
+    private static void checkCoordinates(int[] xs, int[] ys) {
+        if (xs == null || ys == null || xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must be non-null and of equal length");
+        }
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Copy of the x coordinates, for code that wants a plain array.
+     */
+    public int[] getXs() {
+        return xs.clone();
+    }
+
+    public int[] getYs() {
+        return ys.clone();
+    }
+
+    /**
+     * The x coordinates themselves, for solvers and index structures that read them in
+     * bulk. The array is shared with this set and must not be modified.
+     */
+    public int[] sharedXs() {
+        return xs;
+    }
+
+    public int[] sharedYs() {
+        return ys;
+    }
+
+    public double distance(int from, int to) {
+        double dx = xs[from] - xs[to];
+        double dy = ys[from] - ys[to];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+
+    public String getName(int index) {
+        if (source != null && source.get(index) instanceof City city) {
+            return city.getName();
+        }
+        return "City" + (index + 1);
+    }
+
+    /**
+     * City {@code index}: the original instance when the set was built from cities, a new
+     * one on every call otherwise.
+     */
+    public City getCity(int index) {
+        if (source != null && source.get(index) instanceof City city) {
+            return city;
+        }
+        return new City(getName(index), xs[index], ys[index]);
+    }
+
+    /**
+     * All cities in index order, created once, for solvers that work on city objects.
+     */
+    public List<City> toCities() {
+        List<City> cities = new ArrayList<>(xs.length);
+        for (int i = 0; i < xs.length; i++) {
+            cities.add(getCity(i));
+        }
+        return cities;
+    }
+
+    /**
+     * Read-only view of the points in index order, for code written against
+     * {@code List<Point>}. Points the set was built from are returned as they are; others
+     * are created on each read.
+     */
+    public List<Point> asPoints() {
+        return Collections.unmodifiableList(new PointView());
+    }
+
+    /**
+     * Read-only view of the cities that creates each one when it is read.
+     */
+    List<City> citiesInOrder(int[] order) {
+        return new CityView(order);
+    }
+
+    private final class PointView extends AbstractList<Point> implements RandomAccess {
+
+        @Override
+        public Point get(int index) {
+            if (source != null) {
+                return source.get(index);
+            }
+            return new Point(xs[index], ys[index]);
+        }
+
+        @Override
+        public int size() {
+            return xs.length;
+        }
+    }
+
+    private final class CityView extends AbstractList<City> implements RandomAccess {
+        private final int[] order;
+
+        CityView(int[] order) {
+            this.order = order;
+        }
+
+        @Override
+        public City get(int position) {
+            return getCity(order[position]);
+        }
+
+        @Override
+        public int size() {
+            return order.length;
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package org.example.domain.model;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+/**
+ * A closed tour, stored as an order of indices into a shared {@link PointSet}. The cities are
+ * a read-only view over that order, so a tour costs one int per city however it was built.
+ */
 public class Tour {
-    private final List<City> cities;
+    private final PointSet points;
+    private final int[] order;
     private final double totalDistance;
+    private final List<City> cities;
 
     public Tour(List<City> cities) {
         if (cities == null) {
@@ -14,26 +20,85 @@ public class Tour {
         if (cities.isEmpty()) {
             throw new IllegalArgumentException("Cities list cannot be empty");
         }
-        this.cities = new ArrayList<>(cities);
+        this.points = PointSet.of(cities);
+        this.order = new int[cities.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
         this.totalDistance = calculateTotalDistance();
+        this.cities = Collections.unmodifiableList(points.citiesInOrder(order));
+    }
+
+    private Tour(PointSet points, int[] order) {
+        this.points = points;
+        this.order = order;
+        this.totalDistance = calculateTotalDistance();
+        this.cities = Collections.unmodifiableList(points.citiesInOrder(order));
+    }
+
+    /**
+     * The tour visiting the cities of {@code points} in {@code order}, which must list every
+     * index exactly once.
+     */
+    public static Tour of(PointSet points, int[] order) {
+        if (points == null || order == null) {
+            throw new IllegalArgumentException("Points and order cannot be null");
+        }
+        if (order.length == 0) {
+            throw new IllegalArgumentException("Cities list cannot be empty");
+        }
+        if (order.length != points.size()) {
+            throw new IllegalArgumentException("Order must visit all " + points.size() + " cities");
+        }
+        boolean[] visited = new boolean[order.length];
+        for (int index : order) {
+            if (index < 0 || index >= order.length || visited[index]) {
+                throw new IllegalArgumentException("Order is not a permutation of the city indices");
+            }
+            visited[index] = true;
+        }
+        return new Tour(points, order.clone());
     }
 
     private double calculateTotalDistance() {
         double distance = 0.0;
-        
-        for (int i = 0; i < cities.size() - 1; i++) {
-            distance += cities.get(i).distanceTo(cities.get(i + 1));
+
+        for (int i = 0; i < order.length - 1; i++) {
+            distance += points.distance(order[i], order[i + 1]);
         }
-        
-        distance += cities.get(cities.size() - 1).distanceTo(cities.get(0));
-        
+
+        distance += points.distance(order[order.length - 1], order[0]);
+
         return distance;
     }
 
+    /**
+     * The cities in tour order. Cities the tour was built from are returned as they are;
+     * cities of a {@link PointSet} made from bare coordinates are created on each read.
+     */
     public List<City> getCities() {
         return cities;
     }
 
+    public int size() {
+        return order.length;
+    }
+
+    /**
+     * Index into {@link #getPoints()} of the city at {@code position} in the tour.
+     */
+    public int getCityIndex(int position) {
+        return order[position];
+    }
+
+    public int[] getOrder() {
+        return order.clone();
+    }
+
+    public PointSet getPoints() {
+        return points;
+    }
+
     public double getTotalDistance() {
         return totalDistance;
     }
@@ -41,13 +106,13 @@ public class Tour {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < cities.size(); i++) {
-            sb.append(cities.get(i).getName());
-            if (i < cities.size() - 1) {
+        for (int i = 0; i < order.length; i++) {
+            sb.append(points.getName(order[i]));
+            if (i < order.length - 1) {
                 sb.append(" -> ");
             }
         }
-        sb.append(" -> ").append(cities.get(0).getName());
+        sb.append(" -> ").append(points.getName(order[0]));
         sb.append(String.format(" (Distance: %.2f)", totalDistance));
         return sb.toString();
     }
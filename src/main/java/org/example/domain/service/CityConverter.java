@@ -2,8 +2,8 @@ package org.example.domain.service;
 
 import org.example.domain.model.City;
 import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
 
-import java.util.ArrayList;
 import java.util.List;
 
 public class CityConverter {
@@ -16,13 +16,7 @@ public class CityConverter {
             throw new IllegalArgumentException("Points list cannot be null");
         }
 
-        List<City> cities = new ArrayList<>();
-        for (int i = 0; i < points.size(); i++) {
-            Point point = points.get(i);
-            String cityName = "City" + (i + 1);
-            cities.add(new City(cityName, point.getX(), point.getY()));
-        }
-        return cities;
+        return PointSet.of(points).toCities();
     }
 }
 
@@ -0,0 +1,229 @@
+package org.example.domain.service;
+
+import org.example.domain.model.Point;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Two-dimensional k-d tree over a fixed set of points that answers nearest-neighbour
+ * queries among the points not yet removed. Points are referred to by their index in the
+ * list the tree was built from.
+ *
+ * <p>The tree is stored implicitly: the points of a subtree occupy a range of the internal
+ * order and its root is the median of that range, split alternately on x and y. Every
+ * subtree keeps a count of its remaining points, so emptied subtrees are skipped and a
+ * removal only updates the O(log n) counts on the path to the point. A query costs about
+ * O(log n) on evenly spread points, which makes a nearest-neighbour tour O(n log n).
+ *
+ * <p>Ties are broken in favour of the lower index. Not thread-safe.
+ */
+public final class KdTree {
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] order;
+    private final int[] positions;
+    private final int[] remaining;
+    private final boolean[] removed;
+    private int size;
+
+    private int bestIndex;
+    private long bestDistance;
+
+    private KdTree(int[] xs, int[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+        int n = xs.length;
+        this.order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        build(0, n, true);
+
+        this.positions = new int[n];
+        for (int position = 0; position < n; position++) {
+            positions[order[position]] = position;
+        }
+        this.remaining = new int[n];
+        initialiseCounts(0, n);
+        this.removed = new boolean[n];
+        this.size = n;
+    }
+
+    public static KdTree of(List<? extends Point> points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points list cannot be null");
+        }
+        int n = points.size();
+        int[] xs = new int[n];
+        int[] ys = new int[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = points.get(i).getX();
+            ys[i] = points.get(i).getY();
+        }
+        return new KdTree(xs, ys);
+    }
+
+    /**
+     * Builds the tree over coordinate arrays, which are used directly and must not be
+     * modified while the tree is in use.
+     */
+    public static KdTree of(int[] xs, int[] ys) {
+        if (xs == null || ys == null || xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must be non-null and of equal length");
+        }
+        return new KdTree(xs, ys);
+    }
+
+    /**
+     * Makes every point available again, in O(n), so one tree can serve several walks.
+     */
+    public void reset() {
+        Arrays.fill(removed, false);
+        initialiseCounts(0, order.length);
+        size = order.length;
+    }
+
+    /**
+     * Number of points not yet removed.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int index) {
+        checkIndex(index);
+        return !removed[index];
+    }
+
+    /**
+     * Removes the point with the given index from later queries. Returns false when it had
+     * already been removed.
+     */
+    public boolean remove(int index) {
+        if (!contains(index)) {
+            return false;
+        }
+        removed[index] = true;
+        int position = positions[index];
+        int lo = 0;
+        int hi = order.length;
+        while (true) {
+            int middle = (lo + hi) >>> 1;
+            remaining[middle]--;
+            if (position == middle) {
+                break;
+            }
+            if (position < middle) {
+                hi = middle;
+            } else {
+                lo = middle + 1;
+            }
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * Index of the remaining point closest to (x, y), or -1 when none remain.
+     */
+    public int nearest(int x, int y) {
+        bestIndex = -1;
+        bestDistance = Long.MAX_VALUE;
+        search(0, order.length, true, x, y);
+        return bestIndex;
+    }
+
+    private void search(int lo, int hi, boolean splitOnX, int x, int y) {
+        int middle = (lo + hi) >>> 1;
+        if (lo >= hi || remaining[middle] == 0) {
+            return;
+        }
+        int point = order[middle];
+
+        if (!removed[point]) {
+            long dx = (long) xs[point] - x;
+            long dy = (long) ys[point] - y;
+            long distance = dx * dx + dy * dy;
+            if (distance < bestDistance || (distance == bestDistance && point < bestIndex)) {
+                bestDistance = distance;
+                bestIndex = point;
+            }
+        }
+
+        long offset = splitOnX ? (long) x - xs[point] : (long) y - ys[point];
+        boolean nearSideIsLow = offset < 0;
+        int nearLo = nearSideIsLow ? lo : middle + 1;
+        int nearHi = nearSideIsLow ? middle : hi;
+        int farLo = nearSideIsLow ? middle + 1 : lo;
+        int farHi = nearSideIsLow ? hi : middle;
+
+        search(nearLo, nearHi, !splitOnX, x, y);
+        if (offset * offset <= bestDistance) {
+            search(farLo, farHi, !splitOnX, x, y);
+        }
+    }
+
+    /**
+     * Arranges {@code order[lo, hi)} so that the median position holds the median along
+     * the split axis, smaller coordinates lie before it and larger ones after it.
+     */
+    private void build(int lo, int hi, boolean splitOnX) {
+        if (hi - lo <= 1) {
+            return;
+        }
+        int middle = (lo + hi) >>> 1;
+        select(lo, hi - 1, middle, splitOnX ? xs : ys);
+        build(lo, middle, !splitOnX);
+        build(middle + 1, hi, !splitOnX);
+    }
+
+    /**
+     * Quickselect on {@code order[left, right]} by {@code coordinates}, placing the k-th
+     * smallest at position k.
+     */
+    private void select(int left, int right, int k, int[] coordinates) {
+        while (left < right) {
+            int pivot = coordinates[order[(left + right) >>> 1]];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (coordinates[order[i]] < pivot) {
+                    i++;
+                }
+                while (coordinates[order[j]] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swap = order[i];
+                    order[i] = order[j];
+                    order[j] = swap;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private int initialiseCounts(int lo, int hi) {
+        if (lo >= hi) {
+            return 0;
+        }
+        int middle = (lo + hi) >>> 1;
+        remaining[middle] = 1 + initialiseCounts(lo, middle) + initialiseCounts(middle + 1, hi);
+        return remaining[middle];
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= order.length) {
+            throw new IllegalArgumentException("Point index out of range: " + index);
+        }
+    }
+}
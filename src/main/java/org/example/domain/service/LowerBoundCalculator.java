@@ -0,0 +1,205 @@
+package org.example.domain.service;
+
+import org.example.domain.model.Point;
+
+import java.util.List;
+
+/**
+ * Lower bounds on the length of any tour through a set of points, for judging how far a
+ * tour is from optimal. Both bounds run Prim's algorithm on the complete graph, computing
+ * Euclidean distances from the coordinates, so memory is linear and every tree takes
+ * O(n^2) time.
+ *
+ * <p>Not thread-safe; use one instance per thread.
+ */
+public final class LowerBoundCalculator {
+    private static final double INITIAL_STEP = 2.0;
+    private static final double MIN_STEP = 1e-3;
+    private static final int STALL_ITERATIONS = 10;
+
+    private final int[] xs;
+    private final int[] ys;
+    private final int n;
+
+    private final int[] degrees;
+    private final double[] keys;
+    private final int[] parents;
+    private final boolean[] inTree;
+
+    private LowerBoundCalculator(int[] xs, int[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+        this.n = xs.length;
+        this.degrees = new int[n];
+        this.keys = new double[n];
+        this.parents = new int[n];
+        this.inTree = new boolean[n];
+    }
+
+    public static LowerBoundCalculator of(List<? extends Point> points) {
+        if (points == null) {
+            throw new IllegalArgumentException("Points list cannot be null");
+        }
+        int[] xs = new int[points.size()];
+        int[] ys = new int[points.size()];
+        for (int i = 0; i < xs.length; i++) {
+            xs[i] = points.get(i).getX();
+            ys[i] = points.get(i).getY();
+        }
+        return new LowerBoundCalculator(xs, ys);
+    }
+
+    /**
+     * Uses the coordinate arrays directly; they must not be modified while in use.
+     */
+    public static LowerBoundCalculator of(int[] xs, int[] ys) {
+        if (xs == null || ys == null || xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must be non-null and of equal length");
+        }
+        return new LowerBoundCalculator(xs, ys);
+    }
+
+    /**
+     * Length of a minimum spanning tree. Dropping any edge of a tour leaves a spanning
+     * tree, so no tour is shorter.
+     */
+    public double minimumSpanningTreeLength() {
+        return spanningTree(new double[n], 0, n);
+    }
+
+    /**
+     * The Held-Karp bound: the best minimum 1-tree bound found by at most
+     * {@code maxIterations} subgradient steps on the node penalties. A 1-tree is a spanning
+     * tree over all points but the first plus the first point's two shortest edges; with
+     * penalties {@code pi}, edge (i, j) costs {@code d(i, j) + pi[i] + pi[j]} and the tree
+     * cost minus {@code 2 * sum(pi)} bounds every tour from below. Steps move the penalties
+     * towards degree two everywhere, sized by the distance to {@code upperBound}, the
+     * length of any known tour. On random uniform instances the bound typically lies within
+     * one percent of the optimum.
+     */
+    public double heldKarpBound(double upperBound, int maxIterations) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Number of iterations must be positive");
+        }
+        if (n < 3) {
+            return 2 * minimumSpanningTreeLength();
+        }
+
+        double[] pi = new double[n];
+        double best = Double.NEGATIVE_INFINITY;
+        double step = INITIAL_STEP;
+        int sinceImprovement = 0;
+        for (int iteration = 0; iteration < maxIterations && step > MIN_STEP; iteration++) {
+            double bound = oneTree(pi);
+            if (bound > best) {
+                best = bound;
+                sinceImprovement = 0;
+            } else if (++sinceImprovement == STALL_ITERATIONS) {
+                step /= 2;
+                sinceImprovement = 0;
+            }
+
+            int squaredNorm = 0;
+            for (int i = 0; i < n; i++) {
+                squaredNorm += (degrees[i] - 2) * (degrees[i] - 2);
+            }
+            if (squaredNorm == 0 || bound >= upperBound) {
+                break;
+            }
+            double size = step * (upperBound - bound) / squaredNorm;
+            for (int i = 0; i < n; i++) {
+                pi[i] += size * (degrees[i] - 2);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Builds the minimum 1-tree under {@code pi}, leaving the degrees in {@link #degrees},
+     * and returns its bound.
+     */
+    private double oneTree(double[] pi) {
+        double cost = spanningTree(pi, 1, n);
+
+        int first = -1;
+        int second = -1;
+        double firstCost = Double.POSITIVE_INFINITY;
+        double secondCost = Double.POSITIVE_INFINITY;
+        for (int i = 1; i < n; i++) {
+            double edgeCost = distance(0, i) + pi[i];
+            if (edgeCost < firstCost) {
+                second = first;
+                secondCost = firstCost;
+                first = i;
+                firstCost = edgeCost;
+            } else if (edgeCost < secondCost) {
+                second = i;
+                secondCost = edgeCost;
+            }
+        }
+        degrees[0] = 2;
+        degrees[first]++;
+        degrees[second]++;
+        cost += firstCost + secondCost + 2 * pi[0];
+
+        double penalties = 0.0;
+        for (int i = 0; i < n; i++) {
+            penalties += pi[i];
+        }
+        return cost - 2 * penalties;
+    }
+
+    /**
+     * Prim's algorithm over points {@code from} to {@code to - 1} with penalised edge costs.
+     * Fills {@link #degrees} for those points and returns the tree cost.
+     */
+    private double spanningTree(double[] pi, int from, int to) {
+        for (int i = 0; i < n; i++) {
+            degrees[i] = 0;
+            inTree[i] = false;
+            keys[i] = Double.POSITIVE_INFINITY;
+            parents[i] = -1;
+        }
+        if (to - from < 2) {
+            return 0.0;
+        }
+
+        double cost = 0.0;
+        int point = from;
+        keys[point] = 0.0;
+        for (int added = 0; added < to - from; added++) {
+            inTree[point] = true;
+            if (parents[point] >= 0) {
+                cost += keys[point];
+                degrees[point]++;
+                degrees[parents[point]]++;
+            }
+
+            int next = -1;
+            for (int other = from; other < to; other++) {
+                if (inTree[other]) {
+                    continue;
+                }
+                double key = distance(point, other) + pi[point] + pi[other];
+                if (key < keys[other]) {
+                    keys[other] = key;
+                    parents[other] = point;
+                }
+                if (next < 0 || keys[other] < keys[next]) {
+                    next = other;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            point = next;
+        }
+        return cost;
+    }
+
+    private double distance(int a, int b) {
+        double dx = xs[a] - xs[b];
+        double dy = ys[a] - ys[b];
+        return Math.sqrt(dx * dx + dy * dy);
+    }
+}
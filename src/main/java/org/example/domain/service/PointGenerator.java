@@ -1,8 +1,10 @@
 package org.example.domain.service;
 
 import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
@@ -34,28 +36,82 @@ public class PointGenerator {
     }
 
     public List<Point> generate() {
-        int numberOfPoints = random.nextInt(50) + 1;
-        return generate(numberOfPoints);
+        return new ArrayList<>(generatePointSet().asPoints());
     }
 
     public List<Point> generate(int numberOfPoints) {
+        return new ArrayList<>(generatePointSet(numberOfPoints).asPoints());
+    }
+
+    public PointSet generatePointSet() {
+        int numberOfPoints = random.nextInt(50) + 1;
+        return generatePointSet(numberOfPoints);
+    }
+
+    /**
+     * Distinct random points written straight into coordinate arrays. Draws the same
+     * sequence as {@link #generate(int)} for the same seed. Duplicates are rejected with a
+     * table sized by the number of points rather than by the coordinate range.
+     */
+    public PointSet generatePointSet(int numberOfPoints) {
         if (numberOfPoints <= 0) {
             throw new IllegalArgumentException("Number of points must be positive");
         }
 
-        List<Point> points = new ArrayList<>();
+        int[] xs = new int[numberOfPoints];
+        int[] ys = new int[numberOfPoints];
+        CellSet takenCells = new CellSet(numberOfPoints);
 
         for (int i = 0; i < numberOfPoints; i++) {
-            Point point;
+            int x;
+            int y;
             do {
-                int x = random.nextInt(maxCoordinate);
-                int y = random.nextInt(maxCoordinate);
-                point = new Point(x, y);
-            } while (points.contains(point));
+                x = random.nextInt(maxCoordinate);
+                y = random.nextInt(maxCoordinate);
+            } while (!takenCells.add((long) x * maxCoordinate + y));
 
-            points.add(point);
+            xs[i] = x;
+            ys[i] = y;
         }
 
-        return points;
+        return PointSet.wrap(xs, ys);
+    }
+
+    /**
+     * Open-addressing set of non-negative cell numbers with at least twice as many slots as
+     * it will hold, so probe sequences stay short.
+     */
+    private static final class CellSet {
+        private static final long EMPTY = -1L;
+
+        private final long[] slots;
+        private final int mask;
+
+        CellSet(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+            this.slots = new long[capacity];
+            this.mask = capacity - 1;
+            Arrays.fill(slots, EMPTY);
+        }
+
+        /**
+         * Adds {@code cell} and returns whether it was absent.
+         */
+        boolean add(long cell) {
+            int slot = hash(cell) & mask;
+            while (slots[slot] != EMPTY) {
+                if (slots[slot] == cell) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = cell;
+            return true;
+        }
+
+        private static int hash(long cell) {
+            long mixed = cell * 0x9E3779B97F4A7C15L;
+            return (int) (mixed ^ (mixed >>> 32));
+        }
     }
 }
@@ -0,0 +1,238 @@
+package org.example.domain.service;
+
+/**
+ * Uniform grid over a fixed set of points for k-nearest-neighbour queries. Cells are sized
+ * to hold about two points each on evenly spread input and the points are stored cell by
+ * cell, so a query scans a few neighbouring cells in rings of growing radius and touches
+ * mostly contiguous memory. Points are referred to by their index in the coordinate arrays.
+ *
+ * <p>Unlike {@link KdTree} it supports no removal, but building it takes O(n) and queries
+ * are several times faster, which suits candidate lists over very large inputs.
+ *
+ * <p>Ties are broken in favour of the lower index. Queries share scratch buffers, so an
+ * instance must not be queried from several threads at once.
+ */
+public final class SpatialGrid {
+    private static final int POINTS_PER_CELL = 2;
+
+    private final int[] xs;
+    private final int[] ys;
+    private final int minX;
+    private final int minY;
+    private final long cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStarts;
+    private final int[] cellPoints;
+    private final int[] cellXs;
+    private final int[] cellYs;
+
+    private int[] foundIndices = new int[0];
+    private long[] foundDistances = new long[0];
+    private int foundCount;
+
+    private SpatialGrid(int[] xs, int[] ys) {
+        this.xs = xs;
+        this.ys = ys;
+        int n = xs.length;
+
+        int lowX = Integer.MAX_VALUE;
+        int lowY = Integer.MAX_VALUE;
+        int highX = Integer.MIN_VALUE;
+        int highY = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            lowX = Math.min(lowX, xs[i]);
+            highX = Math.max(highX, xs[i]);
+            lowY = Math.min(lowY, ys[i]);
+            highY = Math.max(highY, ys[i]);
+        }
+        this.minX = n == 0 ? 0 : lowX;
+        this.minY = n == 0 ? 0 : lowY;
+        long width = n == 0 ? 0 : (long) highX - lowX;
+        long height = n == 0 ? 0 : (long) highY - lowY;
+
+        long cellsWanted = Math.max(1, n / POINTS_PER_CELL);
+        long sizeFromArea = (long) Math.ceil(Math.sqrt((double) width * height / cellsWanted));
+        long sizeFromSpan = (Math.max(width, height) + cellsWanted - 1) / cellsWanted;
+        this.cellSize = Math.max(1, Math.max(sizeFromArea, sizeFromSpan));
+        this.columns = (int) (width / cellSize) + 1;
+        this.rows = (int) (height / cellSize) + 1;
+
+        int cells = columns * rows;
+        this.cellStarts = new int[cells + 1];
+        for (int i = 0; i < n; i++) {
+            cellStarts[cellOf(xs[i], ys[i]) + 1]++;
+        }
+        for (int cell = 0; cell < cells; cell++) {
+            cellStarts[cell + 1] += cellStarts[cell];
+        }
+        this.cellPoints = new int[n];
+        int[] fill = new int[cells];
+        for (int i = 0; i < n; i++) {
+            int cell = cellOf(xs[i], ys[i]);
+            cellPoints[cellStarts[cell] + fill[cell]++] = i;
+        }
+        this.cellXs = new int[n];
+        this.cellYs = new int[n];
+        for (int i = 0; i < n; i++) {
+            cellXs[i] = xs[cellPoints[i]];
+            cellYs[i] = ys[cellPoints[i]];
+        }
+    }
+
+    /**
+     * Builds the grid over coordinate arrays, which are used directly and must not be
+     * modified while the grid is in use.
+     */
+    public static SpatialGrid of(int[] xs, int[] ys) {
+        if (xs == null || ys == null || xs.length != ys.length) {
+            throw new IllegalArgumentException("Coordinate arrays must be non-null and of equal length");
+        }
+        return new SpatialGrid(xs, ys);
+    }
+
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Writes the indices of the {@code k} points closest to (x, y), closest first, into
+     * {@code result} and returns how many were found. A point at (x, y) itself is included.
+     */
+    public int nearest(int x, int y, int k, int[] result) {
+        return nearest(x, y, k, -1, result);
+    }
+
+    /**
+     * For every point its {@code k} nearest other points, closest first, in one flat array:
+     * the neighbours of point p occupy {@code [p * k, (p + 1) * k)}. Fewer than k other
+     * points leave the rest of each row at -1.
+     */
+    public int[] nearestNeighbours(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of neighbours cannot be negative");
+        }
+        int n = xs.length;
+        int[] table = new int[n * k];
+        int[] found = new int[k];
+        for (int i = 0; i < n; i++) {
+            int point = cellPoints[i];
+            int count = nearest(xs[point], ys[point], k, point, found);
+            System.arraycopy(found, 0, table, point * k, count);
+            for (int missing = count; missing < k; missing++) {
+                table[point * k + missing] = -1;
+            }
+        }
+        return table;
+    }
+
+    private int nearest(int x, int y, int k, int excluded, int[] result) {
+        if (k < 0 || result.length < k) {
+            throw new IllegalArgumentException("Result array cannot hold " + k + " points");
+        }
+        if (foundIndices.length < k) {
+            foundIndices = new int[k];
+            foundDistances = new long[k];
+        }
+        foundCount = 0;
+        if (k == 0 || xs.length == 0) {
+            return 0;
+        }
+
+        int column = clamp((x - (long) minX) / cellSize, columns);
+        int row = clamp((y - (long) minY) / cellSize, rows);
+        int maxRadius = Math.max(Math.max(column, columns - 1 - column), Math.max(row, rows - 1 - row));
+        for (int radius = 0; radius <= maxRadius; radius++) {
+            scanRing(column, row, radius, x, y, k, excluded);
+            if (foundCount == k) {
+                long reach = reach(column, row, radius, x, y);
+                if (reach == Long.MAX_VALUE || foundDistances[k - 1] <= reach * reach) {
+                    break;
+                }
+            }
+        }
+        System.arraycopy(foundIndices, 0, result, 0, foundCount);
+        return foundCount;
+    }
+
+    /**
+     * Offers the points of every cell at Chebyshev distance {@code radius} from the query
+     * cell.
+     */
+    private void scanRing(int column, int row, int radius, int x, int y, int k, int excluded) {
+        int top = Math.max(0, row - radius);
+        int bottom = Math.min(rows - 1, row + radius);
+        for (int r = top; r <= bottom; r++) {
+            boolean edgeRow = r == row - radius || r == row + radius;
+            int step = edgeRow ? 1 : 2 * radius;
+            for (int c = column - radius; c <= column + radius; c += Math.max(1, step)) {
+                if (c < 0 || c >= columns) {
+                    continue;
+                }
+                int cell = r * columns + c;
+                for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+                    int point = cellPoints[i];
+                    if (point != excluded) {
+                        long dx = (long) cellXs[i] - x;
+                        long dy = (long) cellYs[i] - y;
+                        offerFound(point, dx * dx + dy * dy, k);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Distance from (x, y) to the nearest side of the square of cells scanned so far that
+     * still has unscanned cells beyond it; every unscanned point is at least this far away.
+     * {@link Long#MAX_VALUE} once the whole grid has been scanned.
+     */
+    private long reach(int column, int row, int radius, int x, int y) {
+        long reach = Long.MAX_VALUE;
+        if (column - radius > 0) {
+            reach = Math.min(reach, x - (minX + (column - radius) * cellSize));
+        }
+        if (column + radius < columns - 1) {
+            reach = Math.min(reach, minX + (column + radius + 1) * cellSize - x);
+        }
+        if (row - radius > 0) {
+            reach = Math.min(reach, y - (minY + (row - radius) * cellSize));
+        }
+        if (row + radius < rows - 1) {
+            reach = Math.min(reach, minY + (row + radius + 1) * cellSize - y);
+        }
+        return reach;
+    }
+
+    /**
+     * Inserts a point into the sorted list of the closest points found, dropping the
+     * farthest one when the list is full.
+     */
+    private void offerFound(int point, long distance, int k) {
+        if (foundCount == k && !closer(distance, point, foundDistances[k - 1], foundIndices[k - 1])) {
+            return;
+        }
+        int position = foundCount < k ? foundCount++ : k - 1;
+        while (position > 0 && closer(distance, point, foundDistances[position - 1], foundIndices[position - 1])) {
+            foundDistances[position] = foundDistances[position - 1];
+            foundIndices[position] = foundIndices[position - 1];
+            position--;
+        }
+        foundDistances[position] = distance;
+        foundIndices[position] = point;
+    }
+
+    private static boolean closer(long distance, int point, long otherDistance, int otherPoint) {
+        return distance < otherDistance || (distance == otherDistance && point < otherPoint);
+    }
+
+    private int cellOf(int x, int y) {
+        int column = (int) ((x - (long) minX) / cellSize);
+        int row = (int) ((y - (long) minY) / cellSize);
+        return row * columns + column;
+    }
+
+    private static int clamp(long value, int limit) {
+        return (int) Math.max(0, Math.min(limit - 1, value));
+    }
+}
@@ -1,13 +1,12 @@
 package org.example.infrastructure.file;
 
 import org.example.application.port.out.PointRepository;
-import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.PrintWriter;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Scanner;
 
 public class FilePointRepository implements PointRepository {
@@ -18,7 +17,7 @@ public class FilePointRepository implements PointRepository {
     }
 
     @Override
-    public List<Point> loadPoints() throws DataException {
+    public PointSet loadPointSet() throws DataException {
         File file = new File(fileName);
         if (!file.exists()) throw new DataException("File not found: " + fileName);
 
@@ -28,34 +27,35 @@ public class FilePointRepository implements PointRepository {
             }
 
             int count = scanner.nextInt();
-            List<Point> points = new ArrayList<>();
+            int[] xs = new int[count];
+            int[] ys = new int[count];
+            int loaded = 0;
 
-            for (int i = 0; i < count; i++) {
+            while (loaded < count) {
                 if (!scanner.hasNextInt())
                     break;
 
                 scanner.nextInt();
-                int x = scanner.nextInt();
-                int y = scanner.nextInt();
-                points.add(new Point(x, y));
+                xs[loaded] = scanner.nextInt();
+                ys[loaded] = scanner.nextInt();
+                loaded++;
             }
-            return points;
+            return PointSet.wrap(Arrays.copyOf(xs, loaded), Arrays.copyOf(ys, loaded));
         } catch (Exception e) {
             throw new DataException("Error reading file", e);
         }
     }
 
     @Override
-    public void savePoints(List<Point> points) throws DataException {
+    public void savePointSet(PointSet points) throws DataException {
         try (PrintWriter writer = new PrintWriter(fileName)) {
             writer.println(points.size());
 
             for (int i = 0; i < points.size(); i++) {
-                Point p = points.get(i);
-                writer.println((i + 1) + " " + p.getX() + " " + p.getY());
+                writer.println((i + 1) + " " + points.getX(i) + " " + points.getY(i));
             }
         } catch (FileNotFoundException e) {
             throw new DataException("Cannot write to file", e);
         }
     }
-}
\ No newline at end of file
+}
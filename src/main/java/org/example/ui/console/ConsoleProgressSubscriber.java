@@ -0,0 +1,77 @@
+package org.example.ui.console;
+
+import org.example.application.port.out.OutputPort;
+import org.example.domain.algorithm.SolverProgress;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prints improvements of a running solve, at most one line per interval. Requests one event
+ * at a time, so the publisher coalesces whatever arrives while a line is being written.
+ */
+public class ConsoleProgressSubscriber implements Flow.Subscriber<SolverProgress> {
+    private static final long PRINT_INTERVAL_NANOS = 500_000_000L;
+
+    private final OutputPort output;
+    private final CountDownLatch completed = new CountDownLatch(1);
+    private Flow.Subscription subscription;
+    private long lastPrintedNanos;
+    private boolean printedAny;
+
+    public ConsoleProgressSubscriber(OutputPort output) {
+        this.output = output;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(SolverProgress progress) {
+        long now = System.nanoTime();
+        if (progress.improved() && (!printedAny || now - lastPrintedNanos >= PRINT_INTERVAL_NANOS)) {
+            output.println(format(progress));
+            lastPrintedNanos = now;
+            printedAny = true;
+        }
+        subscription.request(1);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        completed.countDown();
+    }
+
+    @Override
+    public void onComplete() {
+        completed.countDown();
+    }
+
+    /**
+     * Waits until the last event has been printed, so it does not interleave with the result.
+     */
+    public void awaitCompletion(Duration timeout) {
+        try {
+            completed.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String format(SolverProgress progress) {
+        String line = String.format("  Iteration %d: best %.2f after %.1f s",
+                progress.iteration(), progress.bestLength(), progress.elapsed().toMillis() / 1000.0);
+        if (Double.isFinite(progress.gap())) {
+            line += String.format(", gap %.2f%%", 100 * progress.gap());
+        }
+        if (Double.isNaN(progress.alpha())) {
+            return line;
+        }
+        return line + String.format(" (alpha %.2f, beta %.2f)", progress.alpha(), progress.beta());
+    }
+}
@@ -30,6 +30,54 @@ class AlgorithmTest {
         assertThat(algorithm).isEqualTo(Algorithm.ANT_COLONY);
     }
 
+    @Test
+    void shouldReturnLinKernighanForChoiceThree() {
+        // given
+        int choice = 3;
+
+        // when
+        Algorithm algorithm = Algorithm.fromChoice(choice);
+
+        // then
+        assertThat(algorithm).isEqualTo(Algorithm.LIN_KERNIGHAN);
+    }
+
+    @Test
+    void shouldReturnAntColonySystemForChoiceSeven() {
+        // given
+        int choice = 7;
+
+        // when
+        Algorithm algorithm = Algorithm.fromChoice(choice);
+
+        // then
+        assertThat(algorithm).isEqualTo(Algorithm.ANT_COLONY_SYSTEM);
+    }
+
+    @Test
+    void shouldReturnHeldKarpForChoiceTwelve() {
+        // given
+        int choice = 12;
+
+        // when
+        Algorithm algorithm = Algorithm.fromChoice(choice);
+
+        // then
+        assertThat(algorithm).isEqualTo(Algorithm.HELD_KARP);
+    }
+
+    @Test
+    void shouldReturnBranchAndBoundForChoiceThirteen() {
+        // given
+        int choice = 13;
+
+        // when
+        Algorithm algorithm = Algorithm.fromChoice(choice);
+
+        // then
+        assertThat(algorithm).isEqualTo(Algorithm.BRANCH_AND_BOUND);
+    }
+
     @Test
     void shouldDefaultToAntColonyForInvalidChoice() {
         // given
@@ -53,5 +101,12 @@ class AlgorithmTest {
         // then
         assertThat(algorithm).isEqualTo(Algorithm.ANT_COLONY);
     }
-}
 
+    @Test
+    void shouldResolveEveryAlgorithmFromItsOwnChoice() {
+        // when & then
+        for (Algorithm algorithm : Algorithm.values()) {
+            assertThat(Algorithm.fromChoice(algorithm.getChoice())).isEqualTo(algorithm);
+        }
+    }
+}
@@ -2,15 +2,22 @@ package org.example.domain.algorithm;
 
 import org.example.domain.model.City;
 import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
 import org.example.domain.model.Tour;
 import org.example.domain.service.CityConverter;
 import org.example.domain.service.PointGenerator;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -90,6 +97,314 @@ class AntColonyTspSolverTest {
         }
     }
 
+    @Nested
+    class ParallelConstruction {
+
+        @Test
+        void shouldMatchSequentialRunForSameSeed() {
+            // given
+            List<Point> points = new PointGenerator(777L).generate(30);
+            List<City> cities = CityConverter.fromPoints(points);
+            AntColonyConfig sequential = AntColonyConfig.builder()
+                    .setSeed(42L)
+                    .setParallelism(1)
+                    .build();
+            ExecutorService pool = Executors.newFixedThreadPool(4);
+
+            try {
+                AntColonyConfig parallel = AntColonyConfig.builder()
+                        .setSeed(42L)
+                        .setParallelism(4)
+                        .setExecutor(pool)
+                        .build();
+
+                // when
+                Tour sequentialTour = new AntColonyTspSolver(points, sequential).solve(cities);
+                Tour parallelTour = new AntColonyTspSolver(points, parallel).solve(cities);
+
+                // then
+                assertThat(parallelTour.getTotalDistance()).isEqualTo(sequentialTour.getTotalDistance());
+                assertThat(parallelTour.getCities()).containsExactlyElementsOf(sequentialTour.getCities());
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Nested
+    class SharedData {
+
+        @Test
+        void shouldMatchIndependentColonyForSameSeed() {
+            // given
+            PointSet points = PointSet.of(new PointGenerator(778L).generate(30));
+            AntColonyConfig first = AntColonyConfig.builder()
+                    .setSeed(1L)
+                    .build();
+            AntColonyConfig second = first.toBuilder()
+                    .setSeed(2L)
+                    .build();
+            AntColonyTspSolver owner = new AntColonyTspSolver(points, first);
+
+            // when
+            Tour sharedTour = new AntColonyTspSolver(points, second, owner).solve(points);
+            Tour independentTour = new AntColonyTspSolver(points, second).solve(points);
+
+            // then
+            assertThat(sharedTour.getTotalDistance()).isEqualTo(independentTour.getTotalDistance());
+            assertThat(sharedTour.getOrder()).containsExactly(independentTour.getOrder());
+        }
+    }
+
+    @Nested
+    class Variants {
+
+        @ParameterizedTest
+        @EnumSource(AntColonyVariant.class)
+        void shouldFindShortTourWithEveryVariant(AntColonyVariant variant) {
+            // given
+            List<Point> points = new PointGenerator(4321L).generate(40);
+            List<City> cities = CityConverter.fromPoints(points);
+            AntColonyConfig config = AntColonyConfig.builder()
+                    .setSeed(11L)
+                    .setVariant(variant)
+                    .build();
+            double greedyLength = new GreedyTspSolver().solve(cities).getTotalDistance();
+
+            // when
+            Tour tour = new AntColonyTspSolver(points, config).solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(tour.getTotalDistance()).isLessThanOrEqualTo(greedyLength);
+        }
+
+        @ParameterizedTest
+        @EnumSource(AntColonyVariant.class)
+        void shouldFindSameTourWithLazyAndEagerUpdates(AntColonyVariant variant) {
+            // given
+            List<Point> points = new PointGenerator(555L).generate(30);
+            List<City> cities = CityConverter.fromPoints(points);
+            AntColonyConfig.Builder builder = AntColonyConfig.builder()
+                    .setSeed(9L)
+                    .setParallelism(1)
+                    .setVariant(variant);
+
+            // when
+            Tour eagerTour = new AntColonyTspSolver(points, builder.setPheromoneUpdate(PheromoneUpdate.EAGER).build())
+                    .solve(cities);
+            Tour lazyTour = new AntColonyTspSolver(points, builder.setPheromoneUpdate(PheromoneUpdate.LAZY).build())
+                    .solve(cities);
+
+            // then
+            assertThat(lazyTour.getTotalDistance()).isCloseTo(eagerTour.getTotalDistance(), within(1e-9));
+        }
+    }
+
+    @Nested
+    class Storage {
+
+        @Test
+        void shouldFindSameTourWithPackedStorage() {
+            // given
+            List<Point> points = new PointGenerator(555L).generate(30);
+            List<City> cities = CityConverter.fromPoints(points);
+            AntColonyConfig.Builder builder = AntColonyConfig.builder()
+                    .setSeed(9L)
+                    .setParallelism(1);
+
+            // when
+            Tour fullTour = new AntColonyTspSolver(points, builder.build()).solve(cities);
+            Tour packedTour = new AntColonyTspSolver(points, builder
+                    .setDistanceStorage(MatrixStorage.PACKED)
+                    .setPheromoneStorage(MatrixStorage.PACKED)
+                    .build()).solve(cities);
+
+            // then
+            assertThat(packedTour.getTotalDistance()).isCloseTo(fullTour.getTotalDistance(), within(1e-9));
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = MatrixStorage.class, names = {"PACKED_FLOAT", "PACKED_ROUNDED"})
+        void shouldFindShortTourWithCompactDistances(MatrixStorage distanceStorage) {
+            // given
+            List<Point> points = new PointGenerator(4321L).generate(40);
+            List<City> cities = CityConverter.fromPoints(points);
+            AntColonyConfig config = AntColonyConfig.builder()
+                    .setSeed(11L)
+                    .setDistanceStorage(distanceStorage)
+                    .setPheromoneStorage(MatrixStorage.PACKED_FLOAT)
+                    .build();
+            double greedyLength = new GreedyTspSolver().solve(cities).getTotalDistance();
+
+            // when
+            Tour tour = new AntColonyTspSolver(points, config).solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(tour.getTotalDistance()).isLessThanOrEqualTo(greedyLength);
+        }
+
+        @Test
+        void shouldHandleCoincidentCitiesWithRoundedDistances() {
+            // given
+            PointSet generated = new PointGenerator(4322L).generatePointSet(30);
+            int[] xs = Arrays.copyOf(generated.getXs(), 32);
+            int[] ys = Arrays.copyOf(generated.getYs(), 32);
+            xs[30] = xs[0];
+            ys[30] = ys[0];
+            xs[31] = xs[1];
+            ys[31] = ys[1];
+            PointSet points = PointSet.of(xs, ys);
+            AntColonyConfig config = AntColonyConfig.builder()
+                    .setSeed(12L)
+                    .setDistanceStorage(MatrixStorage.PACKED_ROUNDED)
+                    .build();
+
+            // when
+            Tour tour = new AntColonyTspSolver(points, config).solve(points);
+
+            // then
+            assertThat(Arrays.stream(tour.getOrder()).distinct().count()).isEqualTo(points.size());
+            assertThat(tour.getTotalDistance()).isFinite()
+                    .isLessThanOrEqualTo(new GreedyTspSolver().solve(points).getTotalDistance());
+        }
+    }
+
+    @Nested
+    class Sparse {
+
+        @Test
+        void shouldFindShortTourInSparseMode() {
+            // given
+            List<Point> points = new PointGenerator(4321L).generate(40);
+            List<City> cities = CityConverter.fromPoints(points);
+            AntColonyConfig config = AntColonyConfig.builder()
+                    .setSeed(11L)
+                    .setCandidateListSize(8)
+                    .setSparse(true)
+                    .build();
+            double greedyLength = new GreedyTspSolver().solve(cities).getTotalDistance();
+
+            // when
+            Tour tour = new AntColonyTspSolver(points, config).solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(tour.getTotalDistance()).isLessThanOrEqualTo(greedyLength);
+        }
+
+        @Test
+        void shouldImproveOnSpaceFillingCurveWithinFewIterations() {
+            // given
+            PointSet points = new PointGenerator(8L, 100_000).generatePointSet(2_000);
+            AntColonyConfig config = AntColonyConfig.builder()
+                    .setSeed(3L)
+                    .setCandidateListSize(10)
+                    .setSparse(true)
+                    .build();
+            AntColonyTspSolver solver = new AntColonyTspSolver(points, config);
+
+            // when
+            for (int iteration = 0; iteration < 3; iteration++) {
+                solver.iterate();
+            }
+
+            // then
+            int[] tour = solver.copyBestTour();
+            assertThat(Arrays.stream(tour).distinct().count()).isEqualTo(points.size());
+            assertThat(solver.getBestTourLength()).isLessThan(
+                    Tour.of(points, HilbertCurveTspSolver.buildTour(points)).getTotalDistance());
+        }
+    }
+
+    @Nested
+    class Allocation {
+
+        @Test
+        void shouldNotAllocateInSteadyStateIterations() {
+            // given
+            List<Point> points = new PointGenerator(2024L).generate(40);
+            AntColonyConfig config = AntColonyConfig.builder()
+                    .setSeed(7L)
+                    .setParallelism(1)
+                    .build();
+            AntColonyTspSolver solver = new AntColonyTspSolver(points, config);
+            com.sun.management.ThreadMXBean threadBean =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().threadId();
+            for (int i = 0; i < 200; i++) {
+                solver.runIteration();
+            }
+
+            // when
+            long before = threadBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 50; i++) {
+                solver.runIteration();
+            }
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+            // then
+            assertThat(allocated).isLessThan(1024);
+        }
+    }
+
+    @Nested
+    class Anytime {
+
+        @Test
+        void shouldReturnCompleteTourWhenCancelledBeforeStart() {
+            // given
+            List<Point> points = new PointGenerator(7L).generate(100);
+            List<City> cities = CityConverter.fromPoints(points);
+            SolveContext context = SolveContext.unbounded();
+            context.cancel();
+
+            // when
+            Tour tour = new AntColonyTspSolver(points).solve(cities, context);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+        }
+
+        @Test
+        void shouldStopAtDeadlineAndReportBestTour() {
+            // given
+            List<Point> points = new PointGenerator(7L).generate(300);
+            List<City> cities = CityConverter.fromPoints(points);
+            SolveContext context = SolveContext.withTimeout(Duration.ofMillis(300));
+
+            // when
+            long start = System.nanoTime();
+            Tour tour = new AntColonyTspSolver(points).solve(cities, context);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // then
+            assertThat(elapsedMillis).isLessThan(3_000);
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(context.getBestSoFar()).isPresent();
+            assertThat(context.getBestLength()).isCloseTo(tour.getTotalDistance(), within(1e-6));
+        }
+
+        @Test
+        void shouldStopOnceTargetGapIsReached() {
+            // given
+            List<Point> points = new PointGenerator(8L).generate(60);
+            List<City> cities = CityConverter.fromPoints(points);
+            SolveContext context = SolveContext.unbounded();
+            context.setTargetGap(0.05);
+            AntColonyTspSolver solver = new AntColonyTspSolver(points);
+
+            // when
+            Tour tour = solver.solve(cities, context);
+
+            // then
+            assertThat(context.getLowerBound()).isPositive().isLessThanOrEqualTo(tour.getTotalDistance());
+            assertThat(context.getGap()).isLessThanOrEqualTo(0.05);
+            assertThat(solver.iterate()).isFalse();
+        }
+    }
+
     @Nested
     class Validation {
 
@@ -102,5 +417,26 @@ class AntColonyTspSolverTest {
             assertThatThrownBy(() -> new AntColonyTspSolver(emptyPoints))
                     .isInstanceOf(IllegalArgumentException.class);
         }
+
+        @Test
+        void shouldThrowExceptionForNonPositiveParallelism() {
+            // when & then
+            assertThatThrownBy(() -> AntColonyConfig.builder().setParallelism(0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForSparseModeWithoutCandidateLists() {
+            // when & then
+            assertThatThrownBy(() -> AntColonyConfig.builder().setCandidateListSize(0).setSparse(true).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForRoundedPheromoneStorage() {
+            // when & then
+            assertThatThrownBy(() -> AntColonyConfig.builder().setPheromoneStorage(MatrixStorage.PACKED_ROUNDED).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 }
@@ -0,0 +1,136 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class BranchAndBoundTspSolverTest {
+
+    private final BranchAndBoundTspSolver solver = new BranchAndBoundTspSolver();
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldMatchHeldKarp() {
+            for (int seed = 1; seed <= 6; seed++) {
+                // given
+                List<City> cities = CityConverter.fromPoints(new PointGenerator(seed, 60).generate(10 + seed));
+
+                // when
+                Tour tour = solver.solve(cities, SolveContext.unbounded());
+
+                // then
+                Tour optimal = new HeldKarpTspSolver().solve(cities);
+                assertThat(tour.getTotalDistance()).isCloseTo(optimal.getTotalDistance(), within(1e-6));
+            }
+        }
+
+        @Test
+        void shouldProveOptimalityWithZeroGap() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(51L, 1000).generate(40));
+            SolveContext context = SolveContext.unbounded();
+
+            // when
+            Tour tour = solver.solve(cities, context);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(context.getLowerBound()).isCloseTo(tour.getTotalDistance(), within(1e-6));
+            assertThat(context.getGap()).isCloseTo(0.0, within(1e-9));
+        }
+
+        @Test
+        void shouldFindSameLengthOnEveryPoolSize() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(52L, 1000).generate(30));
+            ForkJoinPool singleWorker = new ForkJoinPool(1);
+            ForkJoinPool fourWorkers = new ForkJoinPool(4);
+
+            // when
+            Tour sequentialTour;
+            Tour parallelTour;
+            try {
+                sequentialTour = new BranchAndBoundTspSolver(BranchAndBoundConfig.builder()
+                        .setPool(singleWorker)
+                        .build()).solve(cities, SolveContext.unbounded());
+                parallelTour = new BranchAndBoundTspSolver(BranchAndBoundConfig.builder()
+                        .setPool(fourWorkers)
+                        .build()).solve(cities, SolveContext.unbounded());
+            } finally {
+                singleWorker.shutdown();
+                fourWorkers.shutdown();
+            }
+
+            // then
+            assertThat(parallelTour.getTotalDistance()).isCloseTo(sequentialTour.getTotalDistance(), within(1e-6));
+        }
+
+        @Test
+        void shouldSolveGridWithManyEqualTours() {
+            // given
+            List<City> cities = new ArrayList<>();
+            for (int x = 0; x < 6; x++) {
+                for (int y = 0; y < 5; y++) {
+                    cities.add(new City("C" + x + "_" + y, x * 10, y * 10));
+                }
+            }
+
+            // when
+            Tour tour = solver.solve(cities, SolveContext.unbounded());
+
+            // then
+            assertThat(tour.getTotalDistance()).isCloseTo(300.0, within(1e-6));
+        }
+    }
+
+    @Nested
+    class Anytime {
+
+        @Test
+        void shouldReturnTourAndProvenGapWhenTimeRunsOut() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(53L, 1000).generate(120));
+            SolveContext context = SolveContext.withTimeout(Duration.ofMillis(300));
+
+            // when
+            Tour tour = solver.solve(cities, context);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(context.getLowerBound()).isPositive().isLessThanOrEqualTo(tour.getTotalDistance());
+            assertThat(context.getGap()).isFinite().isNotNegative();
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForNullConfig() {
+            // when & then
+            assertThatThrownBy(() -> new BranchAndBoundTspSolver(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForEmptyCities() {
+            // when & then
+            assertThatThrownBy(() -> solver.solve(new ArrayList<>()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
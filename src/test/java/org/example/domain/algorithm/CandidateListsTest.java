@@ -0,0 +1,69 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.PointSet;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CandidateListsTest {
+
+    private final double[][] distanceMatrix = {
+            {0, 1, 5, 3},
+            {1, 0, 2, 6},
+            {5, 2, 0, 4},
+            {3, 6, 4, 0}
+    };
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldListNearestCitiesClosestFirst() {
+            // when
+            int[][] candidates = CandidateLists.build(distanceMatrix, 2);
+
+            // then
+            assertThat(candidates[0]).containsExactly(1, 3);
+            assertThat(candidates[1]).containsExactly(0, 2);
+            assertThat(candidates[2]).containsExactly(1, 3);
+            assertThat(candidates[3]).containsExactly(0, 2);
+        }
+
+        @Test
+        void shouldCapListSizeAtOtherCities() {
+            // when
+            int[][] candidates = CandidateLists.build(distanceMatrix, 10);
+
+            // then
+            assertThat(candidates[2]).containsExactly(1, 3, 0);
+        }
+
+        @Test
+        void shouldReturnEmptyListsWhenDisabled() {
+            // when
+            int[][] candidates = CandidateLists.build(distanceMatrix, 0);
+
+            // then
+            for (int[] list : candidates) {
+                assertThat(list).isEmpty();
+            }
+        }
+
+        @Test
+        void shouldMatchDistanceMatrixListsWhenBuiltFromGrid() {
+            // given
+            PointSet points = new PointGenerator(17L).generatePointSet(300);
+
+            // when
+            int[][] fromGrid = CandidateLists.build(points, 8);
+
+            // then
+            int[][] fromMatrix = CandidateLists.build(DistanceMatrix.euclidean(points), 8);
+            for (int city = 0; city < points.size(); city++) {
+                assertThat(fromGrid[city]).containsExactly(fromMatrix[city]);
+            }
+        }
+    }
+}
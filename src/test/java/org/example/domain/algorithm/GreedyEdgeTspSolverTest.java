@@ -0,0 +1,122 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class GreedyEdgeTspSolverTest {
+
+    private final GreedyEdgeTspSolver solver = new GreedyEdgeTspSolver();
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldSolveSquare() {
+            // given
+            List<City> cities = List.of(
+                    new City("A", 0, 0),
+                    new City("B", 10, 0),
+                    new City("C", 10, 10),
+                    new City("D", 0, 10)
+            );
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getTotalDistance()).isCloseTo(40.0, within(0.001));
+        }
+
+        @Test
+        void shouldFollowConvexPolygon() {
+            // given
+            List<City> cities = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                double angle = 2 * Math.PI * ((i * 37) % 60) / 60;
+                cities.add(new City("C" + i, (int) Math.round(1000 * Math.cos(angle)),
+                        (int) Math.round(1000 * Math.sin(angle))));
+            }
+            double perimeter = 0;
+            for (int i = 0; i < 60; i++) {
+                perimeter += Math.hypot(
+                        Math.round(1000 * Math.cos(2 * Math.PI * i / 60)) - Math.round(1000 * Math.cos(2 * Math.PI * (i + 1) / 60)),
+                        Math.round(1000 * Math.sin(2 * Math.PI * i / 60)) - Math.round(1000 * Math.sin(2 * Math.PI * (i + 1) / 60)));
+            }
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getTotalDistance()).isCloseTo(perimeter, within(0.001));
+        }
+
+        @Test
+        void shouldBeShorterThanHilbertCurveTour() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(32L).generate(2000));
+
+            // when
+            Tour tour = solver.solve(cities);
+            Tour hilbertTour = new HilbertCurveTspSolver().solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(tour.getTotalDistance()).isLessThan(hilbertTour.getTotalDistance());
+        }
+
+        @Test
+        void shouldHandleTwoCities() {
+            // given
+            List<City> cities = List.of(new City("A", 0, 0), new City("B", 10, 0));
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getTotalDistance()).isCloseTo(20.0, within(0.001));
+        }
+    }
+
+    @Nested
+    class Anytime {
+
+        @Test
+        void shouldReportTourToContext() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(34L).generate(200));
+            SolveContext context = SolveContext.unbounded();
+
+            // when
+            Tour tour = solver.solve(cities, context);
+
+            // then
+            assertThat(context.getBestSoFar()).isPresent();
+            assertThat(context.getBestLength()).isCloseTo(tour.getTotalDistance(), within(1e-9));
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForNullCities() {
+            // given
+            List<City> nullCities = null;
+
+            // when & then
+            assertThatThrownBy(() -> solver.solve(nullCities))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
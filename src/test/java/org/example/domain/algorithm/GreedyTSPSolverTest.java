@@ -1,13 +1,23 @@
 package org.example.domain.algorithm;
 
 import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
 import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -91,4 +101,144 @@ class GreedyTSPSolverTest {
                 .isInstanceOf(IllegalArgumentException.class);
         }
     }
+
+    @Nested
+    class MultiStart {
+
+        @Test
+        void shouldBeNoLongerThanSingleStart() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(21L).generate(150));
+            GreedyTspSolver multiStart = new GreedyTspSolver(GreedyConfig.builder()
+                    .setStarts(GreedyConfig.ALL_STARTS)
+                    .setTwoOpt(true)
+                    .build());
+
+            // when
+            Tour singleTour = solver.solve(cities);
+            Tour multiTour = multiStart.solve(cities);
+
+            // then
+            assertThat(multiTour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(multiTour.getTotalDistance()).isLessThan(singleTour.getTotalDistance());
+        }
+
+        @Test
+        void shouldNotDependOnParallelism() throws InterruptedException {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(22L).generate(120));
+            GreedyConfig sequential = GreedyConfig.builder()
+                    .setStarts(20)
+                    .setSeed(3L)
+                    .setParallelism(1)
+                    .build();
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+
+            // when
+            Tour sequentialTour = new GreedyTspSolver(sequential).solve(cities);
+            Tour parallelTour;
+            try {
+                GreedyConfig parallel = GreedyConfig.builder()
+                        .setStarts(20)
+                        .setSeed(3L)
+                        .setParallelism(4)
+                        .setExecutor(executor)
+                        .build();
+                parallelTour = new GreedyTspSolver(parallel).solve(cities);
+            } finally {
+                executor.shutdown();
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+
+            // then
+            assertThat(parallelTour.getCities()).containsExactlyElementsOf(sequentialTour.getCities());
+        }
+
+        @Test
+        @Timeout(30)
+        void shouldImproveLargeInstanceWithTwoOptInBoundedTime() {
+            // given
+            PointSet points = new PointGenerator(23L, 1_000_000).generatePointSet(200_000);
+            GreedyTspSolver multiStart = new GreedyTspSolver(GreedyConfig.builder()
+                    .setStarts(2)
+                    .setTwoOpt(true)
+                    .build());
+
+            // when
+            Tour singleTour = solver.solve(points);
+            Tour multiTour = multiStart.solve(points);
+
+            // then
+            assertThat(multiTour.size()).isEqualTo(points.size());
+            assertThat(multiTour.getTotalDistance()).isLessThan(singleTour.getTotalDistance());
+        }
+
+        @Test
+        void shouldThrowExceptionForNegativeStarts() {
+            // when & then
+            assertThatThrownBy(() -> GreedyConfig.builder().setStarts(-1).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    class Anytime {
+
+        @Test
+        void shouldCompleteProgressWhenSolveFails() throws InterruptedException {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(24L).generate(60));
+            GreedyTspSolver failing = new GreedyTspSolver(GreedyConfig.builder()
+                    .setStarts(4)
+                    .setParallelism(2)
+                    .setExecutor(task -> {
+                        throw new RejectedExecutionException("no workers");
+                    })
+                    .build());
+            SolveContext context = SolveContext.unbounded();
+            CountDownLatch completed = new CountDownLatch(1);
+            context.progress().subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(SolverProgress item) {
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                }
+
+                @Override
+                public void onComplete() {
+                    completed.countDown();
+                }
+            });
+
+            // when & then
+            assertThatThrownBy(() -> failing.solve(cities, context))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        void shouldReturnPermutationWhenCancelled() {
+            // given
+            List<City> cities = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                cities.add(new City("C" + i, i * 7 % 50, i * 13 % 50));
+            }
+            SolveContext context = SolveContext.unbounded();
+            context.cancel();
+
+            // when
+            Tour tour = solver.solve(cities, context);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(context.getBestSoFar()).isPresent();
+        }
+    }
 }
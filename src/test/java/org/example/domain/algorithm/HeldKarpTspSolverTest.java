@@ -0,0 +1,184 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HeldKarpTspSolverTest {
+
+    private final HeldKarpTspSolver solver = new HeldKarpTspSolver();
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldMatchExhaustiveSearch() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(41L, 100).generate(8));
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+            assertThat(tour.getTotalDistance()).isCloseTo(exhaustiveOptimum(cities), within(1e-9));
+        }
+
+        @Test
+        void shouldFollowConvexPolygonAtMaximumSize() {
+            // given
+            List<City> cities = new ArrayList<>();
+            for (int i = 0; i < HeldKarpTspSolver.MAX_CITIES; i++) {
+                int corner = (i * 7) % HeldKarpTspSolver.MAX_CITIES;
+                double angle = 2 * Math.PI * corner / HeldKarpTspSolver.MAX_CITIES;
+                cities.add(new City("C" + corner, (int) Math.round(1000 * Math.cos(angle)),
+                        (int) Math.round(1000 * Math.sin(angle))));
+            }
+            List<City> perimeterOrder = new ArrayList<>(cities);
+            perimeterOrder.sort((a, b) -> Double.compare(Math.atan2(a.getY(), a.getX()), Math.atan2(b.getY(), b.getX())));
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getTotalDistance()).isCloseTo(new Tour(perimeterOrder).getTotalDistance(), within(1e-9));
+            assertThat(tour.getCities().get(0)).isEqualTo(cities.get(0));
+        }
+
+        @Test
+        void shouldNotDependOnParallelism() throws InterruptedException {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(42L, 1000).generate(16));
+            ExecutorService executor = Executors.newFixedThreadPool(3);
+
+            // when
+            Tour sequentialTour = new HeldKarpTspSolver(1, executor).solve(cities);
+            Tour parallelTour;
+            try {
+                parallelTour = new HeldKarpTspSolver(4, executor).solve(cities);
+            } finally {
+                executor.shutdown();
+                executor.awaitTermination(5, TimeUnit.SECONDS);
+            }
+
+            // then
+            assertThat(parallelTour.getCities()).containsExactlyElementsOf(sequentialTour.getCities());
+        }
+
+        @Test
+        void shouldHandleThreeCities() {
+            // given
+            List<City> cities = List.of(new City("A", 0, 0), new City("B", 3, 0), new City("C", 0, 4));
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getTotalDistance()).isCloseTo(12.0, within(1e-9));
+        }
+
+        @Test
+        void shouldSqueezeAndExpandSubsets() {
+            // given
+            int subset = 0b1011_0110;
+
+            // when
+            int squeezed = HeldKarpTspSolver.squeeze(subset, 2);
+
+            // then
+            assertThat(squeezed).isEqualTo(0b101_1010);
+            assertThat(HeldKarpTspSolver.expand(squeezed, 2)).isEqualTo(subset & ~0b100);
+        }
+    }
+
+    @Nested
+    class Anytime {
+
+        @Test
+        void shouldReportOptimumWithZeroGap() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(44L, 100).generate(12));
+            SolveContext context = SolveContext.unbounded();
+
+            // when
+            Tour tour = solver.solve(cities, context);
+
+            // then
+            assertThat(context.getBestSoFar()).isPresent();
+            assertThat(context.getBestLength()).isCloseTo(tour.getTotalDistance(), within(1e-9));
+            assertThat(context.getGap()).isCloseTo(0.0, within(1e-12));
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForTooManyCities() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(43L).generate(HeldKarpTspSolver.MAX_CITIES + 1));
+
+            // when & then
+            assertThatThrownBy(() -> solver.solve(cities))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForEmptyCities() {
+            // when & then
+            assertThatThrownBy(() -> solver.solve(new ArrayList<>()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForNonPositiveParallelism() {
+            // when & then
+            assertThatThrownBy(() -> new HeldKarpTspSolver(0, Runnable::run))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static double exhaustiveOptimum(List<City> cities) {
+        int[] order = new int[cities.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        return permute(cities, order, 1);
+    }
+
+    private static double permute(List<City> cities, int[] order, int from) {
+        if (from == order.length) {
+            double length = 0;
+            for (int i = 0; i < order.length; i++) {
+                length += cities.get(order[i]).distanceTo(cities.get(order[(i + 1) % order.length]));
+            }
+            return length;
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = from; i < order.length; i++) {
+            swap(order, from, i);
+            best = Math.min(best, permute(cities, order, from + 1));
+            swap(order, from, i);
+        }
+        return best;
+    }
+
+    private static void swap(int[] order, int i, int j) {
+        int swap = order[i];
+        order[i] = order[j];
+        order[j] = swap;
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HilbertCurveTspSolverTest {
+
+    private final HilbertCurveTspSolver solver = new HilbertCurveTspSolver();
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldVisitEveryCityOnce() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(31L).generate(500));
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+        }
+
+        @Test
+        void shouldWalkGridWithoutDiagonals() {
+            // given
+            List<City> cities = new ArrayList<>();
+            for (int x = 0; x < 8; x++) {
+                for (int y = 0; y < 8; y++) {
+                    cities.add(new City("C" + x + "_" + y, x * 10, y * 10));
+                }
+            }
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then: 63 unit steps along the curve, closed from the opposite corner
+            assertThat(tour.getTotalDistance()).isCloseTo(630.0 + 70.0, within(0.001));
+        }
+
+        @Test
+        void shouldHandleSingleCity() {
+            // given
+            List<City> cities = List.of(new City("A", 5, 5));
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getCities()).hasSize(1);
+        }
+
+        @Test
+        void shouldKeepNeighbouringCellsCloseOnCurve() {
+            // when
+            long origin = HilbertCurveTspSolver.hilbertIndex(0, 0);
+            long right = HilbertCurveTspSolver.hilbertIndex(1, 0);
+            long up = HilbertCurveTspSolver.hilbertIndex(0, 1);
+
+            // then
+            assertThat(origin).isZero();
+            assertThat(Math.min(right, up)).isEqualTo(1L);
+        }
+    }
+
+    @Nested
+    class Anytime {
+
+        @Test
+        void shouldReportTourToContext() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(33L).generate(200));
+            SolveContext context = SolveContext.unbounded();
+
+            // when
+            Tour tour = solver.solve(cities, context);
+
+            // then
+            assertThat(context.getBestSoFar()).isPresent();
+            assertThat(context.getBestLength()).isCloseTo(tour.getTotalDistance(), within(1e-9));
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForEmptyCities() {
+            // when & then
+            assertThatThrownBy(() -> solver.solve(new ArrayList<>()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LinKernighanTspSolverTest {
+
+    private final LinKernighanTspSolver solver = new LinKernighanTspSolver();
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldFindOptimalTourOnGrid() {
+            // given
+            List<City> cities = new ArrayList<>();
+            for (int x = 0; x < 6; x++) {
+                for (int y = 0; y < 6; y++) {
+                    cities.add(new City("City" + cities.size(), x * 10, y * 10));
+                }
+            }
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getTotalDistance()).isCloseTo(360.0, within(0.001));
+        }
+
+        @Test
+        void shouldBeatTwoOptAndOrOpt() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(17L).generate(500));
+            LocalSearchTspSolver orOpt = new LocalSearchTspSolver(new GreedyTspSolver(),
+                    List.of(LocalSearchType.TWO_OPT, LocalSearchType.OR_OPT));
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getTotalDistance()).isLessThan(orOpt.solve(cities).getTotalDistance());
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+        }
+
+        @Test
+        void shouldHandleFewCities() {
+            // given
+            List<City> cities = List.of(
+                    new City("A", 0, 0),
+                    new City("B", 10, 0),
+                    new City("C", 10, 10)
+            );
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+        }
+
+        @Test
+        void shouldStopAtTimeLimit() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(3L).generate(3000));
+            LinKernighanTspSolver limitedSolver = new LinKernighanTspSolver(LinKernighanConfig.builder()
+                    .setTimeLimit(Duration.ofMillis(1))
+                    .build());
+
+            // when
+            Tour tour = limitedSolver.solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForEmptyCities() {
+            // when & then
+            assertThatThrownBy(() -> solver.solve(List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForZeroTimeLimit() {
+            // when & then
+            assertThatThrownBy(() -> LinKernighanConfig.builder().setTimeLimit(Duration.ZERO).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
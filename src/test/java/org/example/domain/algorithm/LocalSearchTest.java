@@ -0,0 +1,106 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.Point;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LocalSearchTest {
+
+    private static final int CITIES = 300;
+
+    @Nested
+    class CoreFunctionality {
+
+        @ParameterizedTest
+        @EnumSource(LocalSearchType.class)
+        void shouldShortenRandomTourAndKeepPermutation(LocalSearchType type) {
+            for (MoveSelection moveSelection : MoveSelection.values()) {
+                // given
+                double[][] distanceMatrix = DistanceMatrices.build(new PointGenerator(5L).generate(CITIES));
+                LocalSearch localSearch = LocalSearch.create(List.of(type), distanceMatrix, 10, moveSelection);
+                int[] tour = IntStream.range(0, CITIES).toArray();
+                double initialLength = DistanceMatrices.tourLength(tour, distanceMatrix);
+
+                // when
+                boolean changed = localSearch.improve(tour);
+
+                // then
+                assertThat(changed).isTrue();
+                assertThat(DistanceMatrices.tourLength(tour, distanceMatrix)).isLessThan(initialLength);
+                assertThat(tour).containsExactlyInAnyOrder(IntStream.range(0, CITIES).toArray());
+            }
+        }
+
+        @Test
+        void shouldMoveMisplacedCityWithOrOpt() {
+            // given
+            List<Point> points = List.of(
+                    new Point(0, 0),
+                    new Point(10, 0),
+                    new Point(20, 0),
+                    new Point(30, 0),
+                    new Point(30, 10),
+                    new Point(20, 10),
+                    new Point(10, 10),
+                    new Point(0, 10)
+            );
+            double[][] distanceMatrix = DistanceMatrices.build(points);
+            LocalSearch localSearch = LocalSearch.create(List.of(LocalSearchType.OR_OPT), distanceMatrix, 7,
+                    MoveSelection.FIRST_IMPROVEMENT);
+            int[] tour = {0, 2, 3, 4, 5, 1, 6, 7};
+
+            // when
+            localSearch.improve(tour);
+
+            // then
+            assertThat(DistanceMatrices.tourLength(tour, distanceMatrix)).isCloseTo(80.0, within(0.001));
+        }
+
+        @Test
+        void shouldNotLoseToTwoOptWhenCombined() {
+            // given
+            double[][] distanceMatrix = DistanceMatrices.build(new PointGenerator(8L).generate(CITIES));
+            int[] twoOptTour = IntStream.range(0, CITIES).toArray();
+            int[] combinedTour = twoOptTour.clone();
+            LocalSearch twoOpt = LocalSearch.create(List.of(LocalSearchType.TWO_OPT), distanceMatrix, 10,
+                    MoveSelection.FIRST_IMPROVEMENT);
+            LocalSearch combined = LocalSearch.create(
+                    List.of(LocalSearchType.TWO_OPT, LocalSearchType.OR_OPT, LocalSearchType.THREE_OPT),
+                    distanceMatrix, 10, MoveSelection.FIRST_IMPROVEMENT);
+
+            // when
+            twoOpt.improve(twoOptTour);
+            combined.improve(combinedTour);
+
+            // then
+            double twoOptLength = DistanceMatrices.tourLength(twoOptTour, distanceMatrix);
+            assertThat(DistanceMatrices.tourLength(combinedTour, distanceMatrix)).isLessThan(twoOptLength * 1.02);
+            assertThat(combinedTour).containsExactlyInAnyOrder(IntStream.range(0, CITIES).toArray());
+        }
+
+        @Test
+        void shouldLeaveTinyTourUnchanged() {
+            // given
+            double[][] distanceMatrix = DistanceMatrices.build(List.of(new Point(0, 0), new Point(5, 5)));
+            LocalSearch localSearch = LocalSearch.create(List.of(LocalSearchType.THREE_OPT), distanceMatrix, 5,
+                    MoveSelection.BEST_IMPROVEMENT);
+            int[] tour = {0, 1};
+
+            // when
+            boolean changed = localSearch.improve(tour);
+
+            // then
+            assertThat(changed).isFalse();
+            assertThat(tour).containsExactly(0, 1);
+        }
+    }
+}
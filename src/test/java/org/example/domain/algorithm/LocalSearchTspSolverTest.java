@@ -0,0 +1,68 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalSearchTspSolverTest {
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldImproveGreedyTour() {
+            // given
+            List<City> cities = CityConverter.fromPoints(new PointGenerator(31L).generate(150));
+            Tour greedyTour = new GreedyTspSolver().solve(cities);
+            LocalSearchTspSolver solver = new LocalSearchTspSolver(new GreedyTspSolver(),
+                    List.of(LocalSearchType.TWO_OPT, LocalSearchType.OR_OPT, LocalSearchType.THREE_OPT));
+
+            // when
+            Tour tour = solver.solve(cities);
+
+            // then
+            assertThat(tour.getTotalDistance()).isLessThan(greedyTour.getTotalDistance());
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+        }
+
+        @Test
+        void shouldReturnSameTourWhenNothingToImprove() {
+            // given
+            List<City> cities = List.of(
+                    new City("A", 0, 0),
+                    new City("B", 10, 0),
+                    new City("C", 10, 10),
+                    new City("D", 0, 10),
+                    new City("E", -5, 5)
+            );
+            Tour tour = new Tour(cities);
+            LocalSearchTspSolver solver = new LocalSearchTspSolver(new GreedyTspSolver(),
+                    List.of(LocalSearchType.TWO_OPT));
+
+            // when
+            Tour improved = solver.improve(tour);
+
+            // then
+            assertThat(improved).isSameAs(tour);
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForEmptyLocalSearchTypes() {
+            // when & then
+            assertThatThrownBy(() -> new LocalSearchTspSolver(new GreedyTspSolver(), List.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
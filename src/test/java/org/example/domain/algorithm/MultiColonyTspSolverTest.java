@@ -0,0 +1,109 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Point;
+import org.example.domain.model.Tour;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MultiColonyTspSolverTest {
+
+    @Nested
+    class CoreFunctionality {
+
+        @ParameterizedTest
+        @EnumSource(MigrationTopology.class)
+        void shouldFindTourNoLongerThanGreedy(MigrationTopology topology) {
+            // given
+            List<Point> points = new PointGenerator(808L).generate(40);
+            List<City> cities = CityConverter.fromPoints(points);
+            ExecutorService pool = Executors.newFixedThreadPool(3);
+
+            try {
+                MultiColonyConfig config = MultiColonyConfig.builder()
+                        .setColonies(4)
+                        .setMigrationInterval(5)
+                        .setTopology(topology)
+                        .setExecutor(pool)
+                        .setColonyConfig(AntColonyConfig.builder().setSeed(1L).setParallelism(1).build())
+                        .build();
+                double greedyLength = new GreedyTspSolver().solve(cities).getTotalDistance();
+
+                // when
+                Tour tour = new MultiColonyTspSolver(points, config).solve(cities);
+
+                // then
+                assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+                assertThat(tour.getTotalDistance()).isLessThanOrEqualTo(greedyLength);
+            } finally {
+                pool.shutdown();
+            }
+        }
+
+        @Test
+        void shouldSolveWithSingleColony() {
+            // given
+            List<Point> points = new PointGenerator(9L).generate(15);
+            List<City> cities = CityConverter.fromPoints(points);
+            MultiColonyConfig config = MultiColonyConfig.builder()
+                    .setColonies(1)
+                    .build();
+
+            // when
+            Tour tour = new MultiColonyTspSolver(points, config).solve(cities);
+
+            // then
+            assertThat(tour.getCities()).containsExactlyInAnyOrderElementsOf(cities);
+        }
+    }
+
+    @Nested
+    class Memory {
+
+        @Test
+        void shouldCapColoniesByHalfTheHeap() {
+            // given
+            AntColonyConfig colonyConfig = AntColonyConfig.defaults();
+            long perColony = AntColonyTspSolver.colonyBytes(2_000, colonyConfig);
+
+            // when
+            int roomy = MultiColonyTspSolver.coloniesThatFit(8, 2_000, colonyConfig, 100 * perColony);
+            int tight = MultiColonyTspSolver.coloniesThatFit(8, 2_000, colonyConfig, 5 * perColony);
+            int tiny = MultiColonyTspSolver.coloniesThatFit(8, 2_000, colonyConfig, perColony);
+
+            // then
+            assertThat(roomy).isEqualTo(8);
+            assertThat(tight).isEqualTo(2);
+            assertThat(tiny).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForNonPositiveColonies() {
+            // when & then
+            assertThatThrownBy(() -> MultiColonyConfig.builder().setColonies(0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForNonPositiveMigrationInterval() {
+            // when & then
+            assertThatThrownBy(() -> MultiColonyConfig.builder().setMigrationInterval(0).build())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
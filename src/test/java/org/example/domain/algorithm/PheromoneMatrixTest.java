@@ -0,0 +1,215 @@
+package org.example.domain.algorithm;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PheromoneMatrixTest {
+
+    private static final int CITIES = 12;
+
+    @Nested
+    class LazyUpdate {
+
+        @Test
+        void shouldMatchEagerUpdateWithEdgeLocalUpdates() {
+            // given
+            PheromoneMatrix eager = create(PheromoneUpdate.EAGER);
+            PheromoneMatrix lazy = create(PheromoneUpdate.LAZY);
+
+            // when
+            for (int iteration = 0; iteration < 50; iteration++) {
+                for (PheromoneMatrix matrix : List.of(eager, lazy)) {
+                    matrix.evaporate();
+                    matrix.set(iteration % CITIES, (iteration + 1) % CITIES,
+                            0.9 * matrix.get(iteration % CITIES, (iteration + 1) % CITIES) + 0.05);
+                    matrix.deposit(2, 5, 0.3);
+                    matrix.applyBounds(0.0, Double.MAX_VALUE);
+                }
+            }
+
+            // then
+            for (int i = 0; i < CITIES; i++) {
+                for (int j = 0; j < CITIES; j++) {
+                    assertThat(lazy.get(i, j)).isCloseTo(eager.get(i, j), within(1e-12));
+                }
+            }
+        }
+
+
+        @Test
+        void shouldMatchEagerUpdateOverManyIterations() {
+            // given
+            PheromoneMatrix eager = create(PheromoneUpdate.EAGER);
+            PheromoneMatrix lazy = create(PheromoneUpdate.LAZY);
+            SplittableRandom random = new SplittableRandom(3L);
+
+            for (int iteration = 0; iteration < 1000; iteration++) {
+                // when
+                eager.evaporate();
+                lazy.evaporate();
+                int deposits = random.nextInt(6);
+                for (int d = 0; d < deposits; d++) {
+                    int cityA = random.nextInt(CITIES);
+                    int cityB = (cityA + 1 + random.nextInt(CITIES - 1)) % CITIES;
+                    double amount = random.nextDouble() * (random.nextBoolean() ? 0.004 : 8.0);
+                    eager.deposit(cityA, cityB, amount);
+                    lazy.deposit(cityA, cityB, amount);
+                }
+                double minPheromone = 0.01 + iteration * 1e-5;
+                eager.applyBounds(minPheromone, 10.0);
+                lazy.applyBounds(minPheromone, 10.0);
+
+                // then
+                for (int i = 0; i < CITIES; i++) {
+                    for (int j = 0; j < CITIES; j++) {
+                        if (i != j) {
+                            assertThat(lazy.get(i, j)).isCloseTo(eager.get(i, j), within(1e-9));
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        void shouldKeepValuesWithinBounds() {
+            // given
+            PheromoneMatrix lazy = create(PheromoneUpdate.LAZY);
+
+            // when
+            lazy.evaporate();
+            lazy.deposit(0, 1, 100.0);
+            lazy.applyBounds(0.01, 10.0);
+            assertThat(lazy.get(0, 1)).isEqualTo(10.0);
+            for (int iteration = 0; iteration < 20; iteration++) {
+                lazy.evaporate();
+                lazy.applyBounds(0.01, 10.0);
+            }
+
+            // then
+            assertThat(lazy.get(1, 0)).isEqualTo(0.01);
+            assertThat(lazy.get(2, 3)).isEqualTo(0.01);
+        }
+
+        @Test
+        void shouldBoundCellsWrittenRepeatedlyInEveryUpdate() {
+            // given
+            PheromoneMatrix lazy = create(PheromoneUpdate.LAZY);
+
+            for (int iteration = 0; iteration < 3; iteration++) {
+                // when
+                lazy.evaporate();
+                for (int write = 0; write < 10; write++) {
+                    lazy.set(4, 7, 50.0);
+                    lazy.set(7, 4, 60.0);
+                }
+                lazy.applyBounds(0.01, 10.0);
+
+                // then
+                assertThat(lazy.get(4, 7)).isEqualTo(10.0);
+            }
+        }
+    }
+
+    @Nested
+    class Storage {
+
+        @ParameterizedTest
+        @EnumSource(PheromoneUpdate.class)
+        void shouldMatchFullStorageWithPackedStorage(PheromoneUpdate update) {
+            // given
+            PheromoneMatrix full = create(update);
+            PheromoneMatrix packed = PheromoneMatrix.create(update, CITIES, 0.1, 0.5, MatrixStorage.PACKED);
+            PheromoneMatrix packedFloat = PheromoneMatrix.create(update, CITIES, 0.1, 0.5, MatrixStorage.PACKED_FLOAT);
+            SplittableRandom random = new SplittableRandom(5L);
+
+            for (int iteration = 0; iteration < 500; iteration++) {
+                // when
+                int cityA = random.nextInt(CITIES);
+                int cityB = (cityA + 1 + random.nextInt(CITIES - 1)) % CITIES;
+                double amount = random.nextDouble();
+                for (PheromoneMatrix matrix : List.of(full, packed, packedFloat)) {
+                    matrix.evaporate();
+                    matrix.deposit(cityA, cityB, amount);
+                    matrix.applyBounds(0.001, 2.0);
+                }
+
+                // then
+                for (int i = 0; i < CITIES; i++) {
+                    for (int j = 0; j < CITIES; j++) {
+                        if (i != j) {
+                            assertThat(packed.get(i, j)).isCloseTo(full.get(i, j), within(1e-12));
+                            assertThat(packedFloat.get(i, j)).isCloseTo(full.get(i, j), within(1e-6));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Nested
+    class Sparse {
+
+        @Test
+        void shouldMatchFullMatrixWhenDepositingOnCandidateEdges() {
+            // given
+            int[][] candidateLists = new int[CITIES][2];
+            for (int city = 0; city < CITIES; city++) {
+                candidateLists[city][0] = (city + 1) % CITIES;
+                candidateLists[city][1] = (city + CITIES - 1) % CITIES;
+            }
+            PheromoneMatrix full = create(PheromoneUpdate.EAGER);
+            PheromoneMatrix sparse = new SparsePheromoneMatrix(candidateLists, 0.1, 0.5);
+            SplittableRandom random = new SplittableRandom(7L);
+
+            for (int iteration = 0; iteration < 300; iteration++) {
+                // when
+                int cityA = random.nextInt(CITIES);
+                int cityB = candidateLists[cityA][random.nextInt(2)];
+                double amount = random.nextDouble();
+                for (PheromoneMatrix matrix : List.of(full, sparse)) {
+                    matrix.evaporate();
+                    matrix.deposit(cityA, cityB, amount);
+                    matrix.applyBounds(0.001 + iteration * 1e-6, 2.0);
+                }
+
+                // then
+                for (int i = 0; i < CITIES; i++) {
+                    for (int j = 0; j < CITIES; j++) {
+                        if (i != j) {
+                            assertThat(sparse.get(i, j)).isCloseTo(full.get(i, j), within(1e-12));
+                        }
+                    }
+                }
+            }
+        }
+
+        @Test
+        void shouldKeepDefaultOnEdgesOutsideCandidateLists() {
+            // given
+            int[][] candidateLists = {{1}, {0}, {3}, {2}};
+            PheromoneMatrix sparse = new SparsePheromoneMatrix(candidateLists, 0.1, 0.5);
+
+            // when
+            sparse.evaporate();
+            sparse.deposit(0, 2, 5.0);
+            sparse.deposit(0, 1, 5.0);
+            sparse.applyBounds(0.0, 10.0);
+
+            // then
+            assertThat(sparse.get(2, 0)).isCloseTo(0.05, within(1e-12));
+            assertThat(sparse.get(1, 0)).isCloseTo(5.05, within(1e-12));
+        }
+    }
+
+    private static PheromoneMatrix create(PheromoneUpdate update) {
+        return PheromoneMatrix.create(update, CITIES, 0.1, 0.5);
+    }
+}
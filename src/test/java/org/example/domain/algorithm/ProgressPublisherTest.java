@@ -0,0 +1,115 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.Point;
+import org.example.domain.service.CityConverter;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProgressPublisherTest {
+
+    @Test
+    void shouldDeliverOnlyLatestEventToSlowSubscriber() {
+        // given
+        ProgressPublisher publisher = new ProgressPublisher(Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+
+        // when
+        publisher.publish(progress(1, 30.0));
+        publisher.publish(progress(2, 20.0));
+        publisher.publish(progress(3, 10.0));
+        subscriber.subscription.request(1);
+
+        // then
+        assertThat(subscriber.received).extracting(SolverProgress::iteration).containsExactly(3L);
+    }
+
+    @Test
+    void shouldDeliverPendingEventBeforeCompleting() {
+        // given
+        ProgressPublisher publisher = new ProgressPublisher(Runnable::run);
+        RecordingSubscriber subscriber = new RecordingSubscriber(0);
+        publisher.subscribe(subscriber);
+        publisher.publish(progress(1, 30.0));
+
+        // when
+        publisher.close();
+        boolean completedEarly = subscriber.completed.getCount() == 0;
+        subscriber.subscription.request(1);
+
+        // then
+        assertThat(completedEarly).isFalse();
+        assertThat(subscriber.received).hasSize(1);
+        assertThat(subscriber.completed.getCount()).isZero();
+        assertThat(publisher.hasSubscribers()).isFalse();
+    }
+
+    @Test
+    void shouldStreamAntColonyIterationsAndComplete() throws InterruptedException {
+        // given
+        List<Point> points = new PointGenerator(3L).generate(60);
+        List<City> cities = CityConverter.fromPoints(points);
+        SolveContext context = SolveContext.withTimeout(Duration.ofSeconds(10));
+        RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+        context.progress().subscribe(subscriber);
+
+        // when
+        new AntColonyTspSolver(points).solve(cities, context);
+
+        // then
+        assertThat(subscriber.completed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.received).isNotEmpty();
+        SolverProgress last = subscriber.received.get(subscriber.received.size() - 1);
+        assertThat(last.bestLength()).isEqualTo(context.getBestLength());
+        assertThat(last.alpha()).isPositive();
+        assertThat(last.beta()).isPositive();
+    }
+
+    private static SolverProgress progress(long iteration, double bestLength) {
+        return new SolverProgress(iteration, bestLength, true, Duration.ZERO, 1.0, 5.0, Double.POSITIVE_INFINITY);
+    }
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<SolverProgress> {
+        private final long initialRequest;
+        private final List<SolverProgress> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+
+        RecordingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(SolverProgress item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
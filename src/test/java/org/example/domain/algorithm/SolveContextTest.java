@@ -0,0 +1,142 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.City;
+import org.example.domain.model.PointSet;
+import org.example.domain.model.Tour;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SolveContextTest {
+
+    @Test
+    void shouldStopAfterCancel() {
+        // given
+        SolveContext context = SolveContext.unbounded();
+
+        // when
+        context.cancel();
+
+        // then
+        assertThat(context.isCancelled()).isTrue();
+        assertThat(context.shouldStop()).isTrue();
+    }
+
+    @Test
+    void shouldStopOnceTimeoutHasPassed() {
+        // given
+        SolveContext context = SolveContext.withTimeout(Duration.ZERO);
+
+        // when & then
+        assertThat(context.hasDeadline()).isTrue();
+        assertThat(context.shouldStop()).isTrue();
+        assertThat(SolveContext.unbounded().shouldStop()).isFalse();
+    }
+
+    @Test
+    void shouldKeepShortestOfferedTour() {
+        // given
+        List<City> cities = List.of(
+                new City("A", 0, 0),
+                new City("B", 10, 0),
+                new City("C", 10, 10),
+                new City("D", 0, 10)
+        );
+        SolveContext context = SolveContext.unbounded();
+        context.begin(cities);
+
+        // when
+        context.offer(new int[]{0, 2, 1, 3}, 48.28);
+        context.offer(new int[]{0, 1, 2, 3}, 40.0);
+        context.offer(new int[]{0, 3, 1, 2}, 48.28);
+
+        // then
+        Tour best = context.getBestSoFar().orElseThrow();
+        assertThat(context.getBestLength()).isEqualTo(40.0);
+        assertThat(best.getCities()).containsExactlyElementsOf(cities);
+    }
+
+    @Test
+    void shouldKeepLargestLowerBoundAndReportGap() {
+        // given
+        SolveContext context = SolveContext.unbounded();
+        context.begin(List.of(new City("A", 0, 0), new City("B", 10, 0)));
+
+        // when
+        double gapWithoutTour = context.getGap();
+        context.offerLowerBound(16.0);
+        context.offerLowerBound(15.0);
+        context.offer(new int[]{0, 1}, 20.0);
+
+        // then
+        assertThat(gapWithoutTour).isInfinite();
+        assertThat(context.getLowerBound()).isEqualTo(16.0);
+        assertThat(context.getGap()).isEqualTo(0.25);
+    }
+
+    @Test
+    void shouldStopOnceWithinTargetGap() {
+        // given
+        SolveContext context = SolveContext.unbounded();
+        context.setTargetGap(0.1);
+        context.begin(List.of(new City("A", 0, 0), new City("B", 10, 0)));
+        context.offerLowerBound(100.0);
+
+        // when
+        context.offer(new int[]{0, 1}, 120.0);
+        boolean stopsAboveTarget = context.shouldStop();
+        context.offer(new int[]{1, 0}, 105.0);
+
+        // then
+        assertThat(stopsAboveTarget).isFalse();
+        assertThat(context.shouldStop()).isTrue();
+        assertThat(context.isTargetGapReached()).isTrue();
+    }
+
+    @Test
+    void shouldRejectNegativeTargetGap() {
+        // when & then
+        assertThatThrownBy(() -> SolveContext.unbounded().setTargetGap(-0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRejectNegativeTimeout() {
+        // when & then
+        assertThatThrownBy(() -> SolveContext.withTimeout(Duration.ofMillis(-1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReportTourOfSolverWithoutAnytimeSupport() {
+        // given
+        List<City> cities = List.of(
+                new City("A", 0, 0),
+                new City("B", 10, 0),
+                new City("C", 10, 10),
+                new City("D", 0, 10)
+        );
+        TspSolver solver = Tour::new;
+        SolveContext context = SolveContext.unbounded();
+
+        // when
+        Tour tour = AnytimeTspSolver.of(solver).solve(PointSet.of(cities), context);
+
+        // then
+        assertThat(context.getBestSoFar()).isPresent();
+        assertThat(context.getBestLength()).isEqualTo(tour.getTotalDistance());
+    }
+
+    @Test
+    void shouldKeepSolverWithAnytimeSupport() {
+        // given
+        AnytimeTspSolver solver = new GreedyTspSolver();
+
+        // when & then
+        assertThat(AnytimeTspSolver.of(solver)).isSameAs(solver);
+    }
+}
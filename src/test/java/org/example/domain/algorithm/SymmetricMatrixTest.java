@@ -0,0 +1,124 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.PointSet;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class SymmetricMatrixTest {
+
+    @Nested
+    class CoreFunctionality {
+
+        @ParameterizedTest
+        @EnumSource(MatrixStorage.class)
+        void shouldReadEveryCellFromBothSides(MatrixStorage storage) {
+            // given
+            int size = 37;
+            SymmetricMatrix matrix = SymmetricMatrix.create(size, storage);
+
+            // when
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j <= i; j++) {
+                    matrix.set(i, j, i * 100 + j);
+                }
+            }
+
+            // then
+            assertThat(matrix.size()).isEqualTo(size);
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j <= i; j++) {
+                    assertThat(matrix.get(i, j)).isEqualTo(i * 100 + j);
+                    assertThat(matrix.get(j, i)).isEqualTo(i * 100 + j);
+                }
+            }
+        }
+
+        @Test
+        void shouldMapLowerTriangleOntoDistinctIndices() {
+            // given
+            int size = 50;
+            Set<Integer> indices = new HashSet<>();
+
+            // when
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j <= i; j++) {
+                    indices.add(SymmetricMatrix.packedIndex(i, j));
+                }
+            }
+
+            // then
+            assertThat(indices).hasSize(SymmetricMatrix.packedLength(size));
+            assertThat(indices).allMatch(index -> index >= 0 && index < SymmetricMatrix.packedLength(size));
+        }
+
+        @Test
+        void shouldRoundDistancesToNearestInteger() {
+            // given
+            SymmetricMatrix matrix = SymmetricMatrix.create(3, MatrixStorage.PACKED_ROUNDED);
+
+            // when
+            matrix.set(0, 1, 2.5);
+            matrix.set(0, 2, 2.49);
+
+            // then
+            assertThat(matrix.get(1, 0)).isEqualTo(3.0);
+            assertThat(matrix.get(2, 0)).isEqualTo(2.0);
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = MatrixStorage.class, names = {"PACKED", "PACKED_FLOAT"})
+        void shouldMatchFullDistancesWithinStoragePrecision(MatrixStorage storage) {
+            // given
+            PointSet points = new PointGenerator(7L).generatePointSet(60);
+            SymmetricMatrix full = DistanceMatrices.build(points, MatrixStorage.FULL);
+
+            // when
+            SymmetricMatrix packed = DistanceMatrices.build(points, storage);
+
+            // then
+            for (int i = 0; i < points.size(); i++) {
+                for (int j = 0; j < points.size(); j++) {
+                    assertThat(packed.distance(i, j)).isCloseTo(full.distance(i, j), within(1e-6 * full.distance(i, j)));
+                }
+            }
+        }
+
+        @ParameterizedTest
+        @EnumSource(value = MatrixStorage.class, names = {"FULL", "PACKED", "PACKED_FLOAT"})
+        void shouldScaleAndClampEveryCell(MatrixStorage storage) {
+            // given
+            SymmetricMatrix matrix = SymmetricMatrix.create(4, storage);
+            matrix.fill(1.0);
+            matrix.set(1, 2, 8.0);
+
+            // when
+            matrix.multiplyAll(0.5);
+            matrix.clampAll(0.75, 2.0);
+
+            // then
+            assertThat(matrix.get(0, 3)).isEqualTo(0.75);
+            assertThat(matrix.get(2, 1)).isEqualTo(2.0);
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldRejectTooManyCitiesForPackedStorage() {
+            // when & then
+            assertThatThrownBy(() -> SymmetricMatrix.create(70_000, MatrixStorage.PACKED_FLOAT))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.example.domain.algorithm;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TourStructureTest {
+
+    private static final int REVERSALS = 2000;
+
+    @Nested
+    class CoreFunctionality {
+
+        @ParameterizedTest
+        @ValueSource(ints = {5, 17, 100, 1000})
+        void shouldMatchNaiveReversalsWithArray(int cities) {
+            assertMatchesNaiveReversals(ArrayTour::new, cities, 1L);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {5, 17, 100, 1000})
+        void shouldMatchNaiveReversalsWithTwoLevelList(int cities) {
+            assertMatchesNaiveReversals(TwoLevelListTour::new, cities, 2L);
+        }
+
+        @ParameterizedTest
+        @ValueSource(ints = {10, 1000})
+        void shouldStoreTourAfterReversals(int cities) {
+            // given
+            TourStructure structure = new TwoLevelListTour(cities);
+            int[] tour = identity(cities);
+            structure.load(tour);
+            SplittableRandom random = new SplittableRandom(3L);
+            for (int i = 0; i < REVERSALS; i++) {
+                structure.reverse(random.nextInt(cities), random.nextInt(cities));
+            }
+
+            // when
+            structure.store(tour);
+
+            // then
+            for (int i = 0; i < cities; i++) {
+                assertThat(structure.next(tour[i])).isEqualTo(tour[(i + 1) % cities]);
+            }
+        }
+    }
+
+    /**
+     * Applies random reversals to the structure and to a plain array and compares the
+     * cycles after each one. The structure may have reversed the complement instead, so
+     * its orientation is read off one city and a forward path in the structure may be a
+     * backward one in the array.
+     */
+    private static void assertMatchesNaiveReversals(IntFunction<TourStructure> factory, int cities, long seed) {
+        // given
+        TourStructure structure = factory.apply(cities);
+        int[] expected = identity(cities);
+        structure.load(identity(cities));
+        SplittableRandom random = new SplittableRandom(seed);
+
+        for (int reversal = 0; reversal < REVERSALS; reversal++) {
+            // when
+            int from = random.nextInt(cities);
+            int to = random.nextInt(cities);
+            if (isSameOrientation(structure, expected)) {
+                reverseNaively(expected, from, to);
+            } else {
+                reverseNaively(expected, to, from);
+            }
+            structure.reverse(from, to);
+
+            // then
+            int[] positions = new int[cities];
+            for (int i = 0; i < cities; i++) {
+                positions[expected[i]] = i;
+            }
+            boolean sameOrientation = isSameOrientation(structure, expected);
+            for (int city = 0; city < cities; city++) {
+                int next = expected[(positions[city] + 1) % cities];
+                int previous = expected[(positions[city] + cities - 1) % cities];
+                assertThat(structure.next(city)).isEqualTo(sameOrientation ? next : previous);
+                assertThat(structure.previous(city)).isEqualTo(sameOrientation ? previous : next);
+            }
+            for (int query = 0; query < 20; query++) {
+                int a = random.nextInt(cities);
+                int b = random.nextInt(cities);
+                int c = random.nextInt(cities);
+                boolean between = sameOrientation
+                        ? betweenNaively(positions, a, b, c)
+                        : betweenNaively(positions, c, b, a);
+                assertThat(structure.between(a, b, c)).isEqualTo(between);
+            }
+        }
+    }
+
+    private static boolean isSameOrientation(TourStructure structure, int[] expected) {
+        return structure.next(expected[0]) == expected[1 % expected.length];
+    }
+
+    private static void reverseNaively(int[] tour, int fromCity, int toCity) {
+        int n = tour.length;
+        int i = indexOf(tour, fromCity);
+        int j = indexOf(tour, toCity);
+        int length = Math.floorMod(j - i, n) + 1;
+        for (int swaps = length / 2; swaps > 0; swaps--) {
+            int swap = tour[i];
+            tour[i] = tour[j];
+            tour[j] = swap;
+            i = (i + 1) % n;
+            j = (j + n - 1) % n;
+        }
+    }
+
+    private static boolean betweenNaively(int[] positions, int a, int b, int c) {
+        int n = positions.length;
+        return Math.floorMod(positions[b] - positions[a], n) <= Math.floorMod(positions[c] - positions[a], n);
+    }
+
+    private static int indexOf(int[] tour, int city) {
+        for (int i = 0; i < tour.length; i++) {
+            if (tour[i] == city) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("City not in tour: " + city);
+    }
+
+    private static int[] identity(int cities) {
+        int[] tour = new int[cities];
+        for (int i = 0; i < cities; i++) {
+            tour[i] = i;
+        }
+        return tour;
+    }
+}
@@ -0,0 +1,60 @@
+package org.example.domain.algorithm;
+
+import org.example.domain.model.Point;
+import org.example.domain.service.PointGenerator;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TwoOptLocalSearchTest {
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldUncrossSquare() {
+            // given
+            double[][] distanceMatrix = DistanceMatrices.build(List.of(
+                    new Point(0, 0),
+                    new Point(10, 0),
+                    new Point(10, 10),
+                    new Point(0, 10)
+            ));
+            TwoOptLocalSearch localSearch = new TwoOptLocalSearch(DistanceMatrix.of(distanceMatrix),
+                    CandidateLists.build(distanceMatrix, 3), MoveSelection.FIRST_IMPROVEMENT);
+            int[] tour = {0, 2, 1, 3};
+
+            // when
+            boolean changed = localSearch.improve(tour);
+
+            // then
+            assertThat(changed).isTrue();
+            assertThat(DistanceMatrices.tourLength(tour, distanceMatrix)).isCloseTo(40.0, within(0.001));
+        }
+
+        @ParameterizedTest
+        @EnumSource(MoveSelection.class)
+        void shouldShortenRandomTourAndKeepPermutation(MoveSelection moveSelection) {
+            // given
+            double[][] distanceMatrix = DistanceMatrices.build(new PointGenerator(99L).generate(200));
+            TwoOptLocalSearch localSearch = new TwoOptLocalSearch(DistanceMatrix.of(distanceMatrix),
+                    CandidateLists.build(distanceMatrix, 10), moveSelection);
+            int[] tour = IntStream.range(0, 200).toArray();
+            double initialLength = DistanceMatrices.tourLength(tour, distanceMatrix);
+
+            // when
+            localSearch.improve(tour);
+
+            // then
+            assertThat(DistanceMatrices.tourLength(tour, distanceMatrix)).isLessThan(initialLength * 0.5);
+            assertThat(tour).containsExactlyInAnyOrder(IntStream.range(0, 200).toArray());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.example.domain.model;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class PointSetTest {
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldStoreCoordinatesByIndex() {
+            // given
+            List<Point> points = List.of(new Point(0, 0), new Point(3, 4));
+
+            // when
+            PointSet pointSet = PointSet.of(points);
+
+            // then
+            assertThat(pointSet.size()).isEqualTo(2);
+            assertThat(pointSet.getX(1)).isEqualTo(3);
+            assertThat(pointSet.getY(1)).isEqualTo(4);
+            assertThat(pointSet.distance(0, 1)).isCloseTo(5.0, within(1e-9));
+        }
+
+        @Test
+        void shouldNameBarePointsByPosition() {
+            // given
+            PointSet pointSet = PointSet.of(new int[]{1, 2}, new int[]{3, 4});
+
+            // when
+            City second = pointSet.getCity(1);
+
+            // then
+            assertThat(second.getName()).isEqualTo("City2");
+            assertThat(second.getX()).isEqualTo(2);
+            assertThat(second.getY()).isEqualTo(4);
+        }
+
+        @Test
+        void shouldKeepCityInstancesAndNames() {
+            // given
+            City a = new City("A", 0, 0);
+            City b = new City("B", 1, 1);
+
+            // when
+            PointSet pointSet = PointSet.of(List.of(a, b));
+
+            // then
+            assertThat(pointSet.getName(1)).isEqualTo("B");
+            assertThat(pointSet.toCities()).containsExactly(a, b);
+            assertThat(pointSet.getCity(0)).isSameAs(a);
+        }
+
+        @Test
+        void shouldViewCoordinatesAsPoints() {
+            // given
+            PointSet pointSet = PointSet.of(new int[]{1, 2}, new int[]{3, 4});
+
+            // when
+            List<Point> points = pointSet.asPoints();
+
+            // then
+            assertThat(points).containsExactly(new Point(1, 3), new Point(2, 4));
+            assertThatThrownBy(() -> points.add(new Point(0, 0)))
+                .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        void shouldNotShareCoordinateArrays() {
+            // given
+            int[] xs = {1, 2};
+            int[] ys = {3, 4};
+            PointSet pointSet = PointSet.of(xs, ys);
+
+            // when
+            xs[0] = 100;
+            pointSet.getXs()[1] = 100;
+
+            // then
+            assertThat(pointSet.getX(0)).isEqualTo(1);
+            assertThat(pointSet.getX(1)).isEqualTo(2);
+        }
+
+        @Test
+        void shouldShareWrappedCoordinateArrays() {
+            // given
+            int[] xs = {1, 2};
+            int[] ys = {3, 4};
+
+            // when
+            PointSet pointSet = PointSet.wrap(xs, ys);
+
+            // then
+            assertThat(pointSet.sharedXs()).isSameAs(xs);
+            assertThat(pointSet.sharedYs()).isSameAs(ys);
+            assertThat(pointSet.getXs()).isNotSameAs(xs).containsExactly(1, 2);
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForNullPoints() {
+            // when & then
+            assertThatThrownBy(() -> PointSet.of(null))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForArraysOfDifferentLength() {
+            // when & then
+            assertThatThrownBy(() -> PointSet.of(new int[]{1, 2}, new int[]{3}))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForWrappedArraysOfDifferentLength() {
+            // when & then
+            assertThatThrownBy(() -> PointSet.wrap(new int[]{1, 2}, new int[]{3}))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
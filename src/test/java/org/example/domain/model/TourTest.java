@@ -95,6 +95,45 @@ class TourTest {
             // then
             assertThat(tourString).contains("A", "B", "C", "->", "Distance");
         }
+
+        @Test
+        void shouldVisitPointsInGivenOrder() {
+            // given
+            PointSet points = PointSet.of(new int[]{0, 3, 3}, new int[]{0, 4, 0});
+
+            // when
+            Tour tour = Tour.of(points, new int[]{0, 2, 1});
+
+            // then
+            assertThat(tour.getTotalDistance()).isCloseTo(12.0, within(0.001));
+            assertThat(tour.getCityIndex(1)).isEqualTo(2);
+            assertThat(tour.getCities()).extracting(City::getName).containsExactly("City1", "City3", "City2");
+            assertThat(tour.toString()).startsWith("City1 -> City3 -> City2 -> City1");
+        }
+
+        @Test
+        void shouldNotShareOrderArray() {
+            // given
+            int[] order = {0, 1, 2};
+            Tour tour = Tour.of(PointSet.of(new int[]{0, 3, 3}, new int[]{0, 4, 0}), order);
+
+            // when
+            order[0] = 2;
+            tour.getOrder()[1] = 0;
+
+            // then
+            assertThat(tour.getOrder()).containsExactly(0, 1, 2);
+        }
+
+        @Test
+        void shouldReturnReadOnlyCities() {
+            // given
+            Tour tour = new Tour(Arrays.asList(new City("A", 0, 0), new City("B", 1, 0)));
+
+            // when & then
+            assertThatThrownBy(() -> tour.getCities().remove(0))
+                .isInstanceOf(UnsupportedOperationException.class);
+        }
     }
 
     @Nested
@@ -119,5 +158,17 @@ class TourTest {
             assertThatThrownBy(() -> new Tour(emptyCities))
                 .isInstanceOf(IllegalArgumentException.class);
         }
+
+        @Test
+        void shouldThrowExceptionForOrderThatIsNotPermutation() {
+            // given
+            PointSet points = PointSet.of(new int[]{0, 1, 2}, new int[]{0, 0, 0});
+
+            // when & then
+            assertThatThrownBy(() -> Tour.of(points, new int[]{0, 1, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> Tour.of(points, new int[]{0, 1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 }
@@ -0,0 +1,114 @@
+package org.example.domain.service;
+
+import org.example.domain.model.Point;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KdTreeTest {
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldMatchLinearScanWhileRemovingPoints() {
+            // given
+            List<Point> points = new PointGenerator(11L, 200).generate(500);
+            KdTree tree = KdTree.of(points);
+            boolean[] removed = new boolean[points.size()];
+            Random random = new Random(5L);
+
+            for (int step = 0; step < points.size(); step++) {
+                int x = random.nextInt(220) - 10;
+                int y = random.nextInt(220) - 10;
+
+                // when
+                int nearest = tree.nearest(x, y);
+
+                // then
+                assertThat(nearest).isEqualTo(linearNearest(points, removed, x, y));
+                tree.remove(nearest);
+                removed[nearest] = true;
+            }
+            assertThat(tree.size()).isZero();
+            assertThat(tree.nearest(0, 0)).isEqualTo(-1);
+        }
+
+        @Test
+        void shouldPreferLowerIndexOnTies() {
+            // given
+            List<Point> points = Arrays.asList(
+                    new Point(10, 0),
+                    new Point(0, 10),
+                    new Point(-10, 0),
+                    new Point(0, -10)
+            );
+            KdTree tree = KdTree.of(points);
+
+            // when
+            tree.remove(0);
+            int nearest = tree.nearest(0, 0);
+
+            // then
+            assertThat(nearest).isEqualTo(1);
+        }
+
+        @Test
+        void shouldReportRemovedPoints() {
+            // given
+            KdTree tree = KdTree.of(List.of(new Point(1, 1), new Point(2, 2)));
+
+            // when
+            boolean firstRemoval = tree.remove(1);
+            boolean secondRemoval = tree.remove(1);
+
+            // then
+            assertThat(firstRemoval).isTrue();
+            assertThat(secondRemoval).isFalse();
+            assertThat(tree.contains(1)).isFalse();
+            assertThat(tree.contains(0)).isTrue();
+            assertThat(tree.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForNullPoints() {
+            // when & then
+            assertThatThrownBy(() -> KdTree.of(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForIndexOutOfRange() {
+            // given
+            KdTree tree = KdTree.of(List.of(new Point(1, 1)));
+
+            // when & then
+            assertThatThrownBy(() -> tree.remove(1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static int linearNearest(List<Point> points, boolean[] removed, int x, int y) {
+        int nearest = -1;
+        long nearestDistance = Long.MAX_VALUE;
+        for (int i = 0; i < points.size(); i++) {
+            long dx = points.get(i).getX() - x;
+            long dy = points.get(i).getY() - y;
+            if (!removed[i] && dx * dx + dy * dy < nearestDistance) {
+                nearestDistance = dx * dx + dy * dy;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+}
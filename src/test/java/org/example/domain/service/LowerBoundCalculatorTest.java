@@ -0,0 +1,105 @@
+package org.example.domain.service;
+
+import org.example.domain.model.Point;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class LowerBoundCalculatorTest {
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldComputeMinimumSpanningTreeOfSquare() {
+            // given
+            List<Point> square = List.of(new Point(0, 0), new Point(10, 0), new Point(10, 10), new Point(0, 10));
+
+            // when
+            double length = LowerBoundCalculator.of(square).minimumSpanningTreeLength();
+
+            // then
+            assertThat(length).isCloseTo(30.0, within(1e-9));
+        }
+
+        @Test
+        void shouldReachOptimumOnConvexPolygon() {
+            // given
+            List<Point> polygon = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                double angle = 2 * Math.PI * ((i * 17) % 40) / 40;
+                polygon.add(new Point((int) Math.round(1000 * Math.cos(angle)), (int) Math.round(1000 * Math.sin(angle))));
+            }
+            double perimeter = 0;
+            for (int i = 0; i < 40; i++) {
+                Point from = polygon.get(i * 33 % 40);
+                Point to = polygon.get((i + 1) * 33 % 40);
+                perimeter += from.distanceTo(to);
+            }
+
+            // when
+            double bound = LowerBoundCalculator.of(polygon).heldKarpBound(1.2 * perimeter, 500);
+
+            // then
+            assertThat(bound).isLessThanOrEqualTo(perimeter + 1e-6);
+            assertThat(bound).isGreaterThan(0.999 * perimeter);
+        }
+
+        @Test
+        void shouldLieBetweenSpanningTreeAndTour() {
+            // given
+            List<Point> points = new PointGenerator(61L, 1000).generate(200);
+            LowerBoundCalculator calculator = LowerBoundCalculator.of(points);
+            double tourLength = 0;
+            for (int i = 0; i < points.size(); i++) {
+                tourLength += points.get(i).distanceTo(points.get((i + 1) % points.size()));
+            }
+
+            // when
+            double spanningTree = calculator.minimumSpanningTreeLength();
+            double heldKarp = calculator.heldKarpBound(tourLength, 100);
+
+            // then
+            assertThat(heldKarp).isGreaterThan(spanningTree).isLessThan(tourLength);
+        }
+
+        @Test
+        void shouldReturnExactLengthForTwoPoints() {
+            // given
+            LowerBoundCalculator calculator = LowerBoundCalculator.of(new int[]{0, 3}, new int[]{0, 4});
+
+            // when
+            double bound = calculator.heldKarpBound(100.0, 10);
+
+            // then
+            assertThat(bound).isCloseTo(10.0, within(1e-9));
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForNullPoints() {
+            // when & then
+            assertThatThrownBy(() -> LowerBoundCalculator.of(null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForNonPositiveIterations() {
+            // given
+            LowerBoundCalculator calculator = LowerBoundCalculator.of(List.of(new Point(0, 0)));
+
+            // when & then
+            assertThatThrownBy(() -> calculator.heldKarpBound(1.0, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
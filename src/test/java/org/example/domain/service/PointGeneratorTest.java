@@ -1,6 +1,7 @@
 package org.example.domain.service;
 
 import org.example.domain.model.Point;
+import org.example.domain.model.PointSet;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -85,6 +86,33 @@ class PointGeneratorTest {
             // then
             assertPointsEqual(points1, points2);
         }
+
+        @Test
+        void shouldGeneratePointSetMatchingPointList() {
+            // given
+            PointGenerator listGenerator = new PointGenerator(77L, 8);
+            PointGenerator setGenerator = new PointGenerator(77L, 8);
+
+            // when
+            List<Point> points = listGenerator.generate(40);
+            PointSet pointSet = setGenerator.generatePointSet(40);
+
+            // then
+            assertPointsEqual(points, pointSet.asPoints());
+            assertThat(new HashSet<>(pointSet.asPoints())).hasSize(40);
+        }
+
+        @Test
+        void shouldGenerateUniquePointsOnUnboundedGrid() {
+            // given
+            PointGenerator generator = new PointGenerator(78L, Integer.MAX_VALUE);
+
+            // when
+            PointSet pointSet = generator.generatePointSet(1000);
+
+            // then
+            assertThat(new HashSet<>(pointSet.asPoints())).hasSize(1000);
+        }
     }
 
     @Nested
@@ -0,0 +1,112 @@
+package org.example.domain.service;
+
+import org.example.domain.model.Point;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SpatialGridTest {
+
+    @Nested
+    class CoreFunctionality {
+
+        @Test
+        void shouldMatchLinearScanForQueries() {
+            // given
+            List<Point> points = new PointGenerator(13L, 500).generate(800);
+            int[] xs = points.stream().mapToInt(Point::getX).toArray();
+            int[] ys = points.stream().mapToInt(Point::getY).toArray();
+            SpatialGrid grid = SpatialGrid.of(xs, ys);
+            Random random = new Random(7L);
+            int[] found = new int[6];
+
+            for (int query = 0; query < 200; query++) {
+                int x = random.nextInt(600) - 50;
+                int y = random.nextInt(600) - 50;
+
+                // when
+                int count = grid.nearest(x, y, 6, found);
+
+                // then
+                assertThat(count).isEqualTo(6);
+                assertThat(found).containsExactly(linearNearest(xs, ys, x, y, -1, 6));
+            }
+        }
+
+        @Test
+        void shouldBuildNeighbourTableExcludingThePointItself() {
+            // given
+            List<Point> points = new PointGenerator(14L, 300).generate(400);
+            int[] xs = points.stream().mapToInt(Point::getX).toArray();
+            int[] ys = points.stream().mapToInt(Point::getY).toArray();
+            int k = 5;
+
+            // when
+            int[] table = SpatialGrid.of(xs, ys).nearestNeighbours(k);
+
+            // then
+            for (int point = 0; point < xs.length; point++) {
+                int[] row = Arrays.copyOfRange(table, point * k, (point + 1) * k);
+                assertThat(row).containsExactly(linearNearest(xs, ys, xs[point], ys[point], point, k));
+            }
+        }
+
+        @Test
+        void shouldPadRowsWhenThereAreTooFewPoints() {
+            // given
+            SpatialGrid grid = SpatialGrid.of(new int[]{0, 10, 30}, new int[]{0, 0, 0});
+
+            // when
+            int[] table = grid.nearestNeighbours(3);
+
+            // then
+            assertThat(table).containsExactly(
+                    1, 2, -1,
+                    0, 2, -1,
+                    1, 0, -1);
+        }
+    }
+
+    @Nested
+    class Validation {
+
+        @Test
+        void shouldThrowExceptionForMismatchedArrays() {
+            // when & then
+            assertThatThrownBy(() -> SpatialGrid.of(new int[2], new int[3]))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        void shouldThrowExceptionForNegativeNeighbourCount() {
+            // given
+            SpatialGrid grid = SpatialGrid.of(new int[]{1}, new int[]{1});
+
+            // when & then
+            assertThatThrownBy(() -> grid.nearestNeighbours(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private static int[] linearNearest(int[] xs, int[] ys, int x, int y, int excluded, int k) {
+        return IntStream.range(0, xs.length)
+                .filter(i -> i != excluded)
+                .boxed()
+                .sorted(Comparator.<Integer>comparingLong(i -> {
+                    long dx = xs[i] - x;
+                    long dy = ys[i] - y;
+                    return dx * dx + dy * dy;
+                }).thenComparingInt(i -> i))
+                .limit(k)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+}